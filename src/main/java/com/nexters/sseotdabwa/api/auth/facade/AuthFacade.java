@@ -1,10 +1,13 @@
 package com.nexters.sseotdabwa.api.auth.facade;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import java.time.LocalDateTime;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nexters.sseotdabwa.api.auth.dto.AppleLoginRequest;
 import com.nexters.sseotdabwa.api.auth.dto.GoogleLoginRequest;
@@ -15,6 +18,7 @@ import com.nexters.sseotdabwa.api.auth.dto.TokenResponse;
 import com.nexters.sseotdabwa.api.auth.exception.AuthErrorCode;
 import com.nexters.sseotdabwa.api.users.dto.UserResponse;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
+import com.nexters.sseotdabwa.common.security.UserPrincipalCache;
 import com.nexters.sseotdabwa.domain.auth.entity.RefreshToken;
 import com.nexters.sseotdabwa.domain.auth.service.AppleOAuthService;
 import com.nexters.sseotdabwa.domain.auth.service.GoogleOAuthService;
@@ -38,6 +42,9 @@ import lombok.RequiredArgsConstructor;
  * - 카카오 로그인: 카카오 사용자 정보 조회 → 회원가입/로그인 → JWT 발급
  * - Google 로그인: Google ID Token 검증 → 회원가입/로그인 → JWT 발급
  * - 토큰 갱신: Refresh Token 검증 → 새 Access Token 발급
+ *
+ * 소셜 로그인은 외부 OAuth 호출 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 호출하고,
+ * 회원 조회/가입과 Refresh Token 저장만 transactionTemplate 으로 묶는다.
  */
 @Component
 @RequiredArgsConstructor
@@ -50,6 +57,10 @@ public class AuthFacade {
     private final JwtTokenService jwtTokenService;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Qualifier("transactionTemplate")
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * CloudFront 도메인
@@ -63,31 +74,15 @@ public class AuthFacade {
      * 2. 기존 회원이면 로그인, 신규 회원이면 랜덤 닉네임/프로필로 가입 처리
      * 3. JWT Access/Refresh Token 발급
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse loginWithKakao(KakaoLoginRequest request) {
         // 카카오 API로 사용자 정보 조회 (socialId 확인용)
         KakaoUserInfo kakaoUserInfo = kakaoOAuthService.getUserInfo(request.accessToken());
 
-        // 기존 회원 조회 또는 신규 가입 (신규 회원은 랜덤 닉네임/프로필 이미지 부여)
+        // 기존 회원 조회 또는 신규 가입 후 토큰 발급 (이 구간만 트랜잭션)
         String socialId = String.valueOf(kakaoUserInfo.getId());
         String email = kakaoUserInfo.getEmail();
-        User user = userService.findBySocialIdAndProvider(socialId, SocialAccount.KAKAO)
-                .map(existingUser -> {
-                    if (email != null && !email.isBlank()) {
-                        existingUser.updateEmail(email);
-                    }
-                    return existingUser;
-                })
-                .orElseGet(() -> userService.createUser(
-                        new UserCreateCommand(
-                                socialId,
-                                userService.generateUniqueNickname(),
-                                SocialAccount.KAKAO,
-                                randomDefaultProfileImageUrl(),
-                                email
-                        )
-                ));
-
-        return createTokenResponse(user);
+        return transactionTemplate.execute(status -> loginOrSignUp(socialId, email, SocialAccount.KAKAO));
     }
 
     /**
@@ -96,31 +91,15 @@ public class AuthFacade {
      * 2. 기존 회원이면 로그인, 신규 회원이면 랜덤 닉네임/프로필로 가입 처리
      * 3. JWT Access/Refresh Token 발급
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse loginWithApple(AppleLoginRequest request) {
         // Apple Authorization Code로 사용자 정보 조회 (socialId 확인용)
         AppleUserInfo appleUserInfo = appleOAuthService.getAppleUserInfo(request.authorizationCode(), request.redirectUri());
 
-        // 기존 회원 조회 또는 신규 가입 (신규 회원은 랜덤 닉네임/프로필 이미지 부여)
+        // 기존 회원 조회 또는 신규 가입 후 토큰 발급 (이 구간만 트랜잭션)
         String socialId = appleUserInfo.getSub();
         String email = appleUserInfo.getEmail();
-        User user = userService.findBySocialIdAndProvider(socialId, SocialAccount.APPLE)
-                .map(existingUser -> {
-                    if (email != null && !email.isBlank()) {
-                        existingUser.updateEmail(email);
-                    }
-                    return existingUser;
-                })
-                .orElseGet(() -> userService.createUser(
-                        new UserCreateCommand(
-                                socialId,
-                                userService.generateUniqueNickname(),
-                                SocialAccount.APPLE,
-                                randomDefaultProfileImageUrl(),
-                                email
-                        )
-                ));
-
-        return createTokenResponse(user);
+        return transactionTemplate.execute(status -> loginOrSignUp(socialId, email, SocialAccount.APPLE));
     }
 
     /**
@@ -129,31 +108,15 @@ public class AuthFacade {
      * 2. 기존 회원이면 로그인, 신규 회원이면 랜덤 닉네임/프로필로 가입 처리
      * 3. JWT Access/Refresh Token 발급
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse loginWithGoogle(GoogleLoginRequest request) {
         // Google ID Token 검증 및 사용자 정보 조회 (socialId 확인용)
         GoogleUserInfo googleUserInfo = googleOAuthService.verifyAndGetUserInfo(request.idToken());
 
-        // 기존 회원 조회 또는 신규 가입 (신규 회원은 랜덤 닉네임/프로필 이미지 부여)
+        // 기존 회원 조회 또는 신규 가입 후 토큰 발급 (이 구간만 트랜잭션)
         String socialId = googleUserInfo.getSub();
         String email = googleUserInfo.getEmail();
-        User user = userService.findBySocialIdAndProvider(socialId, SocialAccount.GOOGLE)
-                .map(existingUser -> {
-                    if (email != null && !email.isBlank()) {
-                        existingUser.updateEmail(email);
-                    }
-                    return existingUser;
-                })
-                .orElseGet(() -> userService.createUser(
-                        new UserCreateCommand(
-                                socialId,
-                                userService.generateUniqueNickname(),
-                                SocialAccount.GOOGLE,
-                                randomDefaultProfileImageUrl(),
-                                email
-                        )
-                ));
-
-        return createTokenResponse(user);
+        return transactionTemplate.execute(status -> loginOrSignUp(socialId, email, SocialAccount.GOOGLE));
     }
 
     /**
@@ -179,7 +142,34 @@ public class AuthFacade {
         return new TokenResponse(accessToken, request.refreshToken(), "Bearer", UserResponse.from(user));
     }
 
+    /**
+     * 기존 회원이면 이메일을 갱신하고, 신규 회원이면 랜덤 닉네임/프로필로 가입시킨 뒤 JWT 를 발급한다.
+     */
+    private TokenResponse loginOrSignUp(String socialId, String email, SocialAccount socialAccount) {
+        User user = userService.findBySocialIdAndProvider(socialId, socialAccount)
+                .map(existingUser -> {
+                    if (email != null && !email.isBlank()) {
+                        existingUser.updateEmail(email);
+                    }
+                    return existingUser;
+                })
+                .orElseGet(() -> userService.createUser(
+                        new UserCreateCommand(
+                                socialId,
+                                userService.generateUniqueNickname(),
+                                socialAccount,
+                                randomDefaultProfileImageUrl(),
+                                email
+                        )
+                ));
+
+        return createTokenResponse(user);
+    }
+
     private TokenResponse createTokenResponse(User user) {
+        // 로그인 시 갱신된 이메일 등을 다음 인증 요청부터 반영
+        userPrincipalCache.evict(user.getId());
+
         String accessToken = jwtTokenService.createAccessToken(user.getId());
         String refreshToken = jwtTokenService.createRefreshToken(user.getId());
 
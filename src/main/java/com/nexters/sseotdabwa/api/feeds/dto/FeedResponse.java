@@ -6,6 +6,10 @@ import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRow;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedPageRow;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedSnapshot;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 
 public record FeedResponse(
@@ -33,15 +37,15 @@ public record FeedResponse(
             String profileImage
     ) {}
 
-    public static FeedResponse of(Feed feed, FeedImage feedImage, String viewUrl) {
+    public static FeedResponse of(Feed feed, FeedVoteCount voteCount, FeedImage feedImage, String viewUrl) {
         return new FeedResponse(
                 feed.getId(),
                 feed.getContent(),
                 feed.getPrice(),
                 feed.getCategory(),
-                feed.getYesCount(),
-                feed.getNoCount(),
-                feed.getYesCount() + feed.getNoCount(),
+                voteCount.yesCount(),
+                voteCount.noCount(),
+                voteCount.totalCount(),
                 feed.getFeedStatus(),
                 feedImage != null ? feedImage.getS3ObjectKey() : null,
                 viewUrl,
@@ -58,15 +62,15 @@ public record FeedResponse(
         );
     }
 
-    public static FeedResponse of(Feed feed, FeedImage feedImage, String viewUrl, Boolean hasVoted, VoteChoice myVoteChoice) {
+    public static FeedResponse of(Feed feed, FeedVoteCount voteCount, FeedImage feedImage, String viewUrl, Boolean hasVoted, VoteChoice myVoteChoice) {
         return new FeedResponse(
                 feed.getId(),
                 feed.getContent(),
                 feed.getPrice(),
                 feed.getCategory(),
-                feed.getYesCount(),
-                feed.getNoCount(),
-                feed.getYesCount() + feed.getNoCount(),
+                voteCount.yesCount(),
+                voteCount.noCount(),
+                voteCount.totalCount(),
                 feed.getFeedStatus(),
                 feedImage != null ? feedImage.getS3ObjectKey() : null,
                 viewUrl,
@@ -82,4 +86,55 @@ public record FeedResponse(
                 myVoteChoice
         );
     }
+
+    public static FeedResponse of(FeedPageRow row, FeedImageRow image, String viewUrl, Boolean hasVoted) {
+        return new FeedResponse(
+                row.feedId(),
+                row.content(),
+                row.price(),
+                row.category(),
+                row.yesCount(),
+                row.noCount(),
+                row.yesCount() + row.noCount(),
+                row.feedStatus(),
+                image != null ? image.s3ObjectKey() : null,
+                viewUrl,
+                image != null ? image.imageWidth() : null,
+                image != null ? image.imageHeight() : null,
+                new FeedAuthorResponse(
+                        row.authorId(),
+                        row.authorNickname(),
+                        row.authorProfileImage()
+                ),
+                row.createdAt(),
+                hasVoted,
+                row.myChoice()
+        );
+    }
+
+    public static FeedResponse of(PublicFeedSnapshot snapshot, FeedVoteCount voteCount, String viewUrl) {
+        PublicFeedSnapshot.Image image = snapshot.firstImage();
+        return new FeedResponse(
+                snapshot.feedId(),
+                snapshot.content(),
+                snapshot.price(),
+                snapshot.category(),
+                voteCount.yesCount(),
+                voteCount.noCount(),
+                voteCount.totalCount(),
+                snapshot.feedStatus(),
+                image != null ? image.s3ObjectKey() : null,
+                viewUrl,
+                image != null ? image.imageWidth() : null,
+                image != null ? image.imageHeight() : null,
+                new FeedAuthorResponse(
+                        snapshot.authorId(),
+                        snapshot.authorNickname(),
+                        snapshot.authorProfileImage()
+                ),
+                snapshot.createdAt(),
+                null,
+                null
+        );
+    }
 }
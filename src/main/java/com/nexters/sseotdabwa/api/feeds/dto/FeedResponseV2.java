@@ -7,6 +7,10 @@ import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRow;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedPageRow;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedSnapshot;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 
 public record FeedResponseV2(
@@ -40,15 +44,15 @@ public record FeedResponseV2(
             String profileImage
     ) {}
 
-    public static FeedResponseV2 of(Feed feed, List<FeedImage> feedImages, List<String> viewUrls) {
+    public static FeedResponseV2 of(Feed feed, FeedVoteCount voteCount, List<FeedImage> feedImages, List<String> viewUrls) {
         return new FeedResponseV2(
                 feed.getId(),
                 feed.getContent(),
                 feed.getPrice(),
                 feed.getCategory(),
-                feed.getYesCount(),
-                feed.getNoCount(),
-                feed.getYesCount() + feed.getNoCount(),
+                voteCount.yesCount(),
+                voteCount.noCount(),
+                voteCount.totalCount(),
                 feed.getFeedStatus(),
                 buildImageInfos(feedImages, viewUrls),
                 new FeedAuthorResponse(
@@ -64,15 +68,15 @@ public record FeedResponseV2(
         );
     }
 
-    public static FeedResponseV2 of(Feed feed, List<FeedImage> feedImages, List<String> viewUrls, Boolean hasVoted, VoteChoice myVoteChoice) {
+    public static FeedResponseV2 of(Feed feed, FeedVoteCount voteCount, List<FeedImage> feedImages, List<String> viewUrls, Boolean hasVoted, VoteChoice myVoteChoice) {
         return new FeedResponseV2(
                 feed.getId(),
                 feed.getContent(),
                 feed.getPrice(),
                 feed.getCategory(),
-                feed.getYesCount(),
-                feed.getNoCount(),
-                feed.getYesCount() + feed.getNoCount(),
+                voteCount.yesCount(),
+                voteCount.noCount(),
+                voteCount.totalCount(),
                 feed.getFeedStatus(),
                 buildImageInfos(feedImages, viewUrls),
                 new FeedAuthorResponse(
@@ -88,6 +92,66 @@ public record FeedResponseV2(
         );
     }
 
+    public static FeedResponseV2 of(FeedPageRow row, List<FeedImageRow> imageRows, List<String> viewUrls, Boolean hasVoted) {
+        List<ImageInfo> images = new java.util.ArrayList<>();
+        for (int i = 0; i < imageRows.size(); i++) {
+            FeedImageRow img = imageRows.get(i);
+            String url = i < viewUrls.size() ? viewUrls.get(i) : null;
+            images.add(new ImageInfo(img.s3ObjectKey(), url, img.imageWidth(), img.imageHeight()));
+        }
+        return new FeedResponseV2(
+                row.feedId(),
+                row.content(),
+                row.price(),
+                row.category(),
+                row.yesCount(),
+                row.noCount(),
+                row.yesCount() + row.noCount(),
+                row.feedStatus(),
+                images,
+                new FeedAuthorResponse(
+                        row.authorId(),
+                        row.authorNickname(),
+                        row.authorProfileImage()
+                ),
+                row.createdAt(),
+                hasVoted,
+                row.myChoice(),
+                row.link(),
+                row.title()
+        );
+    }
+
+    public static FeedResponseV2 of(PublicFeedSnapshot snapshot, FeedVoteCount voteCount, List<String> viewUrls) {
+        List<ImageInfo> images = new java.util.ArrayList<>();
+        for (int i = 0; i < snapshot.images().size(); i++) {
+            PublicFeedSnapshot.Image img = snapshot.images().get(i);
+            String url = i < viewUrls.size() ? viewUrls.get(i) : null;
+            images.add(new ImageInfo(img.s3ObjectKey(), url, img.imageWidth(), img.imageHeight()));
+        }
+        return new FeedResponseV2(
+                snapshot.feedId(),
+                snapshot.content(),
+                snapshot.price(),
+                snapshot.category(),
+                voteCount.yesCount(),
+                voteCount.noCount(),
+                voteCount.totalCount(),
+                snapshot.feedStatus(),
+                images,
+                new FeedAuthorResponse(
+                        snapshot.authorId(),
+                        snapshot.authorNickname(),
+                        snapshot.authorProfileImage()
+                ),
+                snapshot.createdAt(),
+                null,
+                null,
+                snapshot.link(),
+                snapshot.title()
+        );
+    }
+
     private static List<ImageInfo> buildImageInfos(List<FeedImage> feedImages, List<String> viewUrls) {
         List<ImageInfo> result = new java.util.ArrayList<>();
         for (int i = 0; i < feedImages.size(); i++) {
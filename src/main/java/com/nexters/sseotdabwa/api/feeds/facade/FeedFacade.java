@@ -1,9 +1,10 @@
 package com.nexters.sseotdabwa.api.feeds.facade;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import com.nexters.sseotdabwa.api.feeds.dto.FeedCreateRequest;
@@ -11,6 +12,7 @@ import com.nexters.sseotdabwa.api.feeds.dto.FeedCreateRequestV2;
 import com.nexters.sseotdabwa.api.feeds.dto.FeedCreateResponse;
 import com.nexters.sseotdabwa.api.feeds.dto.FeedResponse;
 import com.nexters.sseotdabwa.api.feeds.dto.FeedResponseV2;
+import com.nexters.sseotdabwa.api.notifications.facade.NotificationInboxCache;
 import com.nexters.sseotdabwa.common.config.AwsProperties;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.common.response.CursorPageResponse;
@@ -19,13 +21,21 @@ import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
 import com.nexters.sseotdabwa.domain.feeds.exception.FeedErrorCode;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRow;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedPageRow;
+import com.nexters.sseotdabwa.domain.feeds.scheduler.FeedExpiryTimer;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedImageService;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedReviewService;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
 import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCreateCommand;
 import com.nexters.sseotdabwa.domain.feeds.service.command.FeedImageCreateInfo;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedSnapshot;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedTimeline;
 import com.nexters.sseotdabwa.domain.notifications.service.NotificationService;
 import com.nexters.sseotdabwa.domain.storage.service.S3StorageService;
+import com.nexters.sseotdabwa.domain.users.block.BlockedUserIds;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.service.UserBlockService;
 import com.nexters.sseotdabwa.domain.votes.entity.VoteLog;
@@ -52,10 +62,14 @@ public class FeedFacade {
     private final FeedService feedService;
     private final FeedImageService feedImageService;
     private final FeedReviewService feedReviewService;
+    private final FeedVoteCounterService feedVoteCounterService;
     private final VoteLogService voteLogService;
     private final S3StorageService s3StorageService;
     private final NotificationService notificationService;
+    private final NotificationInboxCache notificationInboxCache;
     private final UserBlockService userBlockService;
+    private final PublicFeedTimeline publicFeedTimeline;
+    private final FeedExpiryTimer feedExpiryTimer;
     private final AwsProperties awsProperties;
 
     // ========================
@@ -79,6 +93,9 @@ public class FeedFacade {
 
         Feed savedFeed = feedService.createFeed(command);
         feedImageService.saveAll(savedFeed, command.images());
+        feedVoteCounterService.initialize(savedFeed);
+        publicFeedTimeline.onFeedCreated(PublicFeedSnapshot.ofCreated(savedFeed, command.images()));
+        feedExpiryTimer.register(savedFeed);
 
         return new FeedCreateResponse(savedFeed.getId());
     }
@@ -93,15 +110,16 @@ public class FeedFacade {
         List<FeedImage> images = feedImageService.findByFeed(feed);
         FeedImage firstImage = images.isEmpty() ? null : images.get(0);
         String viewUrl = buildViewUrl(firstImage);
+        FeedVoteCount voteCount = feedVoteCounterService.getCount(feed);
 
         if (user == null) {
-            return FeedResponse.of(feed, firstImage, viewUrl);
+            return FeedResponse.of(feed, voteCount, firstImage, viewUrl);
         }
 
         List<VoteLog> voteLogs = voteLogService.findByUserIdAndFeedIds(user.getId(), List.of(feedId));
         VoteChoice myChoice = voteLogs.isEmpty() ? null : voteLogs.get(0).getChoice();
         boolean hasVoted = myChoice != null;
-        return FeedResponse.of(feed, firstImage, viewUrl, hasVoted, myChoice);
+        return FeedResponse.of(feed, voteCount, firstImage, viewUrl, hasVoted, myChoice);
     }
 
     /**
@@ -111,50 +129,36 @@ public class FeedFacade {
     public CursorPageResponse<FeedResponse> getFeedList(User user, Long cursor, Integer size, FeedStatus feedStatus, List<FeedCategory> categories) {
         int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
 
-        List<Long> excludedUserIds = (user != null)
-                ? userBlockService.findBlockedUserIds(user.getId())
-                : Collections.emptyList();
-
-        List<Feed> feeds = feedService.findAllExceptDeletedWithCursor(cursor, pageSize, feedStatus, categories, excludedUserIds);
+        if (user == null) {
+            Optional<List<PublicFeedSnapshot>> cached = publicFeedTimeline.findPage(cursor, pageSize, feedStatus, categories);
+            if (cached.isPresent()) {
+                return toPublicFeedPage(cached.get(), pageSize, this::toFeedResponse);
+            }
+        }
 
-        boolean hasNext = feeds.size() > pageSize;
-        List<Feed> slicedFeeds = hasNext ? feeds.subList(0, pageSize) : feeds;
+        Long viewerId = (user != null) ? user.getId() : null;
+        BlockedUserIds blockedUserIds = (user != null)
+                ? userBlockService.getBlockedUserIds(user.getId())
+                : BlockedUserIds.empty();
+        List<FeedPageRow> rows = feedService.findPageRowsWithCursor(viewerId, blockedUserIds, cursor, pageSize, feedStatus, categories);
 
-        List<Long> feedIds = slicedFeeds.stream().map(Feed::getId).toList();
-        List<FeedImage> images = feedImageService.findByFeedIds(feedIds);
+        boolean hasNext = rows.size() > pageSize;
+        List<FeedPageRow> slicedRows = hasNext ? rows.subList(0, pageSize) : rows;
 
         // 피드당 id 오름차순 첫 번째 이미지만 유지
-        Map<Long, FeedImage> firstImageMap = images.stream()
-                .collect(Collectors.toMap(
-                        fi -> fi.getFeed().getId(),
-                        fi -> fi,
-                        (a, b) -> a
-                ));
-
-        List<FeedResponse> content;
-        if (user == null || slicedFeeds.isEmpty()) {
-            content = slicedFeeds.stream()
-                    .map(feed -> {
-                        FeedImage img = firstImageMap.get(feed.getId());
-                        return FeedResponse.of(feed, img, buildViewUrl(img));
-                    })
-                    .toList();
-        } else {
-            Map<Long, VoteChoice> voteMap = voteLogService.findByUserIdAndFeedIds(user.getId(), feedIds)
-                    .stream()
-                    .collect(Collectors.toMap(vl -> vl.getFeed().getId(), vl -> vl.getChoice()));
-
-            content = slicedFeeds.stream()
-                    .map(feed -> {
-                        FeedImage img = firstImageMap.get(feed.getId());
-                        VoteChoice myChoice = voteMap.get(feed.getId());
-                        boolean hasVoted = myChoice != null;
-                        return FeedResponse.of(feed, img, buildViewUrl(img), hasVoted, myChoice);
-                    })
-                    .toList();
-        }
+        Map<Long, FeedImageRow> firstImageMap = feedImageService.findRowsByFeedIds(slicedRows.stream().map(FeedPageRow::feedId).toList())
+                .stream()
+                .collect(Collectors.toMap(FeedImageRow::feedId, img -> img, (a, b) -> a));
+
+        List<FeedResponse> content = slicedRows.stream()
+                .map(row -> {
+                    FeedImageRow img = firstImageMap.get(row.feedId());
+                    String viewUrl = img == null ? null : buildViewUrl(img.s3ObjectKey());
+                    return FeedResponse.of(row, img, viewUrl, hasVoted(user, row));
+                })
+                .toList();
 
-        Long nextCursor = hasNext ? slicedFeeds.get(slicedFeeds.size() - 1).getId() : null;
+        Long nextCursor = hasNext ? slicedRows.get(slicedRows.size() - 1).feedId() : null;
         return CursorPageResponse.of(content, nextCursor, hasNext);
     }
 
@@ -183,6 +187,9 @@ public class FeedFacade {
 
         Feed savedFeed = feedService.createFeed(command);
         feedImageService.saveAll(savedFeed, command.images());
+        feedVoteCounterService.initialize(savedFeed);
+        publicFeedTimeline.onFeedCreated(PublicFeedSnapshot.ofCreated(savedFeed, command.images()));
+        feedExpiryTimer.register(savedFeed);
 
         return new FeedCreateResponse(savedFeed.getId());
     }
@@ -196,15 +203,16 @@ public class FeedFacade {
 
         List<FeedImage> images = feedImageService.findByFeed(feed);
         List<String> imageUrls = buildViewUrls(images);
+        FeedVoteCount voteCount = feedVoteCounterService.getCount(feed);
 
         if (user == null) {
-            return FeedResponseV2.of(feed, images, imageUrls);
+            return FeedResponseV2.of(feed, voteCount, images, imageUrls);
         }
 
         List<VoteLog> voteLogs = voteLogService.findByUserIdAndFeedIds(user.getId(), List.of(feedId));
         VoteChoice myChoice = voteLogs.isEmpty() ? null : voteLogs.get(0).getChoice();
         boolean hasVoted = myChoice != null;
-        return FeedResponseV2.of(feed, images, imageUrls, hasVoted, myChoice);
+        return FeedResponseV2.of(feed, voteCount, images, imageUrls, hasVoted, myChoice);
     }
 
     /**
@@ -214,45 +222,35 @@ public class FeedFacade {
     public CursorPageResponse<FeedResponseV2> getFeedListV2(User user, Long cursor, Integer size, FeedStatus feedStatus, List<FeedCategory> categories) {
         int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
 
-        List<Long> excludedUserIds = (user != null)
-                ? userBlockService.findBlockedUserIds(user.getId())
-                : Collections.emptyList();
-
-        List<Feed> feeds = feedService.findAllExceptDeletedWithCursor(cursor, pageSize, feedStatus, categories, excludedUserIds);
-
-        boolean hasNext = feeds.size() > pageSize;
-        List<Feed> slicedFeeds = hasNext ? feeds.subList(0, pageSize) : feeds;
-
-        List<Long> feedIds = slicedFeeds.stream().map(Feed::getId).toList();
-        List<FeedImage> images = feedImageService.findByFeedIds(feedIds);
-
-        Map<Long, List<FeedImage>> imageMap = images.stream()
-                .collect(Collectors.groupingBy(fi -> fi.getFeed().getId()));
-
-        List<FeedResponseV2> content;
-        if (user == null || slicedFeeds.isEmpty()) {
-            content = slicedFeeds.stream()
-                    .map(feed -> {
-                        List<FeedImage> imgs = imageMap.getOrDefault(feed.getId(), List.of());
-                        return FeedResponseV2.of(feed, imgs, buildViewUrls(imgs));
-                    })
-                    .toList();
-        } else {
-            Map<Long, VoteChoice> voteMap = voteLogService.findByUserIdAndFeedIds(user.getId(), feedIds)
-                    .stream()
-                    .collect(Collectors.toMap(vl -> vl.getFeed().getId(), vl -> vl.getChoice()));
-
-            content = slicedFeeds.stream()
-                    .map(feed -> {
-                        List<FeedImage> imgs = imageMap.getOrDefault(feed.getId(), List.of());
-                        VoteChoice myChoice = voteMap.get(feed.getId());
-                        boolean hasVoted = myChoice != null;
-                        return FeedResponseV2.of(feed, imgs, buildViewUrls(imgs), hasVoted, myChoice);
-                    })
-                    .toList();
+        if (user == null) {
+            Optional<List<PublicFeedSnapshot>> cached = publicFeedTimeline.findPage(cursor, pageSize, feedStatus, categories);
+            if (cached.isPresent()) {
+                return toPublicFeedPage(cached.get(), pageSize, this::toFeedResponseV2);
+            }
         }
 
-        Long nextCursor = hasNext ? slicedFeeds.get(slicedFeeds.size() - 1).getId() : null;
+        Long viewerId = (user != null) ? user.getId() : null;
+        BlockedUserIds blockedUserIds = (user != null)
+                ? userBlockService.getBlockedUserIds(user.getId())
+                : BlockedUserIds.empty();
+        List<FeedPageRow> rows = feedService.findPageRowsWithCursor(viewerId, blockedUserIds, cursor, pageSize, feedStatus, categories);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<FeedPageRow> slicedRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<Long, List<FeedImageRow>> imageMap = feedImageService.findRowsByFeedIds(slicedRows.stream().map(FeedPageRow::feedId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(FeedImageRow::feedId));
+
+        List<FeedResponseV2> content = slicedRows.stream()
+                .map(row -> {
+                    List<FeedImageRow> imgs = imageMap.getOrDefault(row.feedId(), List.of());
+                    List<String> viewUrls = imgs.stream().map(img -> buildViewUrl(img.s3ObjectKey())).toList();
+                    return FeedResponseV2.of(row, imgs, viewUrls, hasVoted(user, row));
+                })
+                .toList();
+
+        Long nextCursor = hasNext ? slicedRows.get(slicedRows.size() - 1).feedId() : null;
         return CursorPageResponse.of(content, nextCursor, hasNext);
     }
 
@@ -274,11 +272,13 @@ public class FeedFacade {
                 .map(FeedImage::getS3ObjectKey)
                 .toList();
 
-        notificationService.deleteByFeed(feed);
+        notificationInboxCache.evictAll(notificationService.deleteByFeed(feed));
         voteLogService.deleteByFeed(feed);
         feedImageService.deleteByFeed(feed);
         feedReviewService.deleteByFeed(feed);
+        feedVoteCounterService.deleteByFeed(feed);
         feedService.delete(feed);
+        publicFeedTimeline.onFeedsRemoved(List.of(feedId));
 
         for (String key : s3Keys) {
             try {
@@ -302,12 +302,59 @@ public class FeedFacade {
             throw new GlobalException(FeedErrorCode.FEED_ALREADY_REPORTED);
         }
         feedService.report(feed);
+        publicFeedTimeline.onFeedsRemoved(List.of(feedId));
+    }
+
+    /**
+     * 목록 응답의 hasVoted (비로그인은 null)
+     */
+    private static Boolean hasVoted(User user, FeedPageRow row) {
+        return user == null ? null : row.myChoice() != null;
+    }
+
+    /**
+     * 공개 타임라인 스냅샷으로 페이지 응답 구성 (투표 수는 짧은 TTL 카운트 뷰 사용)
+     */
+    private <T> CursorPageResponse<T> toPublicFeedPage(
+            List<PublicFeedSnapshot> snapshots,
+            int pageSize,
+            BiFunction<PublicFeedSnapshot, FeedVoteCount, T> mapper) {
+        boolean hasNext = snapshots.size() > pageSize;
+        List<PublicFeedSnapshot> sliced = hasNext ? snapshots.subList(0, pageSize) : snapshots;
+
+        Map<Long, FeedVoteCount> voteCountMap = publicFeedTimeline.getVoteCounts(
+                sliced.stream().map(PublicFeedSnapshot::feedId).toList());
+
+        List<T> content = sliced.stream()
+                .map(snapshot -> mapper.apply(snapshot,
+                        voteCountMap.getOrDefault(snapshot.feedId(), new FeedVoteCount(0L, 0L))))
+                .toList();
+
+        Long nextCursor = hasNext ? sliced.get(sliced.size() - 1).feedId() : null;
+        return CursorPageResponse.of(content, nextCursor, hasNext);
+    }
+
+    private FeedResponse toFeedResponse(PublicFeedSnapshot snapshot, FeedVoteCount voteCount) {
+        PublicFeedSnapshot.Image image = snapshot.firstImage();
+        String viewUrl = image == null ? null : buildViewUrl(image.s3ObjectKey());
+        return FeedResponse.of(snapshot, voteCount, viewUrl);
+    }
+
+    private FeedResponseV2 toFeedResponseV2(PublicFeedSnapshot snapshot, FeedVoteCount voteCount) {
+        List<String> viewUrls = snapshot.images().stream()
+                .map(image -> buildViewUrl(image.s3ObjectKey()))
+                .toList();
+        return FeedResponseV2.of(snapshot, voteCount, viewUrls);
     }
 
     private String buildViewUrl(FeedImage image) {
         if (image == null) return null;
+        return buildViewUrl(image.getS3ObjectKey());
+    }
+
+    private String buildViewUrl(String s3ObjectKey) {
         final String domain = awsProperties.cloudfront().domain().replaceAll("/$", "");
-        return domain + "/" + image.getS3ObjectKey();
+        return domain + "/" + s3ObjectKey;
     }
 
     private List<String> buildViewUrls(List<FeedImage> images) {
@@ -0,0 +1,34 @@
+package com.nexters.sseotdabwa.api.notifications.controller;
+
+import com.nexters.sseotdabwa.api.notifications.dto.NotificationResponse;
+import com.nexters.sseotdabwa.common.response.ApiResponse;
+import com.nexters.sseotdabwa.common.response.CursorPageResponse;
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Notifications V2", description = "알림 API V2 (커서 기반 페이지네이션)")
+public interface NotificationControllerSpecV2 {
+
+    @Operation(
+            summary = "알림 리스트 조회 V2",
+            description = """
+                최근 30일 이내 알림을 최신순으로, 커서 기반 페이지네이션으로 조회합니다.
+
+                - type 파라미터로 필터 가능 (MY_FEED_CLOSED / PARTICIPATED_FEED_CLOSED)
+                - 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. (hasNext=false 면 마지막 페이지)
+                - 응답 항목은 V1 과 동일합니다. (resultPercent / resultLabel 등)
+                """,
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    ApiResponse<CursorPageResponse<NotificationResponse>> getNotifications(
+            @Parameter(hidden = true) User user,
+            @Parameter(description = "알림 타입 필터 (미지정 시 전체)") NotificationType type,
+            @Parameter(description = "이전 페이지 마지막 notificationId (첫 페이지는 생략)") Long cursor,
+            @Parameter(description = "페이지 크기 (기본값 20, 최대 50)") Integer size
+    );
+}
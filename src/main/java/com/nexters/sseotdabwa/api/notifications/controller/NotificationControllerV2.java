@@ -0,0 +1,34 @@
+package com.nexters.sseotdabwa.api.notifications.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import com.nexters.sseotdabwa.api.notifications.dto.NotificationResponse;
+import com.nexters.sseotdabwa.api.notifications.facade.NotificationFacade;
+import com.nexters.sseotdabwa.common.response.ApiResponse;
+import com.nexters.sseotdabwa.common.response.CursorPageResponse;
+import com.nexters.sseotdabwa.common.security.CurrentUser;
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v2/notifications")
+@RequiredArgsConstructor
+public class NotificationControllerV2 implements NotificationControllerSpecV2 {
+
+    private final NotificationFacade notificationFacade;
+
+    @Override
+    @GetMapping
+    public ApiResponse<CursorPageResponse<NotificationResponse>> getNotifications(
+            @CurrentUser User user,
+            @RequestParam(required = false) NotificationType type,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPageResponse<NotificationResponse> response = notificationFacade.getNotificationPage(user, type, cursor, size);
+        return ApiResponse.success(response, HttpStatus.OK);
+    }
+}
@@ -2,8 +2,8 @@ package com.nexters.sseotdabwa.api.notifications.dto;
 
 import java.time.LocalDateTime;
 
-import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
 import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationInboxRow;
 
 public record NotificationResponse(
         Long notificationId,
@@ -20,7 +20,7 @@ public record NotificationResponse(
         String feedTitle
 ) {
     public static NotificationResponse of(
-            Notification n,
+            NotificationInboxRow n,
             LocalDateTime voteClosedAt,
             Integer resultPercent,
             String resultLabel,
@@ -28,11 +28,11 @@ public record NotificationResponse(
             String feedTitle
     ) {
         return new NotificationResponse(
-                n.getId(),
-                n.getFeed() != null ? n.getFeed().getId() : null,
-                n.getType(),
-                n.getTitle(),
-                n.getBody(),
+                n.id(),
+                n.feedId(),
+                n.type(),
+                n.title(),
+                n.body(),
                 n.isRead(),
                 voteClosedAt,
                 resultPercent,
@@ -1,30 +1,41 @@
 package com.nexters.sseotdabwa.api.notifications.facade;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.api.notifications.exception.NotificationErrorCode;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nexters.sseotdabwa.api.notifications.dto.NotificationResponse;
 import com.nexters.sseotdabwa.common.config.AwsProperties;
+import com.nexters.sseotdabwa.common.response.CursorPageResponse;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedImageService;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
-import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
 import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
 import com.nexters.sseotdabwa.domain.notifications.push.FcmSender;
+import com.nexters.sseotdabwa.domain.notifications.push.PushOutboxRelay;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationInboxRow;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationKey;
 import com.nexters.sseotdabwa.domain.notifications.service.NotificationService;
+import com.nexters.sseotdabwa.domain.notifications.service.PushOutboxService;
 import com.nexters.sseotdabwa.domain.notifications.service.command.NotificationResultCommand;
 import com.nexters.sseotdabwa.domain.users.entity.User;
-import com.nexters.sseotdabwa.domain.users.service.UserService;
+import com.nexters.sseotdabwa.domain.votes.repository.FeedParticipantRow;
 import com.nexters.sseotdabwa.domain.votes.service.VoteLogService;
 
 import lombok.RequiredArgsConstructor;
@@ -41,14 +52,21 @@ public class NotificationFacade {
 
     private static final String FEED_CLOSED_TITLE = "투표 종료!";
     private static final String FEED_CLOSED_BODY = "토봉이가 결과를 들고 기다리고 있어요.";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
 
     private final NotificationService notificationService;
+    private final PushOutboxService pushOutboxService;
     private final FeedService feedService;
     private final FeedImageService feedImageService;
+    private final FeedVoteCounterService feedVoteCounterService;
     private final VoteLogService voteLogService;
-    private final UserService userService;
+    private final NotificationInboxCache notificationInboxCache;
 
     private final FcmSender fcmSender;
+    private final PushOutboxRelay pushOutboxRelay;
+    @Qualifier("transactionTemplate")
+    private final TransactionTemplate transactionTemplate;
     private final AwsProperties awsProperties;
 
     @Transactional(readOnly = true)
@@ -57,18 +75,58 @@ public class NotificationFacade {
     }
 
     /**
-     * 최근 30일 알림 조회
+     * 최근 30일 알림 조회 (V1: 최대 100건)
      */
     @Transactional(readOnly = true)
     public List<NotificationResponse> getRecentNotifications(User user, NotificationType type) {
-        List<Notification> notifications = notificationService.getRecentNotifications(user.getId(), type);
+        return toResponses(notificationService.getRecentNotifications(user.getId(), type));
+    }
+
+    /**
+     * 최근 30일 알림 커서 조회 (V2: (createdAt, id) keyset 페이지네이션)
+     * - 기본 크기의 첫 페이지는 NotificationInboxCache 에서 응답한다. (생성/읽음/삭제 시 무효화)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationResponse> getNotificationPage(User user, NotificationType type, Long cursor, Integer size) {
+        int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        if (cursor == null && pageSize == DEFAULT_PAGE_SIZE) {
+            return notificationInboxCache.getFirstPage(user.getId(), type,
+                    () -> loadNotificationPage(user.getId(), type, null, pageSize));
+        }
+        return loadNotificationPage(user.getId(), type, cursor, pageSize);
+    }
+
+    /**
+     * 읽음 처리 (본인 알림만)
+     */
+    @Transactional
+    public void markAsRead(User user, Long notificationId) {
+        notificationService.markAsRead(user.getId(), notificationId);
+        notificationInboxCache.evict(user.getId());
+    }
+
+    private CursorPageResponse<NotificationResponse> loadNotificationPage(Long userId, NotificationType type, Long cursor, int pageSize) {
+        List<NotificationInboxRow> rows = notificationService.getRecentNotifications(userId, type, cursor, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationInboxRow> slicedRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Long nextCursor = hasNext ? slicedRows.get(slicedRows.size() - 1).id() : null;
+        return CursorPageResponse.of(toResponses(slicedRows), nextCursor, hasNext);
+    }
+
+    /**
+     * 알림 row -> 응답 조립 (피드/투표 집계/이미지는 벌크 조회)
+     */
+    private List<NotificationResponse> toResponses(List<NotificationInboxRow> notifications) {
         if (notifications.isEmpty()) {
             return List.of();
         }
 
         // 1) feedId 목록 추출
         List<Long> feedIds = notifications.stream()
-                .map(n -> n.getFeed().getId())
+                .map(NotificationInboxRow::feedId)
                 .distinct()
                 .toList();
 
@@ -76,6 +134,7 @@ public class NotificationFacade {
         List<Feed> feeds = feedService.findByIds(feedIds);
         Map<Long, Feed> feedMap = feeds.stream()
                 .collect(Collectors.toMap(Feed::getId, f -> f));
+        Map<Long, FeedVoteCount> voteCountMap = feedVoteCounterService.getCounts(feeds);
 
         // 3) FeedImage 벌크 조회 (N+1 방지)
         List<FeedImage> feedImages = feedImageService.findByFeedIds(feedIds);
@@ -85,7 +144,7 @@ public class NotificationFacade {
         // 4) 알림 -> 응답 매핑
         return notifications.stream()
                 .map(n -> {
-                    Long feedId = n.getFeed().getId();
+                    Long feedId = n.feedId();
 
                     Feed feed = feedMap.get(feedId);
                     if (feed == null) {
@@ -97,7 +156,7 @@ public class NotificationFacade {
                     LocalDateTime voteClosedAt = feed.getVoteClosedAt();
 
                     // 결과 퍼센트/라벨
-                    NotificationResultCommand result = calculateResult(feed);
+                    NotificationResultCommand result = calculateResult(feed, voteCountMap.get(feedId));
 
                     // 이미지 viewUrl (CloudFront domain + s3ObjectKey)
                     FeedImage feedImage = feedImageMap.get(feedId);
@@ -118,106 +177,100 @@ public class NotificationFacade {
                 .toList();
     }
 
-    /**
-     * 읽음 처리 (본인 알림만)
-     */
-    @Transactional
-    public void markAsRead(User user, Long notificationId) {
-        notificationService.markAsRead(user.getId(), notificationId);
-    }
-
     /**
      * 스케줄러에서 호출: 마감된 feedId 기반 알림 생성 + (조건부) 푸시
      *
      * 흐름:
      * - feedId들 조회(벌크)
      * - 작성자/참여자 계산
-     * - Notification 저장(중복 방지)
-     * - Push
+     * - 피드마다 별도 트랜잭션으로 Notification + 푸시 outbox 저장(중복 방지)
+     *   (한 피드의 실패가 다른 피드의 알림을 롤백시키지 않고, 실패한 피드의 일부 쓰기도 남기지 않음)
+     * - 커밋 후 outbox relay 를 깨움 (FCM 발송은 relay 워커가 트랜잭션 밖에서 처리)
      */
-    @Transactional
     public void onFeedsClosed(List<Long> closedFeedIds) {
         if (closedFeedIds == null || closedFeedIds.isEmpty()) {
             return;
         }
 
-        // 1) feed 벌크 조회 (N+1 방지)
-        List<Feed> feeds = feedService.findByIds(closedFeedIds);
+        // 1) feed + 작성자, 참여자 벌크 조회 (피드 수와 무관하게 쿼리 2회)
+        List<Feed> feeds = feedService.findByIdsWithUser(closedFeedIds);
+        Map<Long, List<FeedParticipantRow>> participantMap = voteLogService.findParticipantsByFeedIds(closedFeedIds).stream()
+                .collect(Collectors.groupingBy(FeedParticipantRow::feedId));
 
+        boolean enqueued = false;
         for (Feed feed : feeds) {
+            List<FeedParticipantRow> participants = participantMap.getOrDefault(feed.getId(), List.of());
             try {
-                notifyFeedClosed(feed);
+                List<Long> pushTargets = transactionTemplate.execute(status -> {
+                    List<Long> targets = notifyFeedClosed(feed, participants);
+                    pushOutboxService.enqueue(targets);
+                    return targets;
+                });
+                enqueued |= pushTargets != null && !pushTargets.isEmpty();
             } catch (Exception e) {
                 log.error("피드 알림 생성 실패 feedId={}", feed.getId(), e);
             }
         }
-    }
-
-    private void notifyFeedClosed(Feed feed) {
-        User author = feed.getUser();
 
-        // 1) 작성자 알림
-        Notification authorNoti = notificationService.createIfAbsent(
-                author, feed, NotificationType.MY_FEED_CLOSED, FEED_CLOSED_TITLE, FEED_CLOSED_BODY
-        );
-        pushBestEffort(author, authorNoti, feed, NotificationType.MY_FEED_CLOSED);
-
-        // 2) 참여자 알림 (guest 제외, 작성자 제외)
-        List<Long> participantIds = voteLogService.findDistinctUserIdsVotedByFeedId(feed.getId());
-        participantIds = participantIds.stream()
-                .filter(uid -> !uid.equals(author.getId()))
-                .toList();
-
-        if (participantIds.isEmpty()) {
-            return;
-        }
-
-        List<User> participants = userService.findByIds(participantIds);
-
-        for (User u : participants) {
-            Notification saved = notificationService.createIfAbsent(
-                    u, feed, NotificationType.PARTICIPATED_FEED_CLOSED, FEED_CLOSED_TITLE, FEED_CLOSED_BODY
-            );
-            pushBestEffort(u, saved, feed, NotificationType.PARTICIPATED_FEED_CLOSED);
+        if (enqueued) {
+            pushOutboxRelay.wakeUp();
         }
     }
 
     /**
-     * Push는 best-effort (실패해도 트랜잭션 롤백 X)
-     * - user 조건 충족 + notification이 실제 "신규 생성"된 경우만 보낸다.
+     * 피드 하나의 마감 알림 저장 후, 푸시를 보낼 알림 id 목록을 반환한다.
      */
-    private void pushBestEffort(User user, Notification notification, Feed feed, NotificationType type) {
-        if (notification == null) return; // 중복이면 null 반환
-        if (!user.canReceivePush()) return;
-
-        try {
-            Map<String, String> data = new HashMap<>();
-            data.put("screen", "NOTIFICATIONS");
-            data.put("notificationId", String.valueOf(notification.getId()));
-            data.put("feedId", String.valueOf(feed.getId()));
-            data.put("type", type.name());
+    private List<Long> notifyFeedClosed(Feed feed, List<FeedParticipantRow> participants) {
+        User author = feed.getUser();
 
-            fcmSender.send(user.getFcmToken(), FEED_CLOSED_TITLE, FEED_CLOSED_BODY, data);
-//            log.info("FCM 전송 성공 userId={}, token={}", user.getId(), user.getFcmToken());
-        } catch (Exception e) {
-            log.warn("FCM 전송 실패 (best-effort). userId={}, feedId={}, type={}",
-                    user.getId(), feed.getId(), type, e);
+        // 1) 수신자 계산: 작성자 + 참여자 (guest 제외, 작성자 제외)
+        Set<Long> pushableUserIds = new HashSet<>();
+        List<NotificationKey> recipients = new ArrayList<>(participants.size() + 1);
+        recipients.add(new NotificationKey(author.getId(), NotificationType.MY_FEED_CLOSED));
+        if (author.canReceivePush()) {
+            pushableUserIds.add(author.getId());
         }
+        for (FeedParticipantRow p : participants) {
+            if (p.userId().equals(author.getId())) {
+                continue;
+            }
+            recipients.add(new NotificationKey(p.userId(), NotificationType.PARTICIPATED_FEED_CLOSED));
+            if (p.canReceivePush()) {
+                pushableUserIds.add(p.userId());
+            }
+        }
+
+        // 2) 피드 단위 일괄 생성 (중복 확인 1회 + batch INSERT)
+        Map<NotificationKey, Long> created = notificationService.createAllIfAbsent(
+                feed, recipients, FEED_CLOSED_TITLE, FEED_CLOSED_BODY
+        );
+        notificationInboxCache.evictAll(created.keySet().stream().map(NotificationKey::userId).toList());
+
+        // 3) Push 대상 수집 (발송은 outbox relay 가 처리, best-effort)
+        //    - 이번에 "신규 생성"된 알림 + 수신자 조건 충족인 경우만 보낸다.
+        List<Long> pushTargets = new ArrayList<>();
+        created.forEach((key, notificationId) -> {
+            if (pushableUserIds.contains(key.userId())) {
+                pushTargets.add(notificationId);
+            }
+        });
+        return pushTargets;
     }
 
     /**
-     * 피드 투표 결과 계산 (Feed.yesCount / Feed.noCount 기준)
+     * 피드 투표 결과 계산 (Feed 카운트 + 샤드 합계를 더한 집계 카운트 기준)
      * - voteType과 무관하게 카운트 기준으로 계산한다.
      */
-    private NotificationResultCommand calculateResult(Feed feed) {
+    private NotificationResultCommand calculateResult(Feed feed, FeedVoteCount voteCount) {
         if (feed == null) {
             // 데이터 정합성 문제 (이중 안전) → 도메인 에러코드로 통일
             throw new GlobalException(NotificationErrorCode.NOTIFICATION_FEED_NOT_FOUND);
         }
 
-        long yes = feed.getYesCount() == null ? 0L : feed.getYesCount();
-        long no = feed.getNoCount() == null ? 0L : feed.getNoCount();
-        long total = yes + no;
+        FeedVoteCount count = (voteCount == null) ? FeedVoteCount.of(feed) : voteCount;
+        long yes = count.yesCount();
+        long no = count.noCount();
+        long total = count.totalCount();
 
         // 0표
         if (total == 0) {
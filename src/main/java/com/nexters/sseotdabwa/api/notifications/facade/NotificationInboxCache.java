@@ -0,0 +1,143 @@
+package com.nexters.sseotdabwa.api.notifications.facade;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexters.sseotdabwa.api.notifications.dto.NotificationResponse;
+import com.nexters.sseotdabwa.common.config.NotificationInboxCacheProperties;
+import com.nexters.sseotdabwa.common.response.CursorPageResponse;
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 알림함 첫 페이지 캐시
+ * - 알림 화면 진입마다 알림/피드/이미지/투표 집계 조회와 응답 조립을 반복하지 않도록
+ *   (사용자, 타입 필터) 별로 조립이 끝난 첫 페이지 응답을 보관한다.
+ * - 알림은 마감된 피드에만 생기므로 결과 퍼센트/라벨은 바뀌지 않고, 바뀌는 것은 알림 목록과 읽음 여부뿐이다.
+ *
+ * 정책:
+ * - Caffeine 캐시로 maxEntries 를 넘으면 사용 빈도/최근성 기준으로 제거하고, ttlMillis 가 지나면 다시 조립한다.
+ * - hit/miss/eviction/size 는 cache.* 지표(cache=notification.inbox_cache)로 노출한다.
+ * - 새 알림 생성, 읽음 처리, 피드 삭제(알림 삭제) 시 해당 사용자의 모든 타입 필터를 즉시 + 커밋 이후 한 번 더 무효화한다.
+ * - 적재 도중 무효화가 일어나면(generation 변경) 조립한 값은 캐시에 남기지 않는다.
+ * - 인스턴스 로컬 캐시이므로 다른 인스턴스의 변경은 ttlMillis 이내에 반영된다.
+ */
+@Component
+public class NotificationInboxCache {
+
+    static final String CACHE_NAME = "notification.inbox_cache";
+
+    private static final List<NotificationType> TYPE_FILTERS = filters();
+
+    private final NotificationInboxCacheProperties properties;
+    private final Cache<InboxKey, CursorPageResponse<NotificationResponse>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    private record InboxKey(Long userId, NotificationType type) {}
+
+    public NotificationInboxCache(NotificationInboxCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, properties.maxEntries()))
+                .expireAfterWrite(Duration.ofMillis(Math.max(0, properties.ttlMillis())))
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 첫 페이지를 반환하고, 없거나 만료되었으면 loader 로 조립해 적재한다.
+     * - loader 가 던진 예외는 그대로 전파하며 캐시에 남기지 않는다.
+     */
+    public CursorPageResponse<NotificationResponse> getFirstPage(
+            Long userId,
+            NotificationType type,
+            Supplier<CursorPageResponse<NotificationResponse>> loader
+    ) {
+        if (!properties.enabled()) {
+            return loader.get();
+        }
+
+        InboxKey key = new InboxKey(userId, type);
+        CursorPageResponse<NotificationResponse> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        CursorPageResponse<NotificationResponse> page = loader.get();
+        cache.put(key, page);
+        if (generation.get() != startGeneration) {
+            cache.invalidate(key);
+        }
+        return page;
+    }
+
+    /**
+     * userId 의 알림이 생성/읽음/삭제되었을 때
+     */
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    /**
+     * 여러 사용자의 알림이 한 번에 생성/삭제되었을 때 (커밋 이후 무효화는 한 번만 등록)
+     */
+    public void evictAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<InboxKey> keys = new ArrayList<>(userIds.size() * TYPE_FILTERS.size());
+        for (Long userId : userIds) {
+            for (NotificationType type : TYPE_FILTERS) {
+                keys.add(new InboxKey(userId, type));
+            }
+        }
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            cache.invalidateAll(keys);
+        };
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 캐시 키가 될 수 있는 타입 필터 (null = 전체)
+     */
+    private static List<NotificationType> filters() {
+        List<NotificationType> filters = new ArrayList<>();
+        filters.add(null);
+        filters.addAll(List.of(NotificationType.values()));
+        return filters;
+    }
+}
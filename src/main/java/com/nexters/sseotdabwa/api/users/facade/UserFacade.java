@@ -1,5 +1,6 @@
 package com.nexters.sseotdabwa.api.users.facade;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.nexters.sseotdabwa.api.feeds.dto.FeedResponse;
 import com.nexters.sseotdabwa.api.feeds.dto.FeedResponseV2;
+import com.nexters.sseotdabwa.api.notifications.facade.NotificationInboxCache;
 import com.nexters.sseotdabwa.api.users.dto.UserResponse;
 import com.nexters.sseotdabwa.api.users.dto.UserWithdrawResponse;
 import com.nexters.sseotdabwa.common.config.AwsProperties;
@@ -26,6 +28,10 @@ import com.nexters.sseotdabwa.domain.feeds.service.FeedImageService;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedReviewService;
 import com.nexters.sseotdabwa.domain.auth.service.RefreshTokenService;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedTimeline;
+import com.nexters.sseotdabwa.domain.notifications.service.NotificationService;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.service.UserService;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
@@ -46,10 +52,14 @@ public class UserFacade {
     private final FeedService feedService;
     private final FeedImageService feedImageService;
     private final FeedReviewService feedReviewService;
+    private final FeedVoteCounterService feedVoteCounterService;
     private final VoteLogService voteLogService;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
     private final UserBlockService userBlockService;
+    private final NotificationService notificationService;
+    private final NotificationInboxCache notificationInboxCache;
+    private final PublicFeedTimeline publicFeedTimeline;
     private final AwsProperties awsProperties;
 
     /**
@@ -63,7 +73,8 @@ public class UserFacade {
      * 회원 탈퇴
      * - 유저의 Feed에 달린 VoteLog 삭제
      * - 유저가 다른 Feed에 투표한 VoteLog 삭제
-     * - 유저의 Feed에 연결된 FeedImage, FeedReview 삭제
+     * - 유저의 Feed에 연결된 FeedImage, FeedReview, Notification 삭제
+     * - 유저가 받은 Notification 과 안 읽은 알림 카운터/bucket 삭제
      * - 유저의 Feed 삭제
      * - User 레코드 삭제
      */
@@ -72,18 +83,26 @@ public class UserFacade {
         UserWithdrawResponse response = UserWithdrawResponse.from(user);
 
         List<Feed> feeds = feedService.findByUserId(user.getId());
+        List<Long> notifiedUserIds = new ArrayList<>();
 
         if (!feeds.isEmpty()) {
+            feeds.forEach(feed -> notifiedUserIds.addAll(notificationService.deleteByFeed(feed)));
             voteLogService.deleteByFeeds(feeds);
             feedImageService.deleteByFeeds(feeds);
             feedReviewService.deleteByFeeds(feeds);
+            feedVoteCounterService.deleteByFeeds(feeds);
         }
 
+        notificationService.deleteByUserId(user.getId());
+        notifiedUserIds.add(user.getId());
+        notificationInboxCache.evictAll(notifiedUserIds);
+
         voteLogService.deleteByUserId(user.getId());
         feedService.deleteByUserId(user.getId());
         refreshTokenService.deleteByUserId(user.getId());
         userBlockService.deleteAllBlocksOfUser(user.getId());
         userService.delete(user);
+        publicFeedTimeline.onAuthorRemoved(user.getId());
 
         return response;
     }
@@ -113,6 +132,7 @@ public class UserFacade {
         Map<Long, VoteChoice> voteMap = voteLogService.findByUserIdAndFeedIds(user.getId(), feedIds)
                 .stream()
                 .collect(Collectors.toMap(vl -> vl.getFeed().getId(), vl -> vl.getChoice()));
+        Map<Long, FeedVoteCount> voteCountMap = feedVoteCounterService.getCounts(slicedFeeds);
 
         List<FeedResponse> content = slicedFeeds.stream()
                 .map(feed -> {
@@ -120,7 +140,7 @@ public class UserFacade {
                     String viewUrl = buildViewUrl(img);
                     VoteChoice myChoice = voteMap.get(feed.getId());
                     boolean hasVoted = myChoice != null;
-                    return FeedResponse.of(feed, img, viewUrl, hasVoted, myChoice);
+                    return FeedResponse.of(feed, voteCountMap.get(feed.getId()), img, viewUrl, hasVoted, myChoice);
                 })
                 .toList();
 
@@ -148,6 +168,7 @@ public class UserFacade {
         Map<Long, VoteChoice> voteMap = voteLogService.findByUserIdAndFeedIds(user.getId(), feedIds)
                 .stream()
                 .collect(Collectors.toMap(vl -> vl.getFeed().getId(), vl -> vl.getChoice()));
+        Map<Long, FeedVoteCount> voteCountMap = feedVoteCounterService.getCounts(slicedFeeds);
 
         List<FeedResponseV2> content = slicedFeeds.stream()
                 .map(feed -> {
@@ -155,7 +176,7 @@ public class UserFacade {
                     List<String> imageUrls = buildViewUrls(imgs);
                     VoteChoice myChoice = voteMap.get(feed.getId());
                     boolean hasVoted = myChoice != null;
-                    return FeedResponseV2.of(feed, imgs, imageUrls, hasVoted, myChoice);
+                    return FeedResponseV2.of(feed, voteCountMap.get(feed.getId()), imgs, imageUrls, hasVoted, myChoice);
                 })
                 .toList();
 
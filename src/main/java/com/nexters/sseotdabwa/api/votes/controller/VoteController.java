@@ -7,6 +7,7 @@ import com.nexters.sseotdabwa.common.response.ApiResponse;
 import com.nexters.sseotdabwa.common.security.CurrentUser;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,6 +18,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class VoteController implements VoteControllerSpec {
 
+    private static final String DEVICE_ID_HEADER = "X-Device-Id";
+
     private final VoteFacade voteFacade;
 
     @Override
@@ -36,9 +39,26 @@ public class VoteController implements VoteControllerSpec {
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<VoteResponse> guestVote(
             @PathVariable Long feedId,
-            @Valid @RequestBody VoteRequest request
+            @Valid @RequestBody VoteRequest request,
+            @RequestHeader(value = DEVICE_ID_HEADER, required = false) String deviceId,
+            HttpServletRequest httpRequest
     ) {
-        VoteResponse response = voteFacade.guestVote(feedId, request);
+        String fingerprint = resolveGuestFingerprint(deviceId, httpRequest);
+        VoteResponse response = voteFacade.guestVote(feedId, request, fingerprint);
         return ApiResponse.success(response, HttpStatus.CREATED);
     }
+
+    /**
+     * 게스트 fingerprint (클라이언트 IP + 앱 설치 단위 기기 식별자)
+     * - IP 만으로는 같은 NAT/통신사 egress 뒤의 게스트가 한 명으로 묶이므로, 기기 식별자가 있을 때만 중복을 검사한다.
+     * - 기기 식별자가 없으면 null 을 반환해 중복 검사 없이 투표를 허용한다.
+     * - remoteAddr 는 server.forward-headers-strategy=native 로 신뢰하는 프록시가 붙인 hop 기준 클라이언트 IP 이다.
+     *   (X-Forwarded-For 첫 항목처럼 클라이언트가 임의로 넣은 값은 쓰지 않음)
+     */
+    private String resolveGuestFingerprint(String deviceId, HttpServletRequest httpRequest) {
+        if (deviceId == null || deviceId.isBlank()) {
+            return null;
+        }
+        return "ip:" + httpRequest.getRemoteAddr() + "|device:" + deviceId.trim();
+    }
 }
@@ -10,8 +10,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestBody;
 
 @Tag(name = "Votes", description = "투표 API")
@@ -48,7 +50,8 @@ public interface VoteControllerSpec {
 
     @Operation(
             summary = "비회원 투표",
-            description = "비회원(게스트)이 피드에 YES/NO 투표합니다. 중복 방지는 클라이언트에서 처리합니다."
+            description = "비회원(게스트)이 피드에 YES/NO 투표합니다. 같은 클라이언트 IP + 기기 식별자(X-Device-Id)의 "
+                    + "같은 피드 중복 투표는 거절됩니다. 기기 식별자가 없으면 중복 검사를 하지 않습니다. 확률적 필터를 사용하므로 드물게 첫 투표가 거절될 수 있습니다."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -57,7 +60,7 @@ public interface VoteControllerSpec {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
-                    description = "마감된 피드"
+                    description = "마감된 피드 / 이미 투표함"
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
@@ -66,6 +69,8 @@ public interface VoteControllerSpec {
     })
     ApiResponse<VoteResponse> guestVote(
             @PathVariable Long feedId,
-            @Valid @RequestBody VoteRequest request
+            @Valid @RequestBody VoteRequest request,
+            @Parameter(description = "게스트 기기(앱 설치) 식별자 (선택)") @RequestHeader(value = "X-Device-Id", required = false) String deviceId,
+            @Parameter(hidden = true) HttpServletRequest httpRequest
     );
 }
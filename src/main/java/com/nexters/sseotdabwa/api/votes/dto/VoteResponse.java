@@ -1,6 +1,7 @@
 package com.nexters.sseotdabwa.api.votes.dto;
 
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 
 public record VoteResponse(
@@ -11,13 +12,13 @@ public record VoteResponse(
         Long totalCount,
         String myProfileImage
 ) {
-    public static VoteResponse of(Feed feed, VoteChoice choice, String myProfileImage) {
+    public static VoteResponse of(Feed feed, FeedVoteCount voteCount, VoteChoice choice, String myProfileImage) {
         return new VoteResponse(
                 feed.getId(),
                 choice,
-                feed.getYesCount(),
-                feed.getNoCount(),
-                feed.getYesCount() + feed.getNoCount(),
+                voteCount.yesCount(),
+                voteCount.noCount(),
+                voteCount.totalCount(),
                 myProfileImage
         );
     }
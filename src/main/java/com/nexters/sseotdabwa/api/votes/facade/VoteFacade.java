@@ -5,7 +5,10 @@ import com.nexters.sseotdabwa.api.votes.dto.VoteResponse;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
 import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.votes.dedup.GuestVoteDeduplicator;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteType;
 import com.nexters.sseotdabwa.domain.votes.exception.VoteErrorCode;
@@ -21,11 +24,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class VoteFacade {
 
     private final FeedService feedService;
+    private final FeedVoteCounterService feedVoteCounterService;
     private final VoteLogService voteLogService;
+    private final GuestVoteDeduplicator guestVoteDeduplicator;
 
+    /**
+     * 회원 투표
+     * - 피드 행에 비관적 락을 걸지 않는다. 카운트 증가는 잠금 없는 투표 가능 확인 + 샤드 UPDATE
+     *   (샤드가 없는 피드는 feeds row 조건부 UPDATE)로 처리되며, 마감/만료되었다면 VOTE_FEED_CLOSED 로 응답한다.
+     * - 중복 투표는 사전 조회 없이 VoteLog INSERT 의 유니크 제약 위반으로 판단한다. (insert-first)
+     *   이후 카운트 증가가 실패하면 트랜잭션 전체가 롤백되어 VoteLog 도 남지 않는다.
+     * - 사전 조회는 빠른 실패(본인 피드, 마감) 용도
+     */
     @Transactional
     public VoteResponse vote(User user, Long feedId, VoteRequest request) {
-        Feed feed = feedService.findByIdWithLock(feedId);
+        Feed feed = feedService.findById(feedId);
 
         if (feed.isExpired() || !feed.isVoteOpen()) {
             throw new GlobalException(VoteErrorCode.VOTE_FEED_CLOSED);
@@ -33,41 +46,56 @@ public class VoteFacade {
         if (feed.isOwner(user)) {
             throw new GlobalException(VoteErrorCode.VOTE_OWN_FEED);
         }
-        if (voteLogService.existsByUserAndFeed(user.getId(), feedId)) {
-            throw new GlobalException(VoteErrorCode.VOTE_ALREADY_VOTED);
-        }
 
         VoteChoice choice = request.choice();
-        if (choice == VoteChoice.YES) {
-            feed.incrementYes();
-        } else {
-            feed.incrementNo();
-        }
-
         VoteCreateCommand command = new VoteCreateCommand(user, feed, choice, VoteType.USER);
-        voteLogService.createVoteLog(command);
+        voteLogService.createUserVoteLog(command);
 
-        return VoteResponse.of(feed, choice, user.getProfileImage());
+        Feed updated = incrementOrThrow(feedId, choice);
+
+        FeedVoteCount voteCount = feedVoteCounterService.getCount(updated);
+        return VoteResponse.of(updated, voteCount, choice, user.getProfileImage());
     }
 
+    /**
+     * 게스트 투표 (회원 투표와 동일하게 락 없는 조건부 UPDATE 사용)
+     * - 같은 fingerprint 의 반복 투표는 DB 접근 전에 메모리 필터로 거절한다.
+     */
     @Transactional
-    public VoteResponse guestVote(Long feedId, VoteRequest request) {
-        Feed feed = feedService.findByIdWithLock(feedId);
+    public VoteResponse guestVote(Long feedId, VoteRequest request, String fingerprint) {
+        if (!guestVoteDeduplicator.tryAcquire(feedId, fingerprint)) {
+            throw new GlobalException(VoteErrorCode.VOTE_ALREADY_VOTED);
+        }
+
+        Feed feed = feedService.findById(feedId);
 
         if (feed.isExpired() || !feed.isVoteOpen()) {
             throw new GlobalException(VoteErrorCode.VOTE_FEED_CLOSED);
         }
 
         VoteChoice choice = request.choice();
-        if (choice == VoteChoice.YES) {
-            feed.incrementYes();
-        } else {
-            feed.incrementNo();
-        }
+        Feed updated = incrementOrThrow(feedId, choice);
 
-        VoteCreateCommand command = new VoteCreateCommand(null, feed, choice, VoteType.SYSTEM);
-        voteLogService.createVoteLog(command);
+        VoteCreateCommand command = new VoteCreateCommand(null, updated, choice, VoteType.SYSTEM);
+        voteLogService.recordVoteLog(command);
+
+        FeedVoteCount voteCount = feedVoteCounterService.getCount(updated);
+        return VoteResponse.of(updated, voteCount, choice, null);
+    }
 
-        return VoteResponse.of(feed, choice, null);
+    /**
+     * 카운트 증가
+     * - 샤드가 있는 피드: 임의 샤드 row 증가
+     * - 샤드가 없는 피드(샤드 도입 이전 피드): feeds row 직접 증가
+     */
+    private Feed incrementOrThrow(Long feedId, VoteChoice choice) {
+        boolean applied = feedVoteCounterService.incrementIfOpen(feedId, choice);
+        if (!applied && !feedVoteCounterService.hasShards(feedId)) {
+            applied = feedService.incrementVoteCountIfOpen(feedId, choice);
+        }
+        if (!applied) {
+            throw new GlobalException(VoteErrorCode.VOTE_FEED_CLOSED);
+        }
+        return feedService.findById(feedId);
     }
 }
@@ -0,0 +1,18 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 user.block-cache.* 설정 바인딩
+ *
+ * - enabled: false 면 차단 목록이 필요한 요청마다 DB 에서 차단 id 를 조회한다.
+ * - maxEntries: 캐시에 유지하는 최대 사용자 수 (초과 시 사용 빈도/최근성이 낮은 사용자부터 제거)
+ * - ttlMillis: 차단 목록 캐시 유효 시간 (다른 인스턴스의 차단/해제가 반영되기까지의 최대 지연)
+ */
+@ConfigurationProperties(prefix = "user.block-cache")
+public record BlockedUserIdCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("60000") long ttlMillis
+) {}
@@ -0,0 +1,18 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 feed.close.* 설정 바인딩 (FeedScheduler 주기 스캔)
+ *
+ * - chunked: true 면 만료 피드를 chunkSize 씩 선점(SKIP LOCKED)해 chunk 마다 커밋한다. false 면 한 트랜잭션으로 전부 마감
+ * - chunkSize: chunk 하나에서 마감하는 최대 피드 수
+ * - workers: chunk 를 병렬로 처리하는 워커 수 (spring.threads.virtual.enabled=true 면 가상 스레드)
+ */
+@ConfigurationProperties(prefix = "feed.close")
+public record FeedCloseProperties(
+        @DefaultValue("false") boolean chunked,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("2") int workers
+) {}
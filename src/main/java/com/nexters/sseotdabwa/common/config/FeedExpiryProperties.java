@@ -0,0 +1,18 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 feed.expiry.* 설정 바인딩
+ *
+ * - enabled: false 면 타이밍 휠을 띄우지 않고 FeedScheduler 의 주기 스캔으로만 마감한다.
+ * - tickMillis: 휠 한 칸의 시간 (마감 지연은 최대 한 칸)
+ * - wheelSize: 단계별 칸 수 (tick 1초, 64칸이면 3단계로 72시간까지 커버)
+ */
+@ConfigurationProperties(prefix = "feed.expiry")
+public record FeedExpiryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") long tickMillis,
+        @DefaultValue("64") int wheelSize
+) {}
@@ -0,0 +1,9 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(GuestVoteDedupProperties.class)
+public class GuestVoteDedupConfig {
+}
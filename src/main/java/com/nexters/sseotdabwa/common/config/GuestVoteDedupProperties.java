@@ -0,0 +1,20 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 vote.guest-dedup.* 설정 바인딩
+ *
+ * - enabled: false 면 게스트 투표 중복 검사를 하지 않는다.
+ * - expectedVotesPerFeed: 피드당 예상 게스트 투표 수 (Bloom filter 크기 산정 기준)
+ * - falsePositiveRate: 처음 투표하는 게스트를 중복으로 오판할 확률
+ * - maxMemoryMb: 전체 필터가 사용할 수 있는 최대 메모리 (초과 시 가장 먼저 만료될 필터부터 제거)
+ */
+@ConfigurationProperties(prefix = "vote.guest-dedup")
+public record GuestVoteDedupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int expectedVotesPerFeed,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("32") int maxMemoryMb
+) {}
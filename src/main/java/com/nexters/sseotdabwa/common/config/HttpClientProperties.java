@@ -0,0 +1,37 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 http-client.* 설정 바인딩 (외부 API 호출용 WebClient)
+ * - 제공자(kakao, google, apple)마다 별도 커넥션 풀을 사용해, 한 제공자의 지연이 다른 제공자 호출을 막지 않게 한다.
+ */
+@ConfigurationProperties(prefix = "http-client")
+public record HttpClientProperties(
+        @DefaultValue Pool kakao,
+        @DefaultValue Pool google,
+        @DefaultValue Pool apple
+) {
+
+    /**
+     * - maxConnections: 호스트당 최대 커넥션 수
+     * - pendingAcquireMaxCount / pendingAcquireTimeoutMillis: 커넥션 대기열 길이와 대기 시간 (초과 시 즉시 실패)
+     * - connectTimeoutMillis: TCP 연결 타임아웃
+     * - responseTimeoutMillis: 요청 전송 후 응답까지의 타임아웃
+     * - maxIdleTimeMillis / maxLifeTimeMillis: 유휴/최대 수명 초과 커넥션 정리 기준 (제공자 측 keep-alive 종료 전에 정리)
+     * - evictInBackgroundMillis: 백그라운드 정리 주기
+     * - maxInMemorySizeBytes: 응답 본문 최대 크기
+     */
+    public record Pool(
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("200") int pendingAcquireMaxCount,
+            @DefaultValue("2000") long pendingAcquireTimeoutMillis,
+            @DefaultValue("2000") int connectTimeoutMillis,
+            @DefaultValue("5000") long responseTimeoutMillis,
+            @DefaultValue("30000") long maxIdleTimeMillis,
+            @DefaultValue("300000") long maxLifeTimeMillis,
+            @DefaultValue("60000") long evictInBackgroundMillis,
+            @DefaultValue("262144") int maxInMemorySizeBytes
+    ) {}
+}
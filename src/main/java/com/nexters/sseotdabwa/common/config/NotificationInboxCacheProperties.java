@@ -0,0 +1,18 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 notification.inbox-cache.* 설정 바인딩
+ *
+ * - enabled: false 면 알림함 첫 페이지도 매번 DB 에서 조회해 응답을 조립한다.
+ * - maxEntries: 캐시에 유지하는 최대 (사용자, 타입 필터) 첫 페이지 수 (초과 시 사용 빈도/최근성이 낮은 것부터 제거)
+ * - ttlMillis: 첫 페이지 캐시 유효 시간 (다른 인스턴스의 생성/읽음 처리가 반영되기까지의 최대 지연)
+ */
+@ConfigurationProperties(prefix = "notification.inbox-cache")
+public record NotificationInboxCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("60000") long ttlMillis
+) {}
@@ -0,0 +1,20 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 feed.public-timeline.* 설정 바인딩
+ *
+ * - enabled: false 면 비로그인 피드 목록도 항상 DB 에서 조회한다.
+ * - sliceSize: (feedStatus, category) 슬라이스마다 메모리에 유지하는 최신 피드 수
+ * - countTtlMillis: 투표 수 캐시 유효 시간
+ * - sliceMaxAgeMillis: 슬라이스 적재 후 유효 시간 (지나면 DB 에서 다시 적재, 다른 인스턴스의 변경이 반영되기까지의 최대 지연)
+ */
+@ConfigurationProperties(prefix = "feed.public-timeline")
+public record PublicFeedTimelineProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("200") int sliceSize,
+        @DefaultValue("2000") long countTtlMillis,
+        @DefaultValue("10000") long sliceMaxAgeMillis
+) {}
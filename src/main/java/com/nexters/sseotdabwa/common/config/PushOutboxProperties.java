@@ -0,0 +1,29 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 push.outbox.* 설정 바인딩
+ *
+ * - enabled: false 면 outbox 에 적재만 하고 relay 워커를 띄우지 않는다.
+ * - workers: outbox 를 꺼내 발송하는 전용 워커 수 (spring.threads.virtual.enabled=true 면 가상 스레드)
+ * - batchSize: 한 번에 선점해 발송하는 최대 row 수 (FCM 배치 한도 500 이하 권장)
+ * - pollIntervalMillis: 발송할 row 가 없을 때 다시 확인하기까지의 대기 시간
+ * - leaseMillis: 선점한 row 를 다른 워커가 가져가지 못하는 시간 (발송 중 종료되면 이후 재발송)
+ * - maxAttempts: 이 횟수만큼 실패하면 DEAD
+ * - initialBackoffMillis / maxBackoffMillis: 재시도 간격 (시도마다 2배, 최대값 제한, ±20% jitter)
+ * - retentionDays: SENT/SKIPPED row 보관 기간
+ */
+@ConfigurationProperties(prefix = "push.outbox")
+public record PushOutboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2") int workers,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1000") long pollIntervalMillis,
+        @DefaultValue("60000") long leaseMillis,
+        @DefaultValue("6") int maxAttempts,
+        @DefaultValue("10000") long initialBackoffMillis,
+        @DefaultValue("3600000") long maxBackoffMillis,
+        @DefaultValue("7") int retentionDays
+) {}
@@ -0,0 +1,20 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 scheduler.leader.* 설정 바인딩
+ *
+ * - enabled: false 면 리더 선출 없이 모든 인스턴스가 @Scheduled 작업을 실행한다. (단일 인스턴스/테스트)
+ * - leaseName: 리더 lease row 이름 (같은 이름을 쓰는 인스턴스끼리 리더 하나를 뽑는다)
+ * - leaseMillis: 리더가 갱신 없이 유지되는 시간 (리더가 죽으면 최대 이 시간 + renewIntervalMillis 후 다른 인스턴스가 인계)
+ * - renewIntervalMillis: lease 갱신/획득 시도 주기 (leaseMillis 의 1/3 이하 권장)
+ */
+@ConfigurationProperties(prefix = "scheduler.leader")
+public record SchedulerLeaderProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("scheduler") String leaseName,
+        @DefaultValue("15000") long leaseMillis,
+        @DefaultValue("5000") long renewIntervalMillis
+) {}
@@ -9,6 +9,15 @@ import org.springframework.transaction.support.TransactionTemplate;
 @Configuration
 public class TransactionConfig {
 
+    /**
+     * 기본 전파(REQUIRED) TransactionTemplate
+     * - 트랜잭션 구간을 메서드 일부로 좁혀야 할 때 사용 (예: 알림 저장만 트랜잭션, 푸시 발송은 트랜잭션 밖)
+     */
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
     @Bean
     public TransactionTemplate requiresNewTransactionTemplate(PlatformTransactionManager transactionManager) {
         TransactionTemplate template = new TransactionTemplate(transactionManager);
@@ -0,0 +1,16 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 notification.unread-counter.* 설정 바인딩
+ *
+ * - enabled: false 면 카운터를 유지하지 않고, 안 읽은 알림 수를 매번 notifications 에서 COUNT 한다.
+ * - chunkSize: 만료 bucket 정리 / 카운터 보정을 한 트랜잭션에서 처리하는 최대 row(사용자) 수
+ */
+@ConfigurationProperties(prefix = "notification.unread-counter")
+public record UnreadNotificationCounterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int chunkSize
+) {}
@@ -0,0 +1,18 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 jwt.principal-cache.* 설정 바인딩
+ *
+ * - enabled: false 면 인증 필터가 매 요청 DB 에서 사용자를 조회한다.
+ * - maxEntries: 캐시에 유지하는 최대 사용자 수 (초과 시 사용 빈도/최근성이 낮은 사용자부터 제거)
+ * - ttlMillis: 사용자 정보 캐시 유효 시간 (다른 인스턴스의 변경이 반영되기까지의 최대 지연)
+ */
+@ConfigurationProperties(prefix = "jwt.principal-cache")
+public record UserPrincipalCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("30000") long ttlMillis
+) {}
@@ -0,0 +1,21 @@
+package com.nexters.sseotdabwa.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 vote.write-behind.* 설정 바인딩
+ *
+ * - enabled: false 면 VoteLog 를 요청 트랜잭션 안에서 즉시 INSERT 한다.
+ * - capacity: 큐 최대 적재 수 (가득 차면 offerTimeoutMillis 만큼 대기 후 동기 INSERT 로 전환)
+ * - batchSize: multi-row INSERT 한 번에 묶는 최대 row 수
+ * - flushIntervalMillis: 배치가 차지 않아도 flush 하는 최대 대기 시간
+ */
+@ConfigurationProperties(prefix = "vote.write-behind")
+public record VoteLogWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("20") long flushIntervalMillis,
+        @DefaultValue("50") long offerTimeoutMillis
+) {}
@@ -1,19 +1,75 @@
 package com.nexters.sseotdabwa.common.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 /**
  * WebClient 설정
- * - 카카오 OAuth API 등 외부 API 호출에 사용
+ * - 카카오/Google/Apple OAuth API 호출용 WebClient 를 제공자별 커넥션 풀로 분리
+ * - 풀 지표는 Reactor Netty metrics(reactor.netty.connection.provider.*, name 태그 = 제공자)로 노출
+ * - 기동 시 warmup 으로 이벤트 루프/DNS 리졸버/SSL 컨텍스트를 미리 준비해, 첫 로그인 요청이 초기화 비용을 치르지 않게 함
  */
 @Configuration
-public class WebClientConfig {
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class WebClientConfig implements DisposableBean {
+
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    @Bean
+    public WebClient kakaoWebClient(HttpClientProperties properties) {
+        return create("kakao", properties.kakao());
+    }
+
+    @Bean
+    public WebClient googleWebClient(HttpClientProperties properties) {
+        return create("google", properties.google());
+    }
 
     @Bean
-    public WebClient webClient() {
+    public WebClient appleWebClient(HttpClientProperties properties) {
+        return create("apple", properties.apple());
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private WebClient create(String name, HttpClientProperties.Pool pool) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.pendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofMillis(pool.maxIdleTimeMillis()))
+                .maxLifeTime(Duration.ofMillis(pool.maxLifeTimeMillis()))
+                .evictInBackground(Duration.ofMillis(pool.evictInBackgroundMillis()))
+                .metrics(true)
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, pool.connectTimeoutMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(pool.responseTimeoutMillis()))
+                // uri 태그는 제공자 이름으로 고정 (토큰 등이 쿼리에 실려 태그 수가 늘어나지 않게)
+                .metrics(true, uri -> name);
+        httpClient.warmup().block();
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(pool.maxInMemorySizeBytes()))
                 .build();
     }
 }
@@ -0,0 +1,299 @@
+package com.nexters.sseotdabwa.common.scheduling;
+
+import java.net.InetAddress;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexters.sseotdabwa.common.config.SchedulerLeaderProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB lease 기반 스케줄러 리더 선출
+ * - 인스턴스마다 전용 heartbeat 스레드가 renewIntervalMillis 마다 scheduler_leases row 를 조건부 UPDATE 로 갱신/획득한다.
+ *   (MySQL/H2 공통 SQL 만 사용, 동시에 획득을 시도해도 row 단위 UPDATE 라 한 인스턴스만 성공)
+ * - @Scheduled 작업은 isLeader() 가 false 면 바로 반환해, 인스턴스를 늘려도 스케줄러 부하가 늘지 않는다.
+ * - 리더가 죽으면 leaseMillis 이후 다른 인스턴스가 인계하고, 정상 종료 시에는 lease 를 반납해 다음 heartbeat 에서 바로 인계한다.
+ *
+ * fencing:
+ * - 리더가 바뀔 때마다 fencingToken 이 증가한다.
+ * - GC 정지 등으로 lease 가 넘어간 줄 모르는 이전 리더의 쓰기를 막기 위해, 공유 상태를 바꾸는 작업은 callFenced() 로 감싼다.
+ *   작업 전에는 락 없이 lease 를 읽어 빠르게 거르고, 작업이 끝난 뒤 같은 트랜잭션에서 조건부 UPDATE 로 owner/토큰/만료를 다시 확인한다.
+ *   검사가 1 row 를 잡은 뒤 커밋까지는 다른 인스턴스가 lease 를 가져갈 수 없고, 0 row 면 작업의 쓰기는 롤백된다.
+ * - 작업 내내 lease row 락을 잡지 않으므로, 긴 작업 중에도 heartbeat 의 갱신(REQUIRES_NEW UPDATE)이 막히지 않는다.
+ */
+@Slf4j
+@Component
+public class LeaderElection implements SmartLifecycle {
+
+    private static final long NOT_LEADER = -1;
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final SchedulerLeaderProperties properties;
+    private final Environment environment;
+    private final Clock clock;
+    private final String ownerId;
+
+    private volatile long fencingToken = NOT_LEADER;
+    private volatile long leaseUntilMillis;
+    private volatile boolean leaseCreated;
+    private volatile boolean running;
+    private Thread heartbeat;
+
+    @Autowired
+    public LeaderElection(
+            SchedulerLeaseRepository leaseRepository,
+            @Qualifier("transactionTemplate") TransactionTemplate transactionTemplate,
+            @Qualifier("requiresNewTransactionTemplate") TransactionTemplate requiresNewTransactionTemplate,
+            SchedulerLeaderProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        this(leaseRepository, transactionTemplate, requiresNewTransactionTemplate, properties, environment,
+                Clock.systemUTC(), defaultOwnerId());
+
+        Gauge.builder("scheduler.leader", this, election -> election.isLeader() ? 1 : 0)
+                .description("이 인스턴스가 스케줄러 리더면 1")
+                .register(meterRegistry);
+    }
+
+    LeaderElection(
+            SchedulerLeaseRepository leaseRepository,
+            TransactionTemplate transactionTemplate,
+            TransactionTemplate requiresNewTransactionTemplate,
+            SchedulerLeaderProperties properties,
+            Environment environment,
+            Clock clock,
+            String ownerId) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.requiresNewTransactionTemplate = requiresNewTransactionTemplate;
+        this.properties = properties;
+        this.environment = environment;
+        this.clock = clock;
+        this.ownerId = ownerId;
+    }
+
+    /**
+     * 이 인스턴스가 lease 를 보유 중인지 (리더 선출을 끄면 항상 true)
+     * - 마지막 갱신 시도 시각 기준으로 판단하므로 DB 의 leaseUntil 보다 먼저 false 가 된다.
+     */
+    public boolean isLeader() {
+        if (!properties.enabled()) {
+            return true;
+        }
+        return fencingToken != NOT_LEADER && clock.millis() < leaseUntilMillis;
+    }
+
+    /**
+     * 리더 lease 를 확인하는 트랜잭션 안에서 작업을 실행한다. (리더 선출을 끄면 그대로 실행)
+     * - 작업의 @Transactional(REQUIRED) 은 이 트랜잭션에 참여하므로, 작업의 쓰기와 lease 확인이 함께 커밋된다.
+     * - 작업 도중 lease 를 잃으면 작업이 끝난 뒤의 확인에서 예외가 나 작업의 쓰기가 롤백된다.
+     * @throws LeadershipLostException 이 인스턴스가 더 이상 lease 를 보유하지 않음
+     */
+    public <T> T callFenced(Supplier<T> work) {
+        if (!properties.enabled()) {
+            return work.get();
+        }
+        long token = fencingToken;
+        if (token == NOT_LEADER) {
+            throw new LeadershipLostException(properties.leaseName(), token);
+        }
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = toDateTime(clock.millis());
+            boolean held = leaseRepository.findById(properties.leaseName())
+                    .map(lease -> lease.isHeldBy(ownerId, token, now))
+                    .orElse(false);
+            if (!held) {
+                markLost(token);
+                throw new LeadershipLostException(properties.leaseName(), token);
+            }
+
+            T result = work.get();
+
+            int confirmed = leaseRepository.checkHeld(
+                    properties.leaseName(), ownerId, token, toDateTime(clock.millis()));
+            if (confirmed == 0) {
+                markLost(token);
+                throw new LeadershipLostException(properties.leaseName(), token);
+            }
+            return result;
+        });
+    }
+
+    public void runFenced(Runnable work) {
+        callFenced(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * lease 를 보유 중이면 연장하고, 아니면 만료된 lease 획득을 시도한다. (heartbeat 한 번)
+     */
+    void heartbeat() {
+        ensureLease();
+        long now = clock.millis();
+        LocalDateTime nowDateTime = toDateTime(now);
+        LocalDateTime leaseUntil = toDateTime(now + properties.leaseMillis());
+        long token = fencingToken;
+
+        if (token != NOT_LEADER) {
+            Integer renewed = requiresNewTransactionTemplate.execute(status ->
+                    leaseRepository.renew(properties.leaseName(), ownerId, token, nowDateTime, leaseUntil));
+            if (renewed != null && renewed > 0) {
+                leaseUntilMillis = now + properties.leaseMillis();
+                return;
+            }
+            markLost(token);
+        }
+
+        Long acquired = requiresNewTransactionTemplate.execute(status -> {
+            int updated = leaseRepository.acquire(properties.leaseName(), ownerId, nowDateTime, leaseUntil);
+            if (updated == 0) {
+                return NOT_LEADER;
+            }
+            return leaseRepository.findById(properties.leaseName())
+                    .map(SchedulerLease::getFencingToken)
+                    .orElse(NOT_LEADER);
+        });
+        if (acquired != null && acquired != NOT_LEADER) {
+            leaseUntilMillis = now + properties.leaseMillis();
+            fencingToken = acquired;
+            log.info("스케줄러 리더 획득. lease={}, owner={}, fencingToken={}", properties.leaseName(), ownerId, acquired);
+        }
+    }
+
+    /**
+     * 보유 중인 lease 반납 (종료 시)
+     */
+    void release() {
+        long token = fencingToken;
+        if (token == NOT_LEADER) {
+            return;
+        }
+        fencingToken = NOT_LEADER;
+        requiresNewTransactionTemplate.executeWithoutResult(status ->
+                leaseRepository.release(properties.leaseName(), ownerId, token, SchedulerLease.EXPIRED));
+        log.info("스케줄러 리더 반납. lease={}, owner={}, fencingToken={}", properties.leaseName(), ownerId, token);
+    }
+
+    /**
+     * lease row 가 없으면 만료 상태로 만든다. (여러 인스턴스가 동시에 만들면 하나만 성공)
+     */
+    private void ensureLease() {
+        if (leaseCreated) {
+            return;
+        }
+        try {
+            requiresNewTransactionTemplate.executeWithoutResult(status -> {
+                if (!leaseRepository.existsById(properties.leaseName())) {
+                    leaseRepository.saveAndFlush(SchedulerLease.vacant(properties.leaseName()));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만듦
+        }
+        leaseCreated = true;
+    }
+
+    private void markLost(long token) {
+        if (fencingToken == token && token != NOT_LEADER) {
+            fencingToken = NOT_LEADER;
+            log.warn("스케줄러 리더 상실. lease={}, owner={}, fencingToken={}", properties.leaseName(), ownerId, token);
+        }
+    }
+
+    private void runHeartbeatLoop() {
+        while (running) {
+            try {
+                heartbeat();
+            } catch (Exception e) {
+                // 갱신하지 못하면 leaseUntilMillis 가 지나 isLeader() 가 false 가 된다.
+                log.warn("스케줄러 lease heartbeat 실패. lease={}", properties.leaseName(), e);
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.renewIntervalMillis()));
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private static String defaultOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // ========================
+    // SmartLifecycle
+    // ========================
+
+    @Override
+    public void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+        running = true;
+
+        Thread.Builder builder = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("scheduler-leader")
+                : Thread.ofPlatform().daemon().name("scheduler-leader");
+        heartbeat = builder.start(this::runHeartbeatLoop);
+        log.info("스케줄러 리더 선출 시작. lease={}, owner={}, leaseMillis={}, renewIntervalMillis={}",
+                properties.leaseName(), ownerId, properties.leaseMillis(), properties.renewIntervalMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (heartbeat != null) {
+            LockSupport.unpark(heartbeat);
+            try {
+                heartbeat.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            heartbeat = null;
+        }
+        try {
+            release();
+        } catch (Exception e) {
+            // 반납하지 못해도 leaseMillis 후 다른 인스턴스가 인계한다.
+            log.warn("스케줄러 lease 반납 실패. lease={}", properties.leaseName(), e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,11 @@
+package com.nexters.sseotdabwa.common.scheduling;
+
+/**
+ * fencing 검사 시점에 이 인스턴스가 더 이상 리더가 아님 (lease 만료 또는 다른 인스턴스가 인계)
+ */
+public class LeadershipLostException extends IllegalStateException {
+
+    public LeadershipLostException(String leaseName, long fencingToken) {
+        super("scheduler lease lost. lease=" + leaseName + ", fencingToken=" + fencingToken);
+    }
+}
@@ -0,0 +1,56 @@
+package com.nexters.sseotdabwa.common.scheduling;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러 리더 lease
+ * - lease 이름마다 한 row 이고, leaseUntil 이 지나기 전까지 owner 인스턴스만 리더로 동작한다.
+ * - 리더가 바뀔 때마다 fencingToken 이 1 씩 증가하므로, 이전 리더의 늦은 쓰기는 토큰 불일치로 거부된다.
+ * - leaseUntil 은 인스턴스 타임존과 무관하도록 UTC 로 저장한다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    static final LocalDateTime EXPIRED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false, length = 128)
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 아무도 보유하지 않은(이미 만료된) lease
+     */
+    static SchedulerLease vacant(String name) {
+        SchedulerLease lease = new SchedulerLease();
+        lease.name = name;
+        lease.owner = "";
+        lease.fencingToken = 0;
+        lease.leaseUntil = EXPIRED;
+        return lease;
+    }
+
+    boolean isHeldBy(String owner, long fencingToken, LocalDateTime now) {
+        return this.owner.equals(owner) && this.fencingToken == fencingToken && leaseUntil.isAfter(now);
+    }
+}
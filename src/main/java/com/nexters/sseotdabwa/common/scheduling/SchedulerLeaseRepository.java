@@ -0,0 +1,90 @@
+package com.nexters.sseotdabwa.common.scheduling;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 보유 중인 lease 연장 (owner/토큰이 그대로이고 아직 만료되지 않은 경우에만)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update SchedulerLease l
+        set l.leaseUntil = :leaseUntil
+        where l.name = :name
+          and l.owner = :owner
+          and l.fencingToken = :fencingToken
+          and l.leaseUntil > :now
+    """)
+    int renew(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("fencingToken") long fencingToken,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 만료된 lease 획득 (조건부 UPDATE 라 동시에 시도해도 한 인스턴스만 성공, 토큰 +1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update SchedulerLease l
+        set l.owner = :owner,
+            l.fencingToken = l.fencingToken + 1,
+            l.leaseUntil = :leaseUntil
+        where l.name = :name
+          and l.leaseUntil <= :now
+    """)
+    int acquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 종료 시 lease 반납 (다른 인스턴스가 다음 heartbeat 에서 바로 획득)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update SchedulerLease l
+        set l.leaseUntil = :expired
+        where l.name = :name
+          and l.owner = :owner
+          and l.fencingToken = :fencingToken
+    """)
+    int release(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("fencingToken") long fencingToken,
+            @Param("expired") LocalDateTime expired
+    );
+
+    /**
+     * fencing 검사 (owner/토큰이 그대로이고 아직 만료되지 않았으면 1, 아니면 0)
+     * - 값은 바꾸지 않는 조건부 UPDATE 라 매칭된 row 수를 반환한다. (MySQL Connector/J 기본값 useAffectedRows=false 기준)
+     * - 작업이 끝난 뒤 커밋 직전에 호출하므로, row 락은 커밋까지의 짧은 구간에만 잡힌다.
+     * - 작업의 엔티티를 detach 하지 않도록 영속성 컨텍스트는 비우지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update SchedulerLease l
+        set l.leaseUntil = l.leaseUntil
+        where l.name = :name
+          and l.owner = :owner
+          and l.fencingToken = :fencingToken
+          and l.leaseUntil > :now
+    """)
+    int checkHeld(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("fencingToken") long fencingToken,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -21,6 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * JWT 인증 필터
  * - 모든 요청에서 Authorization 헤더의 JWT 토큰을 추출하여 검증
  * - 유효한 토큰이면 SecurityContext에 인증 정보 저장
+ * - 사용자 조회는 UserPrincipalCache 를 거쳐 매 요청 DB 조회를 생략
  */
 @Component
 @RequiredArgsConstructor
@@ -28,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
     private final UserService userService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,10 +38,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractToken(request);
 
-        if (token != null && jwtTokenService.validateToken(token)) {
+        Long userId = jwtTokenService.verifyAccessToken(token).orElse(null);
+
+        if (userId != null) {
             try {
-                Long userId = jwtTokenService.getUserIdFromToken(token);
-                User user = userService.findById(userId);
+                User user = userPrincipalCache.get(userId, userService::findById);
 
                 // User 객체를 Principal로 설정하여 @CurrentUser로 주입 가능하게 함
                 UsernamePasswordAuthenticationToken authentication =
@@ -0,0 +1,103 @@
+package com.nexters.sseotdabwa.common.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexters.sseotdabwa.common.config.UserPrincipalCacheProperties;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 인증 사용자(Principal) 캐시
+ * - JwtAuthenticationFilter 가 매 요청 userId 로 사용자를 DB 에서 조회하지 않도록 한다.
+ * - 캐시된 User 는 준영속 상태로 여러 요청이 공유하므로 읽기 전용으로만 사용한다.
+ *   (변경은 기존처럼 서비스에서 userId 로 다시 조회한 엔티티에 한다)
+ *
+ * 정책:
+ * - Caffeine 캐시로 maxEntries 를 넘으면 사용 빈도/최근성 기준으로 제거하고, ttlMillis 가 지나면 다시 적재한다.
+ * - hit/miss/eviction/size 는 cache.* 지표(cache=jwt.principal_cache)로 노출한다.
+ * - 프로필/FCM 토큰 변경, 로그인, 탈퇴, 차단/차단 해제 시 즉시 + 커밋 이후 한 번 더 무효화한다.
+ * - 적재 도중 무효화가 일어나면(generation 변경) 적재한 값은 캐시에 남기지 않는다.
+ * - 인스턴스 로컬 캐시이므로 다른 인스턴스의 변경은 ttlMillis 이내에 반영된다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    static final String CACHE_NAME = "jwt.principal_cache";
+
+    private final UserPrincipalCacheProperties properties;
+    private final Cache<Long, User> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserPrincipalCache(UserPrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, properties.maxEntries()))
+                .expireAfterWrite(Duration.ofMillis(Math.max(0, properties.ttlMillis())))
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 사용자를 반환하고, 없거나 만료되었으면 loader 로 조회해 적재한다.
+     * - loader 가 던진 예외(탈퇴한 사용자 등)는 그대로 전파하며 캐시에 남기지 않는다.
+     */
+    public User get(Long userId, Function<Long, User> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(userId);
+        }
+
+        User cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        User user = loader.apply(userId);
+        cache.put(userId, user);
+        if (generation.get() != startGeneration) {
+            cache.invalidate(userId);
+        }
+        return user;
+    }
+
+    /**
+     * userId 의 사용자 정보가 바뀌었거나 삭제되었을 때
+     */
+    public void evict(Long userId) {
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            cache.invalidate(userId);
+        };
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
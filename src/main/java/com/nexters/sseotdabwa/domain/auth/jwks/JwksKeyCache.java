@@ -0,0 +1,171 @@
+package com.nexters.sseotdabwa.domain.auth.jwks;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OAuth 제공자(Google, Apple)의 JWKS 공개키 캐시
+ * - kid → 파싱이 끝난 PublicKey 를 보관해, 로그인마다 외부 HTTP 호출과 KeyFactory 변환을 하지 않는다.
+ *
+ * 정책:
+ * - 응답의 Cache-Control max-age 동안 유효하다. (없으면 DEFAULT_MAX_AGE, MIN_MAX_AGE ~ MAX_MAX_AGE 로 보정)
+ * - max-age 의 REFRESH_AHEAD_RATIO 가 지나면 refreshIfDue()(스케줄러)가 만료 전에 미리 갱신한다.
+ * - 모르는 kid(키 교체 직후)가 오면 한 번만 다시 조회한다(single-flight).
+ * - 마지막 조회 시도 후 MIN_REFETCH_INTERVAL 이내에는 다시 조회하지 않는다.
+ *   (임의 kid 요청이나 제공자 장애 시 로그인마다 외부 호출이 몰리지 않게 함)
+ * - 갱신에 실패하면 만료 후 STALE_GRACE 까지는 이전 키로 응답하고, 그 이후에는 조회 예외를 그대로 전파한다.
+ */
+@Slf4j
+public class JwksKeyCache {
+
+    static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    static final Duration MIN_MAX_AGE = Duration.ofMinutes(1);
+    static final Duration MAX_MAX_AGE = Duration.ofHours(24);
+    static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(30);
+    static final Duration STALE_GRACE = Duration.ofHours(1);
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+
+    private final String provider;
+    private final Supplier<FetchedKeys> fetcher;
+    private final Clock clock;
+    // 갱신은 한 번에 하나만 (synchronized 대신 lock 을 써서 가상 스레드가 carrier 를 붙잡지 않게 함)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile KeySet keySet;
+    // 최초 조회는 바로 할 수 있도록 충분히 과거 값으로 시작
+    private volatile long lastFetchAttemptMillis = Long.MIN_VALUE / 2;
+
+    /**
+     * 제공자에서 조회한 키 목록과 응답의 max-age
+     */
+    public record FetchedKeys(Map<String, PublicKey> keys, Duration maxAge) {}
+
+    private record KeySet(Map<String, PublicKey> keys, long refreshAtMillis, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+
+        boolean isUsable(long now) {
+            return now < expiresAtMillis + STALE_GRACE.toMillis();
+        }
+    }
+
+    public JwksKeyCache(String provider, Supplier<FetchedKeys> fetcher) {
+        this(provider, fetcher, Clock.systemUTC());
+    }
+
+    JwksKeyCache(String provider, Supplier<FetchedKeys> fetcher, Clock clock) {
+        this.provider = provider;
+        this.fetcher = fetcher;
+        this.clock = clock;
+    }
+
+    /**
+     * kid 에 해당하는 공개키 반환
+     * @return 갱신 후에도 kid 가 없으면 null
+     */
+    public PublicKey getKey(String kid) {
+        long now = clock.millis();
+        KeySet current = keySet;
+
+        if (current == null || (current.isExpired(now) && (canRefetch(now) || !current.isUsable(now)))) {
+            current = refresh(current);
+        } else if (!current.keys().containsKey(kid) && canRefetch(now)) {
+            current = refresh(current);
+        }
+        return current.keys().get(kid);
+    }
+
+    /**
+     * 만료 전 미리 갱신할 시점이 지났거나 아직 적재되지 않았으면 갱신한다. (스케줄러용, 실패는 로그만 남김)
+     */
+    public void refreshIfDue() {
+        KeySet current = keySet;
+        if (current != null && clock.millis() < current.refreshAtMillis()) {
+            return;
+        }
+        try {
+            refresh(current);
+        } catch (Exception e) {
+            log.warn("{} JWKS 사전 갱신 실패", provider, e);
+        }
+    }
+
+    /**
+     * Cache-Control 헤더의 max-age (없으면 DEFAULT_MAX_AGE)
+     */
+    public static Duration maxAge(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return DEFAULT_MAX_AGE;
+    }
+
+    /**
+     * observed 를 본 스레드들 중 하나만 조회하고, 나머지는 락을 기다렸다가 그 결과를 사용한다.
+     * - 조회에 실패해도 이전 키가 STALE_GRACE 이내면 이전 키로 응답한다.
+     */
+    private KeySet refresh(KeySet observed) {
+        refreshLock.lock();
+        try {
+            long now = clock.millis();
+            KeySet current = keySet;
+            if (current != observed || (current != null && current.isUsable(now) && !canRefetch(now))) {
+                return current;
+            }
+
+            lastFetchAttemptMillis = now;
+            try {
+                keySet = toKeySet(fetcher.get(), clock.millis());
+                return keySet;
+            } catch (RuntimeException e) {
+                if (current != null && current.isUsable(clock.millis())) {
+                    log.warn("{} JWKS 조회 실패, 이전 키로 응답", provider, e);
+                    return current;
+                }
+                throw e;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean canRefetch(long now) {
+        return now - lastFetchAttemptMillis >= MIN_REFETCH_INTERVAL.toMillis();
+    }
+
+    private KeySet toKeySet(FetchedKeys fetched, long now) {
+        long maxAgeMillis = clamp(fetched.maxAge()).toMillis();
+        return new KeySet(
+                Map.copyOf(fetched.keys()),
+                now + (long) (maxAgeMillis * REFRESH_AHEAD_RATIO),
+                now + maxAgeMillis
+        );
+    }
+
+    private Duration clamp(Duration maxAge) {
+        if (maxAge == null) {
+            return DEFAULT_MAX_AGE;
+        }
+        if (maxAge.compareTo(MIN_MAX_AGE) < 0) {
+            return MIN_MAX_AGE;
+        }
+        return maxAge.compareTo(MAX_MAX_AGE) > 0 ? MAX_MAX_AGE : maxAge;
+    }
+}
@@ -0,0 +1,27 @@
+package com.nexters.sseotdabwa.domain.auth.scheduler;
+
+import com.nexters.sseotdabwa.domain.auth.service.AppleOAuthService;
+import com.nexters.sseotdabwa.domain.auth.service.GoogleOAuthService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JwksRefreshScheduler {
+
+    private final GoogleOAuthService googleOAuthService;
+    private final AppleOAuthService appleOAuthService;
+
+    /**
+     * 1분마다 Google/Apple JWKS 캐시를 확인해, 만료가 가까우면(또는 아직 비어 있으면) 미리 갱신한다.
+     * - 로그인 요청이 외부 HTTP 왕복을 기다리지 않게 한다. (실패는 캐시가 로그만 남기고 이전 키 유지)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void refreshPublicKeys() {
+        googleOAuthService.refreshPublicKeysIfDue();
+        appleOAuthService.refreshPublicKeysIfDue();
+    }
+}
@@ -6,16 +6,21 @@ import java.security.PublicKey;
 import java.security.spec.RSAPublicKeySpec;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.nexters.sseotdabwa.api.auth.exception.AuthErrorCode;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
+import com.nexters.sseotdabwa.domain.auth.jwks.JwksKeyCache;
 import com.nexters.sseotdabwa.domain.auth.service.external.GooglePublicKeys;
 import com.nexters.sseotdabwa.domain.auth.service.external.GoogleUserInfo;
 
@@ -41,7 +46,9 @@ public class GoogleOAuthService {
             "accounts.google.com"
     );
 
+    @Qualifier("googleWebClient")
     private final WebClient webClient;
+    private final JwksKeyCache publicKeyCache = new JwksKeyCache("Google", this::fetchGooglePublicKeys);
 
     @Value("${oauth.google.keys-url}")
     private String keysUrl;
@@ -67,23 +74,19 @@ public class GoogleOAuthService {
         // 1. ID Token 헤더에서 kid 추출
         String kid = extractKidFromToken(idToken);
 
-        // 2. Google 공개키 조회
-        GooglePublicKeys googlePublicKeys = fetchGooglePublicKeys();
-
-        // 3. kid와 일치하는 공개키 찾기
-        GooglePublicKeys.Key matchedKey = googlePublicKeys.getMatchedKey(kid);
-        if (matchedKey == null) {
+        // 2. kid와 일치하는 Google 공개키 조회 (JWKS 캐시, 모르는 kid면 재조회)
+        PublicKey publicKey = publicKeyCache.getKey(kid);
+        if (publicKey == null) {
             throw new GlobalException(AuthErrorCode.GOOGLE_INVALID_TOKEN);
         }
 
-        // 4. 공개키로 JWT 검증 및 Claims 추출
-        PublicKey publicKey = generatePublicKey(matchedKey);
+        // 3. 공개키로 JWT 검증 및 Claims 추출
         Claims claims = verifyAndGetClaims(idToken, publicKey);
 
-        // 5. Claims 검증 (issuer, audience)
+        // 4. Claims 검증 (issuer, audience)
         validateClaims(claims);
 
-        // 6. 사용자 정보 추출
+        // 5. 사용자 정보 추출
         return extractUserInfo(claims);
     }
 
@@ -112,21 +115,37 @@ public class GoogleOAuthService {
         }
     }
 
-    private GooglePublicKeys fetchGooglePublicKeys() {
+    /**
+     * Google 공개키 캐시를 만료 전에 미리 갱신 (JwksRefreshScheduler)
+     */
+    public void refreshPublicKeysIfDue() {
+        publicKeyCache.refreshIfDue();
+    }
+
+    /**
+     * Google JWKS 조회 후 kid → PublicKey 로 변환 (Cache-Control max-age 포함)
+     */
+    private JwksKeyCache.FetchedKeys fetchGooglePublicKeys() {
         try {
-            return webClient.get()
+            ResponseEntity<GooglePublicKeys> entity = webClient.get()
                     .uri(keysUrl)
                     .retrieve()
                     .onStatus(HttpStatusCode::is4xxClientError, response ->
                             Mono.error(new GlobalException(AuthErrorCode.GOOGLE_KEY_FETCH_FAILED)))
                     .onStatus(HttpStatusCode::is5xxServerError, response ->
                             Mono.error(new GlobalException(AuthErrorCode.GOOGLE_KEY_FETCH_FAILED)))
-                    .bodyToMono(GooglePublicKeys.class)
+                    .toEntity(GooglePublicKeys.class)
                     .timeout(API_TIMEOUT)
                     .onErrorMap(TimeoutException.class, e ->
                             new GlobalException(AuthErrorCode.GOOGLE_API_TIMEOUT))
                     .blockOptional()
                     .orElseThrow(() -> new GlobalException(AuthErrorCode.GOOGLE_KEY_FETCH_FAILED));
+
+            GooglePublicKeys body = entity.getBody();
+            if (body == null) {
+                throw new GlobalException(AuthErrorCode.GOOGLE_KEY_FETCH_FAILED);
+            }
+            return new JwksKeyCache.FetchedKeys(toPublicKeys(body), JwksKeyCache.maxAge(entity.getHeaders()));
         } catch (GlobalException e) {
             throw e;
         } catch (Exception e) {
@@ -134,6 +153,18 @@ public class GoogleOAuthService {
         }
     }
 
+    private Map<String, PublicKey> toPublicKeys(GooglePublicKeys googlePublicKeys) {
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        if (googlePublicKeys.getKeys() != null) {
+            for (GooglePublicKeys.Key key : googlePublicKeys.getKeys()) {
+                if (key.getKid() != null) {
+                    publicKeys.put(key.getKid(), generatePublicKey(key));
+                }
+            }
+        }
+        return publicKeys;
+    }
+
     private PublicKey generatePublicKey(GooglePublicKeys.Key key) {
         try {
             byte[] nBytes = Base64.getUrlDecoder().decode(key.getN());
@@ -2,6 +2,7 @@ package com.nexters.sseotdabwa.domain.auth.service;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 import javax.crypto.SecretKey;
 
@@ -12,6 +13,7 @@ import org.springframework.util.StringUtils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -19,6 +21,7 @@ import io.jsonwebtoken.security.Keys;
  * JWT 토큰 발급 및 검증 서비스
  * - Access Token: API 인증에 사용 (type: access)
  * - Refresh Token: Access Token 갱신에 사용 (type: refresh)
+ * - 파서는 한 번만 만들어 재사용한다. (thread-safe)
  */
 @Service
 public class JwtTokenService {
@@ -28,6 +31,7 @@ public class JwtTokenService {
     private static final String TOKEN_TYPE_REFRESH = "refresh";
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -36,6 +40,9 @@ public class JwtTokenService {
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -67,6 +74,28 @@ public class JwtTokenService {
                 .compact();
     }
 
+    /**
+     * Access Token 을 한 번만 파싱/검증하고 사용자 ID 반환 (인증 필터용)
+     * - 서명, 만료, 타입이 access 인지 검사한다. (exp 클레임이 없는 토큰은 만료 없이 통과되지 않도록 거절)
+     * @return 유효한 access 토큰이면 사용자 ID, 아니면 Optional.empty
+     */
+    public Optional<Long> verifyAccessToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        try {
+            Claims claims = getClaims(token);
+            if (claims.getExpiration() == null
+                    || !TOKEN_TYPE_ACCESS.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+                return Optional.empty();
+            }
+            return Optional.of(Long.parseLong(claims.getSubject()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      */
@@ -80,19 +109,7 @@ public class JwtTokenService {
      * @return 유효한 access 토큰이면 true
      */
     public boolean validateToken(String token) {
-        if (!StringUtils.hasText(token)) {
-            return false;
-        }
-
-        try {
-            Claims claims = getClaims(token);
-            String tokenType = claims.get(TOKEN_TYPE_CLAIM, String.class);
-            return TOKEN_TYPE_ACCESS.equals(tokenType);
-        } catch (ExpiredJwtException e) {
-            return false;
-        } catch (JwtException e) {
-            return false;
-        }
+        return verifyAccessToken(token).isPresent();
     }
 
     /**
@@ -120,10 +137,6 @@ public class JwtTokenService {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -3,6 +3,7 @@ package com.nexters.sseotdabwa.domain.auth.service;
 import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,7 @@ public class KakaoOAuthService {
 
     private static final Duration API_TIMEOUT = Duration.ofSeconds(5);
 
+    @Qualifier("kakaoWebClient")
     private final WebClient webClient;
 
     @Value("${oauth.kakao.user-info-url}")
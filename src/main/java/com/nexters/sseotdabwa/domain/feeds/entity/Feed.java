@@ -15,13 +15,32 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 인덱스 설계 (피드 타임라인: WHERE report_status = NONE [AND feed_status] [AND category] ORDER BY id DESC)
+ * - 등치 조건 컬럼 뒤에 id 를 두어, 커서(id < ?) 범위 스캔 결과가 그대로 id 역순이 되도록 한다. (filesort 없음)
+ * - feed_status 필터 유무 / category 필터 유무 조합마다 인덱스를 하나씩 둔다.
+ * - category 가 여러 개(IN)면 값마다 범위가 따로 생겨 id 역순이 유지되지 않는다.
+ *   (report_status, …, id) 인덱스를 역순으로 읽으며 category 를 거르거나 filesort 하게 된다.
+ * - 차단 사용자 NOT EXISTS 는 인덱스 스캔 중 row 필터로 처리된다.
+ * - (feed_status, created_at) 은 마감 스케줄러의 만료 피드 조회용
+ */
 @Entity
-@Table(name = "feeds")
+@Table(
+        name = "feeds",
+        indexes = {
+                @Index(name = "idx_feeds_report_status_id", columnList = "report_status, id"),
+                @Index(name = "idx_feeds_report_status_feed_status_id", columnList = "report_status, feed_status, id"),
+                @Index(name = "idx_feeds_category_report_status_id", columnList = "category, report_status, id"),
+                @Index(name = "idx_feeds_category_report_status_feed_status_id",
+                        columnList = "category, report_status, feed_status, id"),
+                @Index(name = "idx_feeds_feed_status_created_at", columnList = "feed_status, created_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Feed extends BaseEntity {
 
-    private static final long VOTE_DEADLINE_HOURS = 48;
+    public static final long VOTE_DEADLINE_HOURS = 48;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
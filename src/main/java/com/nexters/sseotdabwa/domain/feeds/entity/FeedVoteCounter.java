@@ -0,0 +1,60 @@
+package com.nexters.sseotdabwa.domain.feeds.entity;
+
+import com.nexters.sseotdabwa.common.entity.BaseEntity;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피드 투표 카운트 샤드
+ *
+ * 정책:
+ * - 피드당 N개의 샤드 row 를 두고, 투표는 임의의 샤드 하나만 증가시킨다. (hot feed 쓰기 경합 분산)
+ * - 실제 카운트 = Feed.yesCount/noCount + 샤드 합계
+ * - 주기적으로 샤드 값을 Feed 로 접어 넣고(compaction) 0으로 초기화한다.
+ */
+@Entity
+@Table(
+        name = "feed_vote_counters",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_feed_vote_counters_feed_shard", columnNames = {"feed_id", "shard"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedVoteCounter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "feed_id", nullable = false)
+    private Feed feed;
+
+    @Column(nullable = false)
+    private Integer shard;
+
+    @Column(nullable = false)
+    private Long yesCount;
+
+    @Column(nullable = false)
+    private Long noCount;
+
+    @Builder
+    public FeedVoteCounter(Feed feed, Integer shard) {
+        this.feed = feed;
+        this.shard = shard;
+        this.yesCount = 0L;
+        this.noCount = 0L;
+    }
+
+    public void reset() {
+        this.yesCount = 0L;
+        this.noCount = 0L;
+    }
+}
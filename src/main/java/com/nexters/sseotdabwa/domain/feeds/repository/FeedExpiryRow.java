@@ -0,0 +1,11 @@
+package com.nexters.sseotdabwa.domain.feeds.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 타이밍 휠 재적재용 OPEN 피드 (JPQL constructor projection)
+ */
+public record FeedExpiryRow(
+        Long feedId,
+        LocalDateTime createdAt
+) {}
@@ -27,4 +27,16 @@ public interface FeedImageRepository extends JpaRepository<FeedImage, Long> {
         order by fi.id asc
     """)
     List<FeedImage> findByFeedIds(@Param("feedIds") List<Long> feedIds);
+
+    /**
+     * 피드 목록용 이미지 조회 (엔티티 대신 필요한 컬럼만)
+     */
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRow(
+            fi.feed.id, fi.s3ObjectKey, fi.imageWidth, fi.imageHeight)
+        from FeedImage fi
+        where fi.feed.id in :feedIds
+        order by fi.id asc
+    """)
+    List<FeedImageRow> findRowsByFeedIds(@Param("feedIds") List<Long> feedIds);
 }
@@ -0,0 +1,11 @@
+package com.nexters.sseotdabwa.domain.feeds.repository;
+
+/**
+ * 피드 이미지 (JPQL constructor projection, 엔티티 로딩 없음)
+ */
+public record FeedImageRow(
+        Long feedId,
+        String s3ObjectKey,
+        Integer imageWidth,
+        Integer imageHeight
+) {}
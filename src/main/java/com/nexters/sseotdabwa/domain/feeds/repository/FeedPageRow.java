@@ -0,0 +1,29 @@
+package com.nexters.sseotdabwa.domain.feeds.repository;
+
+import java.time.LocalDateTime;
+
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
+
+/**
+ * 피드 목록 한 행 (JPQL constructor projection, 엔티티 로딩 없음)
+ * - 투표 수는 Feed 컬럼 + 샤드 합계
+ * - myChoice 는 조회자의 투표 (비로그인/미투표 시 null)
+ */
+public record FeedPageRow(
+        Long feedId,
+        String content,
+        Long price,
+        FeedCategory category,
+        FeedStatus feedStatus,
+        LocalDateTime createdAt,
+        String link,
+        String title,
+        Long yesCount,
+        Long noCount,
+        Long authorId,
+        String authorNickname,
+        String authorProfileImage,
+        VoteChoice myChoice
+) {}
@@ -2,13 +2,13 @@ package com.nexters.sseotdabwa.domain.feeds.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
@@ -17,27 +17,88 @@ import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
 import com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface FeedRepository extends JpaRepository<Feed, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT f FROM Feed f WHERE f.id = :feedId")
-    Optional<Feed> findByIdWithPessimisticLock(@Param("feedId") Long feedId);
+    /**
+     * 투표 카운트 원자적 증가 (행 락을 선점하지 않는 조건부 UPDATE)
+     * - OPEN 이면서 createdAt >= openedAfter(= now - 48h) 인 경우에만 반영
+     * - 반영된 row 수(0 또는 1) 반환
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Feed f
+        set f.yesCount = f.yesCount + 1
+        where f.id = :feedId
+          and f.feedStatus = com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus.OPEN
+          and f.createdAt >= :openedAfter
+    """)
+    int incrementYesCountIfOpen(@Param("feedId") Long feedId, @Param("openedAfter") LocalDateTime openedAfter);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Feed f
+        set f.noCount = f.noCount + 1
+        where f.id = :feedId
+          and f.feedStatus = com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus.OPEN
+          and f.createdAt >= :openedAfter
+    """)
+    int incrementNoCountIfOpen(@Param("feedId") Long feedId, @Param("openedAfter") LocalDateTime openedAfter);
+
+    /**
+     * 샤드 카운트 compaction: 샤드 합계를 Feed 카운트에 더한다.
+     */
+    @Modifying
+    @Query("""
+        update Feed f
+        set f.yesCount = f.yesCount + :yesDelta,
+            f.noCount = f.noCount + :noDelta
+        where f.id = :feedId
+    """)
+    int addVoteCounts(
+            @Param("feedId") Long feedId,
+            @Param("yesDelta") long yesDelta,
+            @Param("noDelta") long noDelta);
+
+    /**
+     * 피드 컬럼에 반영된 투표 수만 조회 (엔티티 로딩 없이)
+     */
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.feeds.repository.FeedVoteCounterSum(f.id, f.yesCount, f.noCount)
+        from Feed f
+        where f.id in :feedIds
+    """)
+    List<FeedVoteCounterSum> findVoteCountsByIds(@Param("feedIds") List<Long> feedIds);
+
+    // 마감 알림 생성용: 작성자까지 함께 조회 (작성자 N+1 방지)
+    @Query("""
+        SELECT f FROM Feed f
+        JOIN FETCH f.user
+        WHERE f.id IN :feedIds
+    """)
+    List<Feed> findAllWithUserByIdIn(@Param("feedIds") List<Long> feedIds);
+
+    /**
+     * 투표 가능(OPEN 이면서 createdAt >= openedAfter) 여부 (잠금 없는 일관된 읽기)
+     */
+    boolean existsByIdAndFeedStatusAndCreatedAtGreaterThanEqual(Long id, FeedStatus feedStatus, LocalDateTime openedAfter);
 
     List<Feed> findByUserId(Long userId);
 
     void deleteByUserId(Long userId);
 
     // ===== 커서 기반 피드 목록 조회 (전체 공개 피드) =====
+    // reportStatus 는 NOT IN (DELETED, REPORTED) 대신 = NONE 으로 비교한다. (결과 동일)
+    // 범위 조건이 아닌 등치 조건이어야 Feed 의 (…, report_status, [feed_status,] id) 인덱스를 id 역순으로 그대로 읽을 수 있다.
+    // 응답에 작성자 닉네임/프로필 이미지가 포함되므로 목록 조회는 모두 user 를 fetch join 한다. (작성자 N+1 방지)
 
     @Query("""
         SELECT f FROM Feed f
+        JOIN FETCH f.user
         WHERE (:cursorId IS NULL OR f.id < :cursorId)
           AND (:feedStatus IS NULL OR f.feedStatus = :feedStatus)
-          AND f.reportStatus NOT IN (
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.DELETED,
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.REPORTED
-          )
+          AND f.reportStatus = com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.NONE
         ORDER BY f.id DESC
     """)
     List<Feed> findFeedsWithCursor(
@@ -47,13 +108,11 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
 
     @Query("""
         SELECT f FROM Feed f
+        JOIN FETCH f.user
         WHERE (:cursorId IS NULL OR f.id < :cursorId)
           AND (:feedStatus IS NULL OR f.feedStatus = :feedStatus)
           AND f.category IN :categories
-          AND f.reportStatus NOT IN (
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.DELETED,
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.REPORTED
-          )
+          AND f.reportStatus = com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.NONE
         ORDER BY f.id DESC
     """)
     List<Feed> findFeedsWithCursorByCategories(
@@ -62,48 +121,68 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
             @Param("categories") List<FeedCategory> categories,
             Pageable pageable);
 
-    // ===== 커서 기반 피드 목록 조회 (특정 유저 제외) =====
+    // ===== 피드 목록 read model (DTO projection) =====
+    // 피드/작성자/투표 수/조회자 투표를 한 번의 SELECT 로 조회한다. (엔티티 hydration, dirty checking 스냅샷 없음)
+    // - 차단 사용자는 excludeBlocked = true 일 때 NOT EXISTS anti-join, 조회자 투표는 (user_id, feed_id) unique 인덱스로 LEFT JOIN
+    // - viewerId 가 null 이면 차단/투표 조건은 모두 매칭되지 않는다.
 
     @Query("""
-        SELECT f FROM Feed f
-        WHERE (:cursorId IS NULL OR f.id < :cursorId)
-          AND (:feedStatus IS NULL OR f.feedStatus = :feedStatus)
-          AND f.reportStatus NOT IN (
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.DELETED,
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.REPORTED
-          )
-          AND f.user.id NOT IN :excludedUserIds
-        ORDER BY f.id DESC
+        select new com.nexters.sseotdabwa.domain.feeds.repository.FeedPageRow(
+            f.id, f.content, f.price, f.category, f.feedStatus, f.createdAt, f.link, f.title,
+            f.yesCount + coalesce((select sum(c.yesCount) from FeedVoteCounter c where c.feed = f), 0L),
+            f.noCount + coalesce((select sum(c.noCount) from FeedVoteCounter c where c.feed = f), 0L),
+            u.id, u.nickname, u.profileImage,
+            vl.choice)
+        from Feed f
+        join f.user u
+        left join VoteLog vl on vl.feed = f and vl.user.id = :viewerId
+        where (:cursorId is null or f.id < :cursorId)
+          and (:feedStatus is null or f.feedStatus = :feedStatus)
+          and f.reportStatus = com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.NONE
+          and (:excludeBlocked = false or not exists (
+              select ub.id from UserBlock ub
+              where ub.user.id = :viewerId and ub.blockedUser = u))
+        order by f.id desc
     """)
-    List<Feed> findFeedsWithCursorExcludingUsers(
+    List<FeedPageRow> findPageRowsWithCursor(
+            @Param("viewerId") Long viewerId,
+            @Param("excludeBlocked") boolean excludeBlocked,
             @Param("cursorId") Long cursorId,
             @Param("feedStatus") FeedStatus feedStatus,
-            @Param("excludedUserIds") List<Long> excludedUserIds,
             Pageable pageable);
 
     @Query("""
-        SELECT f FROM Feed f
-        WHERE (:cursorId IS NULL OR f.id < :cursorId)
-          AND (:feedStatus IS NULL OR f.feedStatus = :feedStatus)
-          AND f.category IN :categories
-          AND f.reportStatus NOT IN (
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.DELETED,
-              com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.REPORTED
-          )
-          AND f.user.id NOT IN :excludedUserIds
-        ORDER BY f.id DESC
+        select new com.nexters.sseotdabwa.domain.feeds.repository.FeedPageRow(
+            f.id, f.content, f.price, f.category, f.feedStatus, f.createdAt, f.link, f.title,
+            f.yesCount + coalesce((select sum(c.yesCount) from FeedVoteCounter c where c.feed = f), 0L),
+            f.noCount + coalesce((select sum(c.noCount) from FeedVoteCounter c where c.feed = f), 0L),
+            u.id, u.nickname, u.profileImage,
+            vl.choice)
+        from Feed f
+        join f.user u
+        left join VoteLog vl on vl.feed = f and vl.user.id = :viewerId
+        where (:cursorId is null or f.id < :cursorId)
+          and (:feedStatus is null or f.feedStatus = :feedStatus)
+          and f.category in :categories
+          and f.reportStatus = com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus.NONE
+          and (:excludeBlocked = false or not exists (
+              select ub.id from UserBlock ub
+              where ub.user.id = :viewerId and ub.blockedUser = u))
+        order by f.id desc
     """)
-    List<Feed> findFeedsWithCursorExcludingUsersByCategories(
+    List<FeedPageRow> findPageRowsWithCursorByCategories(
+            @Param("viewerId") Long viewerId,
+            @Param("excludeBlocked") boolean excludeBlocked,
             @Param("cursorId") Long cursorId,
             @Param("feedStatus") FeedStatus feedStatus,
             @Param("categories") List<FeedCategory> categories,
-            @Param("excludedUserIds") List<Long> excludedUserIds,
             Pageable pageable);
 
     // ===== 내 피드 커서 기반 조회 =====
 
     @Query("""
         SELECT f FROM Feed f
+        JOIN FETCH f.user
         WHERE f.user.id = :userId
           AND (:cursorId IS NULL OR f.id < :cursorId)
           AND (:feedStatus IS NULL OR f.feedStatus = :feedStatus)
@@ -117,6 +196,7 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
 
     @Query("""
         SELECT f FROM Feed f
+        JOIN FETCH f.user
         WHERE f.user.id = :userId
           AND (:cursorId IS NULL OR f.id < :cursorId)
           AND (:feedStatus IS NULL OR f.feedStatus = :feedStatus)
@@ -152,6 +232,81 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
             @Param("excludedReportStatuses") List<ReportStatus> excludedReportStatuses
     );
 
+    /**
+     * 마감 대상 피드를 keyset(createdAt, id) 순으로 chunk 선점 조회
+     * - FOR UPDATE SKIP LOCKED: 다른 워커/인스턴스가 선점 중인 피드는 기다리지 않고 건너뛴다. (lock.timeout = -2)
+     * - idx_feeds_feed_status_created_at 순서 그대로 읽으므로 backlog 가 커도 filesort 없음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select f
+        from Feed f
+        where f.feedStatus = com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus.OPEN
+          and f.createdAt <= :cutoff
+          and f.reportStatus not in :excludedReportStatuses
+          and (:afterId is null
+               or f.createdAt > :afterCreatedAt
+               or (f.createdAt = :afterCreatedAt and f.id > :afterId))
+        order by f.createdAt, f.id
+    """)
+    List<Feed> findExpiredOpenFeedsForUpdateSkipLocked(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("excludedReportStatuses") List<ReportStatus> excludedReportStatuses,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * 마감 대상 피드 수 (backlog 지표)
+     */
+    @Query("""
+        select count(f)
+        from Feed f
+        where f.feedStatus = com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus.OPEN
+          and f.createdAt <= :cutoff
+          and f.reportStatus not in :excludedReportStatuses
+    """)
+    long countExpiredOpenFeeds(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("excludedReportStatuses") List<ReportStatus> excludedReportStatuses
+    );
+
+    /**
+     * 후보 feedId 중 마감 대상만 선점 조회 (마감 타이머용)
+     * - 모든 인스턴스의 타이머가 같은 OPEN 피드를 들고 있으므로, SKIP LOCKED 로 먼저 선점한 인스턴스만 마감/알림을 처리한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select f
+        from Feed f
+        where f.id in :feedIds
+          and f.feedStatus = com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus.OPEN
+          and f.createdAt <= :cutoff
+          and f.reportStatus not in :excludedReportStatuses
+    """)
+    List<Feed> findExpiredOpenFeedsInForUpdateSkipLocked(
+            @Param("feedIds") List<Long> feedIds,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("excludedReportStatuses") List<ReportStatus> excludedReportStatuses
+    );
+
+    /**
+     * 마감 타이머 재적재용 OPEN 피드의 생성 시각 조회
+     * - idx_feeds_feed_status_created_at 범위 스캔
+     */
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.feeds.repository.FeedExpiryRow(f.id, f.createdAt)
+        from Feed f
+        where f.feedStatus = com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus.OPEN
+          and f.reportStatus not in :excludedReportStatuses
+    """)
+    List<FeedExpiryRow> findOpenFeedExpiryRows(
+            @Param("excludedReportStatuses") List<ReportStatus> excludedReportStatuses
+    );
+
     /**
      * feedId 대상만 bulk CLOSED 처리
      */
@@ -0,0 +1,80 @@
+package com.nexters.sseotdabwa.domain.feeds.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.entity.FeedVoteCounter;
+
+import jakarta.persistence.LockModeType;
+
+public interface FeedVoteCounterRepository extends JpaRepository<FeedVoteCounter, Long> {
+
+    boolean existsByFeedId(Long feedId);
+
+    /**
+     * 샤드 하나의 YES 카운트 증가
+     * - feeds 를 서브쿼리로 읽지 않는다. (UPDATE 안의 서브쿼리는 REPEATABLE READ 에서 feeds row 에 S 락을 잡아,
+     *   마감 워커의 FOR UPDATE SKIP LOCKED 가 투표가 몰리는 피드를 계속 건너뛰게 된다)
+     * - 투표 가능 여부는 FeedVoteCounterService 가 잠금 없는 조회로 먼저 확인한다.
+     */
+    @Modifying
+    @Query("""
+        update FeedVoteCounter c
+        set c.yesCount = c.yesCount + 1
+        where c.feed.id = :feedId
+          and c.shard = :shard
+    """)
+    int incrementYes(@Param("feedId") Long feedId, @Param("shard") int shard);
+
+    @Modifying
+    @Query("""
+        update FeedVoteCounter c
+        set c.noCount = c.noCount + 1
+        where c.feed.id = :feedId
+          and c.shard = :shard
+    """)
+    int incrementNo(@Param("feedId") Long feedId, @Param("shard") int shard);
+
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.feeds.repository.FeedVoteCounterSum(
+            c.feed.id, sum(c.yesCount), sum(c.noCount))
+        from FeedVoteCounter c
+        where c.feed.id in :feedIds
+        group by c.feed.id
+    """)
+    List<FeedVoteCounterSum> sumByFeedIds(@Param("feedIds") List<Long> feedIds);
+
+    /**
+     * compaction 대상 feedId (아직 Feed 로 접히지 않은 카운트가 남아 있는 피드)
+     */
+    @Query("""
+        select distinct c.feed.id
+        from FeedVoteCounter c
+        where c.yesCount > 0 or c.noCount > 0
+    """)
+    List<Long> findFeedIdsWithPendingCounts();
+
+    /**
+     * 마감된 피드의 샤드 (compaction 후 정리 대상)
+     */
+    @Query("""
+        select distinct c.feed.id
+        from FeedVoteCounter c
+        where c.feed.feedStatus = com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus.CLOSED
+    """)
+    List<Long> findFeedIdsOfClosedFeeds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from FeedVoteCounter c where c.feed.id = :feedId")
+    List<FeedVoteCounter> findAllByFeedIdForUpdate(@Param("feedId") Long feedId);
+
+    void deleteByFeed(Feed feed);
+
+    void deleteByFeedIn(List<Feed> feeds);
+}
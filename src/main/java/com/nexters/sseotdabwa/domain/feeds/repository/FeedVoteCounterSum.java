@@ -0,0 +1,11 @@
+package com.nexters.sseotdabwa.domain.feeds.repository;
+
+/**
+ * 피드별 투표 카운트 (JPQL constructor projection)
+ * - 샤드 합계 또는 Feed 컬럼 값
+ */
+public record FeedVoteCounterSum(
+        Long feedId,
+        Long yesCount,
+        Long noCount
+) {}
@@ -0,0 +1,144 @@
+package com.nexters.sseotdabwa.domain.feeds.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.nexters.sseotdabwa.common.config.FeedCloseProperties;
+import com.nexters.sseotdabwa.common.scheduling.LeaderElection;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCloseChunk;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCloseCursor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 피드 chunk 마감 작업 (feed.close.chunked=true 일 때 FeedScheduler 가 사용)
+ * - 워커(workers 개)가 각자 keyset 커서로 chunkSize 씩 선점(SKIP LOCKED)해 마감하고 chunk 마다 커밋한다.
+ *   다른 워커/인스턴스가 선점 중인 피드는 건너뛰므로 여러 워커와 인스턴스가 같은 backlog 를 나눠 처리한다.
+ * - 커밋된 chunk 는 바로 onClosed(타임라인 반영 + 알림 생성)로 넘긴다.
+ * - chunk 트랜잭션마다 스케줄러 리더 lease 를 확인해, 리더를 잃은 인스턴스는 다음 chunk 를 마감하지 않는다.
+ * - 지표: feed_close.backlog(실행 시작 시점 마감 대상 수), feed_close.chunk(chunk 마감 트랜잭션 소요 시간)
+ */
+@Slf4j
+@Component
+public class FeedCloseJob {
+
+    private final FeedService feedService;
+    private final FeedCloseProperties properties;
+    private final LeaderElection leaderElection;
+    private final Environment environment;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer chunkTimer;
+    private final Counter closedFeeds;
+
+    public FeedCloseJob(
+            FeedService feedService,
+            FeedCloseProperties properties,
+            LeaderElection leaderElection,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        this.feedService = feedService;
+        this.properties = properties;
+        this.leaderElection = leaderElection;
+        this.environment = environment;
+
+        Gauge.builder("feed_close.backlog", backlog, AtomicLong::get)
+                .description("마감 대상(48시간이 지난 OPEN) 피드 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("feed_close.chunk")
+                .description("만료 피드 chunk 선점 + 마감 트랜잭션 소요 시간")
+                .register(meterRegistry);
+        this.closedFeeds = Counter.builder("feed_close.closed").register(meterRegistry);
+    }
+
+    public boolean isChunked() {
+        return properties.chunked();
+    }
+
+    /**
+     * backlog 가 빌 때까지 chunk 단위로 마감한다.
+     * @return 이번 실행에서 마감된 피드 수
+     */
+    public int run(Consumer<List<Long>> onClosed) {
+        long backlogSize = feedService.countExpiredOpenFeeds();
+        backlog.set(backlogSize);
+        if (backlogSize == 0) {
+            return 0;
+        }
+
+        int chunkSize = Math.max(1, properties.chunkSize());
+        int workers = (int) Math.max(1, Math.min(properties.workers(), Math.ceilDiv(backlogSize, chunkSize)));
+        log.info("만료 피드 chunk 마감 시작. backlog={}, chunkSize={}, workers={}", backlogSize, chunkSize, workers);
+
+        int closed = 0;
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threadFactory())) {
+            List<Future<Integer>> results = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(() -> drain(chunkSize, onClosed)));
+            }
+            for (Future<Integer> result : results) {
+                try {
+                    closed += result.get();
+                } catch (ExecutionException e) {
+                    log.error("만료 피드 chunk 마감 워커 오류", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        backlog.set(Math.max(0, backlogSize - closed));
+        return closed;
+    }
+
+    /**
+     * 선점할 피드가 없을 때까지 chunk 를 마감한다. (워커 하나)
+     */
+    private int drain(int chunkSize, Consumer<List<Long>> onClosed) {
+        FeedCloseCursor cursor = FeedCloseCursor.first();
+        int closed = 0;
+        while (true) {
+            Timer.Sample sample = Timer.start();
+            FeedCloseCursor after = cursor;
+            FeedCloseChunk chunk = leaderElection.callFenced(() -> feedService.closeExpiredChunk(after, chunkSize));
+            sample.stop(chunkTimer);
+            if (chunk.isEmpty()) {
+                return closed;
+            }
+
+            closed += chunk.closedFeedIds().size();
+            closedFeeds.increment(chunk.closedFeedIds().size());
+            cursor = chunk.next();
+            try {
+                onClosed.accept(chunk.closedFeedIds());
+            } catch (Exception e) {
+                // 마감은 이미 커밋됨 → 알림 실패로 다음 chunk 마감을 멈추지 않는다.
+                log.error("마감 피드 후처리 실패 feedIds={}", chunk.closedFeedIds(), e);
+            }
+        }
+    }
+
+    private ThreadFactory threadFactory() {
+        return Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("feed-close-", 0).factory()
+                : Thread.ofPlatform().daemon().name("feed-close-", 0).factory();
+    }
+}
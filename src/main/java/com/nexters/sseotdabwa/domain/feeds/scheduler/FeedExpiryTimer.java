@@ -0,0 +1,208 @@
+package com.nexters.sseotdabwa.domain.feeds.scheduler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.nexters.sseotdabwa.common.config.FeedExpiryProperties;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedExpiryRow;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 피드 마감 타이머
+ * - 기동 시 OPEN 피드의 마감 시각을 DB 에서 읽어 타이밍 휠에 적재하고, 이후 생성되는 피드는 register() 로 추가한다.
+ * - 전용 스레드가 tickMillis 마다 휠을 진행해, 같은 tick 에 마감 시각이 지난 피드를 closeFeedsByIds 한 번으로 마감한다.
+ * - 휠은 인스턴스 메모리에만 있으므로 다른 인스턴스에서 생성된 피드나 마감 실패 건은 FeedScheduler 의 주기 스캔이 마감한다.
+ */
+@Slf4j
+@Component
+public class FeedExpiryTimer implements SmartLifecycle {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final FeedService feedService;
+    private final FeedScheduler feedScheduler;
+    private final FeedExpiryProperties properties;
+    private final Environment environment;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Counter closedFeeds;
+
+    private FeedExpiryWheel wheel;
+    // 등록 시점에 이미 마감 시각이 지난 피드 (다음 tick 에 마감)
+    private List<Long> overdue = new ArrayList<>();
+    private volatile boolean running;
+    private Thread ticker;
+
+    public FeedExpiryTimer(
+            FeedService feedService,
+            FeedScheduler feedScheduler,
+            FeedExpiryProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        this.feedService = feedService;
+        this.feedScheduler = feedScheduler;
+        this.properties = properties;
+        this.environment = environment;
+
+        Gauge.builder("feed_expiry.scheduled", this, FeedExpiryTimer::scheduledCount)
+                .description("타이밍 휠에서 마감을 기다리는 피드 수")
+                .register(meterRegistry);
+        this.closedFeeds = Counter.builder("feed_expiry.closed").register(meterRegistry);
+    }
+
+    /**
+     * 새로 생성된 피드의 마감 시각을 등록한다. (타이머가 꺼져 있으면 무시)
+     * - 트랜잭션 커밋 전에 등록돼도 마감 시각(48시간 후)에는 커밋이 끝나 있고, 롤백됐다면 마감 UPDATE 가 0건이다.
+     */
+    public void register(Feed feed) {
+        if (!running || feed.getId() == null || feed.getVoteClosedAt() == null) {
+            return;
+        }
+        schedule(feed.getId(), toEpochMillis(feed.getVoteClosedAt()));
+    }
+
+    /**
+     * 휠을 nowMillis 로 진행하고, 마감 시각이 지난 피드를 마감한다.
+     * @return 실제로 마감된 피드 수
+     */
+    int tick(long nowMillis) {
+        List<Long> due;
+        lock.lock();
+        try {
+            due = wheel.advance(nowMillis);
+            if (!overdue.isEmpty()) {
+                due.addAll(overdue);
+                overdue = new ArrayList<>();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> closedFeedIds = feedService.closeExpiredFeedsAndReturnIds(due);
+        if (closedFeedIds.isEmpty()) {
+            return 0;
+        }
+        log.info("마감 시각 도달 피드 {} 건 마감 처리 완료. feedIds={}", closedFeedIds.size(), closedFeedIds);
+        closedFeeds.increment(closedFeedIds.size());
+        feedScheduler.onFeedsClosed(closedFeedIds);
+        return closedFeedIds.size();
+    }
+
+    private void schedule(long feedId, long deadlineMillis) {
+        lock.lock();
+        try {
+            if (!wheel.schedule(feedId, deadlineMillis)) {
+                overdue.add(feedId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rehydrate() {
+        List<FeedExpiryRow> openFeeds = feedService.findOpenFeedExpiryRows();
+        for (FeedExpiryRow row : openFeeds) {
+            schedule(row.feedId(), toEpochMillis(row.createdAt().plusHours(Feed.VOTE_DEADLINE_HOURS)));
+        }
+        log.info("피드 마감 타이머 재적재 완료. openFeeds={}", openFeeds.size());
+    }
+
+    private void runTickLoop() {
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.tickMillis()));
+            if (!running) {
+                break;
+            }
+            try {
+                tick(System.currentTimeMillis());
+            } catch (Exception e) {
+                // 마감하지 못한 피드는 FeedScheduler 주기 스캔이 다시 마감한다.
+                log.error("피드 마감 타이머 tick 오류", e);
+            }
+        }
+    }
+
+    private int scheduledCount() {
+        lock.lock();
+        try {
+            return wheel == null ? 0 : wheel.size() + overdue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // ========================
+    // SmartLifecycle
+    // ========================
+
+    @Override
+    public void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+        lock.lock();
+        try {
+            wheel = new FeedExpiryWheel(properties.tickMillis(), properties.wheelSize(), System.currentTimeMillis());
+            overdue = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        // 재적재 중 생성되는 피드도 놓치지 않도록 먼저 running 으로 전환
+        running = true;
+        rehydrate();
+
+        Thread.Builder builder = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("feed-expiry")
+                : Thread.ofPlatform().daemon().name("feed-expiry");
+        ticker = builder.start(this::runTickLoop);
+        log.info("피드 마감 타이머 시작. tickMillis={}, wheelSize={}", properties.tickMillis(), properties.wheelSize());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (ticker != null) {
+            // 대기 중이면 바로 깨우고, 진행 중인 마감 처리는 끝까지 수행 (interrupt 로 JDBC 호출을 끊지 않음)
+            LockSupport.unpark(ticker);
+            try {
+                ticker.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ticker = null;
+        }
+        log.info("피드 마감 타이머 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,126 @@
+package com.nexters.sseotdabwa.domain.feeds.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 피드 마감 시각을 보관하는 계층형 타이밍 휠
+ * - 0단계는 tickMillis 칸 wheelSize 개, 윗 단계는 아랫 단계 한 바퀴를 한 칸으로 쓴다. (필요할 때 생성)
+ * - 윗 단계 칸의 시각이 되면 그 칸의 피드를 아랫 단계로 내려 보내고, 0단계에서 시각이 지난 피드를 반환한다.
+ * - 등록/진행 모두 O(1) (진행은 단계별 wheelSize 칸 확인)
+ * - 마감 시각은 tick 단위로 올림해서 보관하므로 마감 시각 전에 반환되지 않는다. (최대 한 tick 늦음)
+ * - thread-safe 하지 않다. (FeedExpiryTimer 가 lock 으로 보호)
+ */
+class FeedExpiryWheel {
+
+    private static final long EMPTY = -1L;
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level> levels = new ArrayList<>();
+    private int size;
+
+    private record Entry(long feedId, long deadlineMillis) {}
+
+    FeedExpiryWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels.add(new Level(tickMillis, startMillis));
+    }
+
+    /**
+     * @return false 면 이미 마감 시각이 지나 등록하지 않음 (바로 마감 대상)
+     */
+    boolean schedule(long feedId, long deadlineMillis) {
+        long roundedUp = Math.ceilDiv(deadlineMillis, tickMillis) * tickMillis;
+        if (!place(new Entry(feedId, roundedUp))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * 시각을 nowMillis 로 진행하고, 마감 시각이 지난 feedId 를 반환한다.
+     */
+    List<Long> advance(long nowMillis) {
+        List<Entry> flushed = new ArrayList<>();
+        for (Level level : levels) {
+            level.advance(nowMillis, flushed);
+        }
+
+        List<Long> due = new ArrayList<>();
+        for (Entry entry : flushed) {
+            if (!place(entry)) {
+                due.add(entry.feedId());
+                size--;
+            }
+        }
+        return due;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 마감 시각이 들어가는 가장 낮은 단계의 칸에 넣는다.
+     */
+    private boolean place(Entry entry) {
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level top = levels.get(i - 1);
+                levels.add(new Level(top.interval, top.currentTime));
+            }
+            Level level = levels.get(i);
+            if (i == 0 && entry.deadlineMillis() < level.currentTime + level.tickMillis) {
+                return false;
+            }
+            if (entry.deadlineMillis() < level.currentTime + level.interval) {
+                level.add(entry);
+                return true;
+            }
+        }
+    }
+
+    private class Level {
+
+        private final long tickMillis;
+        private final long interval;
+        private final long[] expirations = new long[wheelSize];
+        private final List<List<Entry>> buckets = new ArrayList<>(wheelSize);
+        private long currentTime;
+
+        Level(long tickMillis, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.interval = tickMillis * wheelSize;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            for (int i = 0; i < wheelSize; i++) {
+                expirations[i] = EMPTY;
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        void add(Entry entry) {
+            long virtualId = entry.deadlineMillis() / tickMillis;
+            int index = (int) (virtualId % wheelSize);
+            buckets.get(index).add(entry);
+            expirations[index] = virtualId * tickMillis;
+        }
+
+        void advance(long nowMillis, List<Entry> flushed) {
+            long aligned = nowMillis - (nowMillis % tickMillis);
+            if (aligned <= currentTime) {
+                return;
+            }
+            currentTime = aligned;
+            for (int i = 0; i < wheelSize; i++) {
+                if (expirations[i] != EMPTY && expirations[i] <= currentTime) {
+                    flushed.addAll(buckets.get(i));
+                    buckets.get(i).clear();
+                    expirations[i] = EMPTY;
+                }
+            }
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.nexters.sseotdabwa.domain.feeds.scheduler;
 import java.util.List;
 
 import com.nexters.sseotdabwa.api.notifications.facade.NotificationFacade;
+import com.nexters.sseotdabwa.common.scheduling.LeaderElection;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedTimeline;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,24 +20,49 @@ public class FeedScheduler {
 
     private final FeedService feedService;
     private final NotificationFacade notificationFacade;
+    private final PublicFeedTimeline publicFeedTimeline;
+    private final FeedCloseJob feedCloseJob;
+    private final LeaderElection leaderElection;
 
     /**
      * 10분마다 만료된 피드를 마감하고, 마감된 피드에 대한 알림을 생성한다.
+     * - 마감 시각 단위 마감은 FeedExpiryTimer 가 처리하고, 이 스캔은 타이머가 놓친 피드를 마감하는 안전망이다.
+     * - feed.close.chunked=true 면 chunk 단위로 선점/커밋하며 병렬 마감한다. (FeedCloseJob)
+     * - 여러 인스턴스 중 스케줄러 리더만 실행하고, 마감 트랜잭션은 리더 lease 를 확인한 뒤 커밋한다. (LeaderElection)
      *
      * 흐름:
      * - 만료 OPEN 피드 feedId 조회
      * - bulk CLOSED
+     * - 공개 타임라인 캐시에 마감 반영
      * - feedId 기반 알림 생성 + 푸시
      */
     @Scheduled(fixedRate = 600_000)
     public void closeExpiredFeeds() {
-        List<Long> closedFeedIds = feedService.closeExpiredFeedsAndReturnIds();
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+
+        if (feedCloseJob.isChunked()) {
+            int closed = feedCloseJob.run(this::onFeedsClosed);
+            log.info("만료 피드 chunk 마감 완료. closed={}", closed);
+            return;
+        }
+
+        List<Long> closedFeedIds = leaderElection.callFenced(() -> feedService.closeExpiredFeedsAndReturnIds());
         if (closedFeedIds.isEmpty()) {
             log.info("만료 피드 없음");
             return;
         }
 
         log.info("만료 피드 {} 건 마감 처리 완료. feedIds={}", closedFeedIds.size(), closedFeedIds);
+        onFeedsClosed(closedFeedIds);
+    }
+
+    /**
+     * 마감된 피드를 공개 타임라인 캐시에 반영하고 알림을 생성한다. (주기 스캔/마감 타이머 공통)
+     */
+    void onFeedsClosed(List<Long> closedFeedIds) {
+        publicFeedTimeline.onFeedsClosed(closedFeedIds);
 
         // 알림 생성/푸시는 내부에서 처리
         notificationFacade.onFeedsClosed(closedFeedIds);
@@ -0,0 +1,53 @@
+package com.nexters.sseotdabwa.domain.feeds.scheduler;
+
+import java.util.List;
+
+import com.nexters.sseotdabwa.common.scheduling.LeaderElection;
+import com.nexters.sseotdabwa.common.scheduling.LeadershipLostException;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedVoteCounterScheduler {
+
+    private final FeedVoteCounterService feedVoteCounterService;
+    private final LeaderElection leaderElection;
+
+    /**
+     * 1분마다 투표 카운트 샤드를 Feed 로 접어 넣는다.
+     * - 피드 단위로 트랜잭션을 나눠, 한 피드의 실패가 다른 피드의 compaction 을 막지 않게 한다.
+     * - 스케줄러 리더만 실행하고, 리더를 잃으면 남은 피드는 새 리더에게 맡긴다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void compactVoteCounters() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+
+        List<Long> feedIds = feedVoteCounterService.findFeedIdsToCompact();
+        if (feedIds.isEmpty()) {
+            return;
+        }
+
+        int failed = 0;
+        for (Long feedId : feedIds) {
+            try {
+                leaderElection.runFenced(() -> feedVoteCounterService.compact(feedId));
+            } catch (LeadershipLostException e) {
+                log.warn("스케줄러 리더를 잃어 투표 카운트 compaction 중단. 남은 피드는 새 리더가 처리");
+                return;
+            } catch (Exception e) {
+                failed++;
+                log.warn("투표 카운트 compaction 실패 feedId={}", feedId, e);
+            }
+        }
+        log.info("투표 카운트 compaction 완료. 대상={}건, 실패={}건", feedIds.size(), failed);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRepository;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRow;
 import com.nexters.sseotdabwa.domain.feeds.service.command.FeedImageCreateInfo;
 
 import org.springframework.stereotype.Service;
@@ -55,4 +56,14 @@ public class FeedImageService {
     public List<FeedImage> findByFeedIds(List<Long> feedIds) {
         return feedImageRepository.findByFeedIds(feedIds);
     }
+
+    /**
+     * 피드 목록용 이미지 (id 오름차순, 엔티티 로딩 없음)
+     */
+    public List<FeedImageRow> findRowsByFeedIds(List<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return List.of();
+        }
+        return feedImageRepository.findRowsByFeedIds(feedIds);
+    }
 }
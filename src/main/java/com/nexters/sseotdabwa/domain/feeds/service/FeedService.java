@@ -12,12 +12,19 @@ import com.nexters.sseotdabwa.domain.feeds.enums.ReportStatus;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.common.validation.UrlValidator;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedExpiryRow;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedPageRow;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCloseChunk;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCloseCursor;
 import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCreateCommand;
+import com.nexters.sseotdabwa.domain.users.block.BlockedUserIds;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -37,6 +44,9 @@ public class FeedService {
     private static final int MAX_CONTENT_LENGTH = 100;
     private static final int MAX_TITLE_LENGTH = 40;
     private static final int MAX_LINK_LENGTH = 500;
+    // 차단 수가 이 이하면 차단 조건 없이 조회 후 메모리에서 걸러낸다. (초과 시 SQL anti-join)
+    private static final int POST_FILTER_MAX_BLOCKED = 20;
+    private static final int POST_FILTER_MAX_ROUNDS = 3;
 
     private static final UrlValidator URL_VALIDATOR = new UrlValidator();
 
@@ -131,24 +141,61 @@ public class FeedService {
     }
 
     public List<Feed> findAllExceptDeletedWithCursor(Long cursor, int size, FeedStatus feedStatus, List<FeedCategory> categories) {
-        return findAllExceptDeletedWithCursor(cursor, size, feedStatus, categories, Collections.emptyList());
-    }
-
-    public List<Feed> findAllExceptDeletedWithCursor(Long cursor, int size, FeedStatus feedStatus, List<FeedCategory> categories, List<Long> excludedUserIds) {
         Pageable pageable = PageRequest.ofSize(size + 1);
-        boolean hasExcluded = excludedUserIds != null && !excludedUserIds.isEmpty();
-        boolean hasCategories = categories != null && !categories.isEmpty();
-
-        if (!hasExcluded && !hasCategories) {
+        if (categories == null || categories.isEmpty()) {
             return feedRepository.findFeedsWithCursor(cursor, feedStatus, pageable);
         }
-        if (!hasExcluded) {
-            return feedRepository.findFeedsWithCursorByCategories(cursor, feedStatus, categories, pageable);
+        return feedRepository.findFeedsWithCursorByCategories(cursor, feedStatus, categories, pageable);
+    }
+
+    /**
+     * 피드 목록 read model 조회 (size + 1 개까지)
+     * - 차단 없음: 차단 조건 없이 조회
+     * - 차단 POST_FILTER_MAX_BLOCKED 명 이하: 차단 수만큼 더 읽어 메모리에서 제외 (부족하면 커서를 이어 최대 POST_FILTER_MAX_ROUNDS 회)
+     * - 그 이상이거나 post-filter 로 채우지 못하면: SQL NOT EXISTS anti-join
+     * @param viewerId 조회자 id (비로그인 시 null → 내 투표 없음)
+     */
+    public List<FeedPageRow> findPageRowsWithCursor(Long viewerId, BlockedUserIds blockedUserIds, Long cursor, int size,
+                                                    FeedStatus feedStatus, List<FeedCategory> categories) {
+        int limit = size + 1;
+        if (blockedUserIds.isEmpty()) {
+            return findPageRows(viewerId, false, cursor, limit, feedStatus, categories);
         }
-        if (!hasCategories) {
-            return feedRepository.findFeedsWithCursorExcludingUsers(cursor, feedStatus, excludedUserIds, pageable);
+        if (blockedUserIds.size() > POST_FILTER_MAX_BLOCKED) {
+            return findPageRows(viewerId, true, cursor, limit, feedStatus, categories);
         }
-        return feedRepository.findFeedsWithCursorExcludingUsersByCategories(cursor, feedStatus, categories, excludedUserIds, pageable);
+
+        List<FeedPageRow> result = new ArrayList<>(limit);
+        int fetchSize = limit + blockedUserIds.size();
+        Long nextCursor = cursor;
+        for (int round = 0; round < POST_FILTER_MAX_ROUNDS; round++) {
+            List<FeedPageRow> rows = findPageRows(viewerId, false, nextCursor, fetchSize, feedStatus, categories);
+            for (FeedPageRow row : rows) {
+                if (!blockedUserIds.contains(row.authorId())) {
+                    result.add(row);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+            if (rows.size() < fetchSize) {
+                return result;
+            }
+            nextCursor = rows.get(rows.size() - 1).feedId();
+        }
+
+        // 차단한 사용자의 피드가 몰려 있는 구간은 anti-join 으로 나머지를 채운다.
+        result.addAll(findPageRows(viewerId, true, nextCursor, limit - result.size(), feedStatus, categories));
+        return result;
+    }
+
+    private List<FeedPageRow> findPageRows(Long viewerId, boolean excludeBlocked, Long cursor, int limit,
+                                           FeedStatus feedStatus, List<FeedCategory> categories) {
+        Pageable pageable = PageRequest.ofSize(limit);
+        if (categories == null || categories.isEmpty()) {
+            return feedRepository.findPageRowsWithCursor(viewerId, excludeBlocked, cursor, feedStatus, pageable);
+        }
+        return feedRepository.findPageRowsWithCursorByCategories(viewerId, excludeBlocked, cursor, feedStatus, categories, pageable);
     }
 
     public List<Feed> findByUserIdWithCursor(Long userId, Long cursor, int size, FeedStatus feedStatus, List<FeedCategory> categories) {
@@ -169,10 +216,20 @@ public class FeedService {
         feed.report();
     }
 
+    /**
+     * 투표 카운트 원자적 증가
+     * - 비관적 락 없이 조건부 UPDATE 한 번으로 "투표 가능 여부 검증 + 증가"를 처리한다.
+     * - 마감(CLOSED)되었거나 48시간이 지난 피드면 반영되지 않는다.
+     * - UPDATE 이후 영속성 컨텍스트가 비워지므로, 최신 카운트는 findById로 다시 조회한다.
+     * @return 증가가 반영되었으면 true
+     */
     @Transactional
-    public Feed findByIdWithLock(Long feedId) {
-        return feedRepository.findByIdWithPessimisticLock(feedId)
-                .orElseThrow(() -> new GlobalException(FeedErrorCode.FEED_NOT_FOUND));
+    public boolean incrementVoteCountIfOpen(Long feedId, VoteChoice choice) {
+        LocalDateTime openedAfter = LocalDateTime.now().minusHours(Feed.VOTE_DEADLINE_HOURS);
+        int updated = (choice == VoteChoice.YES)
+                ? feedRepository.incrementYesCountIfOpen(feedId, openedAfter)
+                : feedRepository.incrementNoCountIfOpen(feedId, openedAfter);
+        return updated > 0;
     }
 
     /**
@@ -182,7 +239,7 @@ public class FeedService {
     @Transactional
     public List<Long> closeExpiredFeedsAndReturnIds() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime cutoff = now.minusHours(48);
+        LocalDateTime cutoff = now.minusHours(Feed.VOTE_DEADLINE_HOURS);
 
         List<ReportStatus> excluded = Arrays.asList(ReportStatus.DELETED);
 
@@ -195,6 +252,66 @@ public class FeedService {
         return feedIds;
     }
 
+    /**
+     * 만료된 OPEN 피드를 커서 이후부터 최대 chunkSize 개 선점(SKIP LOCKED)해 CLOSED 로 전환한다.
+     * - chunk 마다 별도 트랜잭션으로 커밋되므로 backlog 가 커도 트랜잭션/락 범위가 chunk 크기로 제한된다.
+     */
+    @Transactional
+    public FeedCloseChunk closeExpiredChunk(FeedCloseCursor after, int chunkSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusHours(Feed.VOTE_DEADLINE_HOURS);
+
+        List<Feed> claimed = feedRepository.findExpiredOpenFeedsForUpdateSkipLocked(
+                cutoff, Arrays.asList(ReportStatus.DELETED), after.createdAt(), after.id(), PageRequest.of(0, chunkSize));
+        if (claimed.isEmpty()) {
+            return new FeedCloseChunk(Collections.emptyList(), after);
+        }
+
+        List<Long> feedIds = claimed.stream().map(Feed::getId).toList();
+        feedRepository.closeFeedsByIds(feedIds, now);
+
+        Feed last = claimed.get(claimed.size() - 1);
+        return new FeedCloseChunk(feedIds, new FeedCloseCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * 마감 대상(48시간이 지난 OPEN) 피드 수
+     */
+    public long countExpiredOpenFeeds() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(Feed.VOTE_DEADLINE_HOURS);
+        return feedRepository.countExpiredOpenFeeds(cutoff, Arrays.asList(ReportStatus.DELETED));
+    }
+
+    /**
+     * 후보 feedId 중 만료된 OPEN 피드만 CLOSED 로 전환하고, 마감된 feedId 리스트를 반환한다. (마감 타이머용)
+     * - 선점(SKIP LOCKED)한 피드만 마감하므로 여러 인스턴스의 타이머가 같은 피드를 중복 마감/알림하지 않는다.
+     */
+    @Transactional
+    public List<Long> closeExpiredFeedsAndReturnIds(List<Long> candidateFeedIds) {
+        if (candidateFeedIds == null || candidateFeedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusHours(Feed.VOTE_DEADLINE_HOURS);
+
+        List<Feed> claimed = feedRepository.findExpiredOpenFeedsInForUpdateSkipLocked(
+                candidateFeedIds, cutoff, Arrays.asList(ReportStatus.DELETED));
+        if (claimed.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> feedIds = claimed.stream().map(Feed::getId).toList();
+        feedRepository.closeFeedsByIds(feedIds, now);
+        return feedIds;
+    }
+
+    /**
+     * 마감 전(OPEN) 피드의 생성 시각 목록 (마감 타이머 재적재용)
+     */
+    public List<FeedExpiryRow> findOpenFeedExpiryRows() {
+        return feedRepository.findOpenFeedExpiryRows(Arrays.asList(ReportStatus.DELETED));
+    }
+
     @Transactional(readOnly = true)
     public List<Feed> findByIds(List<Long> feedIds) {
         if (feedIds == null || feedIds.isEmpty()) {
@@ -202,4 +319,11 @@ public class FeedService {
         }
         return feedRepository.findAllById(feedIds);
     }
+
+    public List<Feed> findByIdsWithUser(List<Long> feedIds) {
+        if (feedIds == null || feedIds.isEmpty()) {
+            return List.of();
+        }
+        return feedRepository.findAllWithUserByIdIn(feedIds);
+    }
 }
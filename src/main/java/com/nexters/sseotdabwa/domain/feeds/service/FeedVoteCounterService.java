@@ -0,0 +1,181 @@
+package com.nexters.sseotdabwa.domain.feeds.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.entity.FeedVoteCounter;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedVoteCounterRepository;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedVoteCounterSum;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 투표 카운트 샤드 서비스
+ * - 투표 증가를 피드당 SHARD_COUNT 개의 row 로 분산해 hot feed 의 쓰기 경합을 줄인다.
+ * - 조회 시에는 Feed 컬럼 + 샤드 합계를 더한 값을 사용한다.
+ *
+ * 정책:
+ * - 샤드는 피드 생성 시 함께 만든다. 샤드가 없는 피드(도입 이전 피드)는 feeds row 직접 증가 경로를 사용한다.
+ * - 샤드 값은 FeedVoteCounterScheduler 가 주기적으로 Feed 로 접어 넣는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedVoteCounterService {
+
+    static final int SHARD_COUNT = 8;
+
+    private final FeedVoteCounterRepository feedVoteCounterRepository;
+    private final FeedRepository feedRepository;
+
+    /**
+     * 피드 생성 시 샤드 row 초기화
+     */
+    @Transactional
+    public void initialize(Feed feed) {
+        List<FeedVoteCounter> shards = IntStream.range(0, SHARD_COUNT)
+                .mapToObj(shard -> FeedVoteCounter.builder()
+                        .feed(feed)
+                        .shard(shard)
+                        .build())
+                .toList();
+        feedVoteCounterRepository.saveAll(shards);
+    }
+
+    public boolean hasShards(Long feedId) {
+        return feedVoteCounterRepository.existsByFeedId(feedId);
+    }
+
+    /**
+     * 피드가 투표 가능하면 임의의 샤드 하나를 증가시킨다.
+     * - 투표 가능 여부는 잠금 없는 조회로 확인하고, feeds row 는 잠그지 않는다. (마감 워커의 SKIP LOCKED 선점을 막지 않음)
+     * - 확인과 증가 사이에 마감되면 그 투표는 샤드에 남아 compaction 으로 마감된 피드 카운트에 합쳐진다.
+     *   만료 마감은 createdAt + 48h 이후에만 일어나고 확인도 같은 기준이므로, 겹치는 구간은 마감 시각 경계뿐이다.
+     * @return 반영되었으면 true (마감/만료되었거나 샤드가 없으면 false)
+     */
+    @Transactional
+    public boolean incrementIfOpen(Long feedId, VoteChoice choice) {
+        LocalDateTime openedAfter = LocalDateTime.now().minusHours(Feed.VOTE_DEADLINE_HOURS);
+        if (!feedRepository.existsByIdAndFeedStatusAndCreatedAtGreaterThanEqual(feedId, FeedStatus.OPEN, openedAfter)) {
+            return false;
+        }
+        int shard = ThreadLocalRandom.current().nextInt(SHARD_COUNT);
+        int updated = (choice == VoteChoice.YES)
+                ? feedVoteCounterRepository.incrementYes(feedId, shard)
+                : feedVoteCounterRepository.incrementNo(feedId, shard);
+        return updated > 0;
+    }
+
+    /**
+     * 단건 집계 카운트
+     */
+    public FeedVoteCount getCount(Feed feed) {
+        return getCounts(List.of(feed)).get(feed.getId());
+    }
+
+    /**
+     * 다건 집계 카운트 (샤드 합계는 한 번의 group by 쿼리로 조회)
+     * @return feedId -> 집계 카운트
+     */
+    public Map<Long, FeedVoteCount> getCounts(List<Feed> feeds) {
+        if (feeds == null || feeds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> feedIds = feeds.stream().map(Feed::getId).toList();
+        Map<Long, FeedVoteCounterSum> sums = feedVoteCounterRepository.sumByFeedIds(feedIds).stream()
+                .collect(Collectors.toMap(FeedVoteCounterSum::feedId, Function.identity()));
+
+        return feeds.stream()
+                .collect(Collectors.toMap(Feed::getId, feed -> {
+                    FeedVoteCounterSum sum = sums.get(feed.getId());
+                    return sum == null
+                            ? FeedVoteCount.of(feed)
+                            : FeedVoteCount.of(feed, sum.yesCount(), sum.noCount());
+                }, (a, b) -> a));
+    }
+
+    /**
+     * feedId 만으로 집계 카운트 조회 (Feed 엔티티가 없는 캐시 경로용)
+     * @return feedId -> 집계 카운트 (존재하지 않는 피드는 제외)
+     */
+    public Map<Long, FeedVoteCount> getCountsByFeedIds(List<Long> feedIds) {
+        if (feedIds == null || feedIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, FeedVoteCounterSum> sums = feedVoteCounterRepository.sumByFeedIds(feedIds).stream()
+                .collect(Collectors.toMap(FeedVoteCounterSum::feedId, Function.identity()));
+
+        return feedRepository.findVoteCountsByIds(feedIds).stream()
+                .collect(Collectors.toMap(FeedVoteCounterSum::feedId, base -> {
+                    FeedVoteCounterSum sum = sums.get(base.feedId());
+                    long pendingYes = sum == null ? 0L : sum.yesCount();
+                    long pendingNo = sum == null ? 0L : sum.noCount();
+                    return new FeedVoteCount(base.yesCount() + pendingYes, base.noCount() + pendingNo);
+                }));
+    }
+
+    /**
+     * compaction 대상 feedId 목록
+     * - 아직 Feed 로 접히지 않은 카운트가 있는 피드
+     * - 마감되어 샤드를 정리해야 하는 피드
+     */
+    public List<Long> findFeedIdsToCompact() {
+        Set<Long> feedIds = new LinkedHashSet<>(feedVoteCounterRepository.findFeedIdsWithPendingCounts());
+        feedIds.addAll(feedVoteCounterRepository.findFeedIdsOfClosedFeeds());
+        return List.copyOf(feedIds);
+    }
+
+    /**
+     * 피드 하나의 샤드 값을 Feed 로 접어 넣는다.
+     * - 샤드 row 를 잠근 뒤 합산 → Feed 에 반영 → 샤드 초기화 (같은 트랜잭션)
+     * - 마감된 피드는 더 이상 투표가 없으므로 샤드를 삭제한다.
+     */
+    @Transactional
+    public void compact(Long feedId) {
+        List<FeedVoteCounter> shards = feedVoteCounterRepository.findAllByFeedIdForUpdate(feedId);
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        boolean closed = !shards.get(0).getFeed().isVoteOpen();
+
+        long yes = shards.stream().mapToLong(FeedVoteCounter::getYesCount).sum();
+        long no = shards.stream().mapToLong(FeedVoteCounter::getNoCount).sum();
+        if (yes > 0 || no > 0) {
+            feedRepository.addVoteCounts(feedId, yes, no);
+        }
+
+        if (closed) {
+            feedVoteCounterRepository.deleteAllInBatch(shards);
+            return;
+        }
+        shards.forEach(FeedVoteCounter::reset);
+    }
+
+    @Transactional
+    public void deleteByFeed(Feed feed) {
+        feedVoteCounterRepository.deleteByFeed(feed);
+    }
+
+    @Transactional
+    public void deleteByFeeds(List<Feed> feeds) {
+        feedVoteCounterRepository.deleteByFeedIn(feeds);
+    }
+}
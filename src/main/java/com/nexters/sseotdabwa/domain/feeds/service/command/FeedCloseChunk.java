@@ -0,0 +1,18 @@
+package com.nexters.sseotdabwa.domain.feeds.service.command;
+
+import java.util.List;
+
+/**
+ * 만료 피드 chunk 하나의 마감 결과
+ * - closedFeedIds: 이번 chunk 에서 마감된 feedId
+ * - next: 다음 chunk 조회 커서
+ */
+public record FeedCloseChunk(
+        List<Long> closedFeedIds,
+        FeedCloseCursor next
+) {
+
+    public boolean isEmpty() {
+        return closedFeedIds.isEmpty();
+    }
+}
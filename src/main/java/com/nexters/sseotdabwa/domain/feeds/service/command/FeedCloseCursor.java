@@ -0,0 +1,17 @@
+package com.nexters.sseotdabwa.domain.feeds.service.command;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 피드 chunk 마감의 keyset 커서 (createdAt, id 순)
+ * - id 가 null 이면 처음부터
+ */
+public record FeedCloseCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    public static FeedCloseCursor first() {
+        return new FeedCloseCursor(null, null);
+    }
+}
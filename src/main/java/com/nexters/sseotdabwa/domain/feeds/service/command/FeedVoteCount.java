@@ -0,0 +1,26 @@
+package com.nexters.sseotdabwa.domain.feeds.service.command;
+
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+
+/**
+ * 피드의 집계된 투표 수 (Feed 컬럼 + 아직 compaction 되지 않은 샤드 합계)
+ */
+public record FeedVoteCount(
+        long yesCount,
+        long noCount
+) {
+
+    public static FeedVoteCount of(Feed feed, long pendingYes, long pendingNo) {
+        long yes = feed.getYesCount() == null ? 0L : feed.getYesCount();
+        long no = feed.getNoCount() == null ? 0L : feed.getNoCount();
+        return new FeedVoteCount(yes + pendingYes, no + pendingNo);
+    }
+
+    public static FeedVoteCount of(Feed feed) {
+        return of(feed, 0L, 0L);
+    }
+
+    public long totalCount() {
+        return yesCount + noCount;
+    }
+}
@@ -0,0 +1,87 @@
+package com.nexters.sseotdabwa.domain.feeds.timeline;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedImageCreateInfo;
+
+/**
+ * 공개 타임라인에 보관하는 피드 스냅샷 (엔티티와 분리된 불변 값)
+ * - 투표 수는 자주 바뀌므로 보관하지 않고, 응답 시 PublicFeedTimeline 의 카운트 뷰에서 채운다.
+ */
+public record PublicFeedSnapshot(
+        Long feedId,
+        String content,
+        Long price,
+        FeedCategory category,
+        FeedStatus feedStatus,
+        LocalDateTime createdAt,
+        String link,
+        String title,
+        Long authorId,
+        String authorNickname,
+        String authorProfileImage,
+        List<Image> images
+) {
+
+    public record Image(
+            String s3ObjectKey,
+            Integer imageWidth,
+            Integer imageHeight
+    ) {}
+
+    /**
+     * @param feedImages id 오름차순 이미지 목록
+     */
+    public static PublicFeedSnapshot of(Feed feed, List<FeedImage> feedImages) {
+        List<Image> images = feedImages.stream()
+                .map(fi -> new Image(fi.getS3ObjectKey(), fi.getImageWidth(), fi.getImageHeight()))
+                .toList();
+        return of(feed, images);
+    }
+
+    /**
+     * 피드 생성 직후 (저장된 이미지 엔티티 대신 생성 요청 정보 사용)
+     */
+    public static PublicFeedSnapshot ofCreated(Feed feed, List<FeedImageCreateInfo> imageInfos) {
+        List<Image> images = imageInfos.stream()
+                .map(info -> new Image(info.s3ObjectKey(), info.imageWidth(), info.imageHeight()))
+                .toList();
+        return of(feed, images);
+    }
+
+    private static PublicFeedSnapshot of(Feed feed, List<Image> images) {
+        return new PublicFeedSnapshot(
+                feed.getId(),
+                feed.getContent(),
+                feed.getPrice(),
+                feed.getCategory(),
+                feed.getFeedStatus(),
+                feed.getCreatedAt(),
+                feed.getLink(),
+                feed.getTitle(),
+                feed.getUser().getId(),
+                feed.getUser().getNickname(),
+                feed.getUser().getProfileImage(),
+                images
+        );
+    }
+
+    public Image firstImage() {
+        return images.isEmpty() ? null : images.get(0);
+    }
+
+    PublicFeedSnapshot withFeedStatus(FeedStatus feedStatus) {
+        return new PublicFeedSnapshot(feedId, content, price, category, feedStatus, createdAt, link, title,
+                authorId, authorNickname, authorProfileImage, images);
+    }
+
+    PublicFeedSnapshot withAuthor(String nickname, String profileImage) {
+        return new PublicFeedSnapshot(feedId, content, price, category, feedStatus, createdAt, link, title,
+                authorId, nickname, profileImage, images);
+    }
+}
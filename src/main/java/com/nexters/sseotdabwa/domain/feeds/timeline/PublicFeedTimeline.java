@@ -0,0 +1,398 @@
+package com.nexters.sseotdabwa.domain.feeds.timeline;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexters.sseotdabwa.common.config.PublicFeedTimelineProperties;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedImageService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비로그인 피드 목록용 공개 타임라인 (메모리 materialized view)
+ * - (feedStatus, category) 슬라이스마다 공개 피드(reportStatus = NONE) 중 최신 sliceSize 개를 id 역순으로 유지한다.
+ * - 슬라이스는 처음 요청될 때 DB 에서 채우고, 이후에는 피드 생성/삭제/신고/마감 이벤트로 증분 갱신한다.
+ * - 적재 후 sliceMaxAgeMillis 가 지난 슬라이스는 다음 요청에서 DB 에서 다시 적재한다.
+ * - 투표 수는 스냅샷에 두지 않고 countTtlMillis 짜리 카운트 뷰에서 채운다.
+ *
+ * 정책:
+ * - 요청 페이지가 슬라이스 범위 안에서 정확히 결정될 때만 메모리에서 응답한다.
+ *   (잘린 슬라이스의 가장 오래된 id 보다 더 과거까지 내려가야 하면 Optional.empty → 호출 측이 DB 조회)
+ * - 이벤트는 트랜잭션 커밋 이후에 반영한다. 슬라이스 적재 중 이벤트가 들어오면 적재 결과는 설치하지 않는다.
+ * - 증분 갱신은 이벤트를 처리한 인스턴스에만 반영되므로, 다른 인스턴스의 변경(생성/삭제/신고/마감)은
+ *   슬라이스 재적재 시점, 즉 sliceMaxAgeMillis 이내에 반영된다.
+ */
+@Slf4j
+@Component
+public class PublicFeedTimeline {
+
+    private static final int SLICE_COUNT = FeedStatus.values().length * FeedCategory.values().length;
+
+    private final PublicFeedTimelineProperties properties;
+    private final FeedService feedService;
+    private final FeedImageService feedImageService;
+    private final FeedVoteCounterService feedVoteCounterService;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final Clock clock;
+
+    private final Map<SliceKey, Slice> slices = new ConcurrentHashMap<>();
+    private final Map<Long, CachedCount> countView = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    public PublicFeedTimeline(
+            PublicFeedTimelineProperties properties,
+            FeedService feedService,
+            FeedImageService feedImageService,
+            FeedVoteCounterService feedVoteCounterService,
+            @Qualifier("requiresNewTransactionTemplate") TransactionTemplate requiresNewTransactionTemplate) {
+        this(properties, feedService, feedImageService, feedVoteCounterService, requiresNewTransactionTemplate,
+                Clock.systemUTC());
+    }
+
+    PublicFeedTimeline(
+            PublicFeedTimelineProperties properties,
+            FeedService feedService,
+            FeedImageService feedImageService,
+            FeedVoteCounterService feedVoteCounterService,
+            TransactionTemplate requiresNewTransactionTemplate,
+            Clock clock) {
+        this.properties = properties;
+        this.feedService = feedService;
+        this.feedImageService = feedImageService;
+        this.feedVoteCounterService = feedVoteCounterService;
+        this.requiresNewTransactionTemplate = requiresNewTransactionTemplate;
+        this.clock = clock;
+    }
+
+    private record SliceKey(FeedStatus feedStatus, FeedCategory category) {}
+
+    private static final class Slice {
+        private final NavigableMap<Long, PublicFeedSnapshot> entries =
+                new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        private final long loadedAtMillis;
+        private boolean truncated;
+
+        private Slice(long loadedAtMillis) {
+            this.loadedAtMillis = loadedAtMillis;
+        }
+
+        private Long floorId() {
+            return entries.isEmpty() ? null : entries.lastKey();
+        }
+    }
+
+    private record CachedCount(FeedVoteCount count, long loadedAtMillis) {}
+
+    // ========================
+    // 조회
+    // ========================
+
+    /**
+     * 커서 기반 페이지 조회 (FeedService.findAllExceptDeletedWithCursor 와 같은 의미)
+     * @return size + 1 개까지의 스냅샷 (id 역순). 메모리만으로 정확한 결과를 보장할 수 없으면 Optional.empty
+     */
+    public Optional<List<PublicFeedSnapshot>> findPage(Long cursor, int size, FeedStatus feedStatus, List<FeedCategory> categories) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+
+        List<SliceKey> keys = sliceKeys(feedStatus, categories);
+        long now = clock.millis();
+        List<SliceKey> missing = keys.stream().filter(key -> !isFresh(slices.get(key), now)).toList();
+        Map<SliceKey, Slice> loaded = missing.isEmpty() ? Map.of() : load(missing);
+
+        List<Slice> targets = new ArrayList<>(keys.size());
+        for (SliceKey key : keys) {
+            Slice slice = loaded.containsKey(key) ? loaded.get(key) : slices.get(key);
+            if (slice == null) {
+                // 확인 직후 이벤트로 슬라이스가 비워진 경우
+                return Optional.empty();
+            }
+            targets.add(slice);
+        }
+
+        int limit = size + 1;
+        lock.readLock().lock();
+        try {
+            List<PublicFeedSnapshot> rows = new ArrayList<>();
+            for (Slice slice : targets) {
+                Collection<PublicFeedSnapshot> candidates = (cursor == null)
+                        ? slice.entries.values()
+                        : slice.entries.tailMap(cursor, false).values();
+                candidates.stream().limit(limit).forEach(rows::add);
+            }
+            rows.sort(Comparator.comparing(PublicFeedSnapshot::feedId).reversed());
+            List<PublicFeedSnapshot> page = rows.size() > limit ? List.copyOf(rows.subList(0, limit)) : List.copyOf(rows);
+
+            // 잘린 슬라이스가 있으면, 그 슬라이스 밖(더 과거)의 피드가 이 페이지에 끼어들 수 없을 때만 응답
+            for (Slice slice : targets) {
+                if (!slice.truncated) {
+                    continue;
+                }
+                Long floor = slice.floorId();
+                if (floor == null || page.size() < limit || floor > page.get(page.size() - 1).feedId()) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 짧은 TTL 카운트 뷰에서 투표 수 조회 (만료/미적재 분만 한 번에 DB 조회)
+     */
+    public Map<Long, FeedVoteCount> getVoteCounts(List<Long> feedIds) {
+        long now = clock.millis();
+        Map<Long, FeedVoteCount> result = new HashMap<>();
+        List<Long> staleIds = new ArrayList<>();
+        for (Long feedId : feedIds) {
+            CachedCount cached = countView.get(feedId);
+            if (cached == null || now - cached.loadedAtMillis() > properties.countTtlMillis()) {
+                staleIds.add(feedId);
+            } else {
+                result.put(feedId, cached.count());
+            }
+        }
+
+        if (!staleIds.isEmpty()) {
+            trimCountView(now, staleIds.size());
+            feedVoteCounterService.getCountsByFeedIds(staleIds).forEach((feedId, count) -> {
+                countView.put(feedId, new CachedCount(count, now));
+                result.put(feedId, count);
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 슬라이스 밖으로 밀려난 피드의 카운트가 쌓이지 않도록, 새로 적재할 수만큼 자리를 만든다.
+     * - 전체를 비우면 모든 요청이 한꺼번에 DB 로 몰리므로, 만료된 카운트 → 가장 오래 적재된 카운트 순으로 필요한 만큼만 제거한다.
+     */
+    private void trimCountView(long now, int incoming) {
+        int maxEntries = properties.sliceSize() * SLICE_COUNT * 2;
+        if (countView.size() + incoming <= maxEntries) {
+            return;
+        }
+        countView.values().removeIf(cached -> now - cached.loadedAtMillis() > properties.countTtlMillis());
+
+        int overflow = countView.size() + incoming - maxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+        countView.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAtMillis()))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(countView::remove);
+    }
+
+    // ========================
+    // 증분 갱신 (커밋 이후 반영)
+    // ========================
+
+    public void onFeedCreated(PublicFeedSnapshot snapshot) {
+        afterCommit(() -> mutate(() -> insert(snapshot)));
+    }
+
+    public void onFeedsRemoved(Collection<Long> feedIds) {
+        afterCommit(() -> mutate(() -> {
+            feedIds.forEach(this::removeEverywhere);
+            feedIds.forEach(countView::remove);
+        }));
+    }
+
+    public void onAuthorRemoved(Long userId) {
+        afterCommit(() -> mutate(() -> slices.values().forEach(slice ->
+                slice.entries.values().removeIf(snapshot -> snapshot.authorId().equals(userId)))));
+    }
+
+    public void onAuthorUpdated(Long userId, String nickname, String profileImage) {
+        afterCommit(() -> mutate(() -> slices.values().forEach(slice ->
+                slice.entries.replaceAll((id, snapshot) -> snapshot.authorId().equals(userId)
+                        ? snapshot.withAuthor(nickname, profileImage)
+                        : snapshot))));
+    }
+
+    /**
+     * 마감된 피드를 OPEN 슬라이스에서 CLOSED 슬라이스로 옮긴다.
+     * - OPEN 슬라이스에 없던 피드(스냅샷이 없음)가 있으면 CLOSED 슬라이스를 비워 다음 요청 때 다시 적재한다.
+     */
+    public void onFeedsClosed(Collection<Long> feedIds) {
+        afterCommit(() -> mutate(() -> {
+            boolean missingSnapshot = false;
+            for (Long feedId : feedIds) {
+                PublicFeedSnapshot removed = removeEverywhere(feedId);
+                if (removed == null) {
+                    missingSnapshot = true;
+                    continue;
+                }
+                insert(removed.withFeedStatus(FeedStatus.CLOSED));
+            }
+            if (missingSnapshot) {
+                slices.keySet().removeIf(key -> key.feedStatus() == FeedStatus.CLOSED);
+            }
+        }));
+    }
+
+    private boolean isFresh(Slice slice, long now) {
+        return slice != null && now - slice.loadedAtMillis < properties.sliceMaxAgeMillis();
+    }
+
+    private void insert(PublicFeedSnapshot snapshot) {
+        Slice slice = slices.get(new SliceKey(snapshot.feedStatus(), snapshot.category()));
+        if (slice == null) {
+            return;
+        }
+        Long floor = slice.floorId();
+        if (slice.truncated && floor != null && snapshot.feedId() < floor) {
+            return;
+        }
+        slice.entries.put(snapshot.feedId(), snapshot);
+        trim(slice);
+    }
+
+    private PublicFeedSnapshot removeEverywhere(Long feedId) {
+        PublicFeedSnapshot removed = null;
+        for (Slice slice : slices.values()) {
+            PublicFeedSnapshot snapshot = slice.entries.remove(feedId);
+            if (snapshot != null) {
+                removed = snapshot;
+            }
+        }
+        return removed;
+    }
+
+    private void trim(Slice slice) {
+        while (slice.entries.size() > properties.sliceSize()) {
+            slice.entries.pollLastEntry();
+            slice.truncated = true;
+        }
+    }
+
+    private void mutate(Runnable mutation) {
+        if (!properties.enabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            version.incrementAndGet();
+            mutation.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // ========================
+    // 슬라이스 적재
+    // ========================
+
+    /**
+     * 비어 있거나 sliceMaxAgeMillis 가 지난 슬라이스들을 DB 에서 채운다.
+     * - 요청 트랜잭션의 스냅샷과 섞이지 않도록 별도 트랜잭션 하나에서 조회한다.
+     * - 조회 도중 이벤트가 반영되었다면(version 변경) 설치하지 않고 이번 요청에만 사용한다.
+     * - 동시에 다른 요청이 더 늦게 적재한 슬라이스를 설치했다면 그 슬라이스를 유지한다.
+     */
+    private Map<SliceKey, Slice> load(List<SliceKey> keys) {
+        long startVersion = version.get();
+        long loadedAtMillis = clock.millis();
+        Map<SliceKey, Slice> loaded = requiresNewTransactionTemplate.execute(status -> {
+            int sliceSize = properties.sliceSize();
+            Map<SliceKey, Slice> result = new HashMap<>();
+            for (SliceKey key : keys) {
+                List<Feed> feeds = feedService.findAllExceptDeletedWithCursor(
+                        null, sliceSize, key.feedStatus(), List.of(key.category()));
+
+                Slice slice = new Slice(loadedAtMillis);
+                slice.truncated = feeds.size() > sliceSize;
+                List<Feed> kept = slice.truncated ? feeds.subList(0, sliceSize) : feeds;
+
+                Map<Long, List<FeedImage>> imageMap = feedImageService.findByFeedIds(kept.stream().map(Feed::getId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(fi -> fi.getFeed().getId()));
+                for (Feed feed : kept) {
+                    slice.entries.put(feed.getId(), PublicFeedSnapshot.of(feed, imageMap.getOrDefault(feed.getId(), List.of())));
+                }
+                result.put(key, slice);
+            }
+            return result;
+        });
+
+        lock.writeLock().lock();
+        try {
+            if (version.get() == startVersion) {
+                loaded.forEach((key, slice) -> slices.merge(key, slice,
+                        (current, fresh) -> current.loadedAtMillis >= fresh.loadedAtMillis ? current : fresh));
+            } else {
+                log.debug("공개 타임라인 슬라이스 적재 중 변경 발생, 설치하지 않음: {}", keys);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return loaded;
+    }
+
+    private static List<SliceKey> sliceKeys(FeedStatus feedStatus, List<FeedCategory> categories) {
+        Set<FeedStatus> statuses = (feedStatus == null) ? Set.of(FeedStatus.values()) : Set.of(feedStatus);
+        List<FeedCategory> targetCategories = (categories == null || categories.isEmpty())
+                ? List.of(FeedCategory.values())
+                : categories.stream().distinct().toList();
+
+        List<SliceKey> keys = new ArrayList<>();
+        for (FeedStatus status : statuses) {
+            for (FeedCategory category : targetCategories) {
+                keys.add(new SliceKey(status, category));
+            }
+        }
+        return keys;
+    }
+
+    int sliceCount() {
+        return slices.size();
+    }
+}
@@ -74,9 +74,13 @@ public class Notification extends BaseEntity {
         this.readAt = null;
     }
 
-    public void markAsRead() {
-        if (this.isRead) return;
+    /**
+     * @return 이번 호출로 읽음 상태가 바뀌었으면 true (이미 읽은 알림이면 false)
+     */
+    public boolean markAsRead() {
+        if (this.isRead) return false;
         this.isRead = true;
         this.readAt = LocalDateTime.now();
+        return true;
     }
 }
@@ -0,0 +1,105 @@
+package com.nexters.sseotdabwa.domain.notifications.entity;
+
+import java.time.LocalDateTime;
+
+import com.nexters.sseotdabwa.common.entity.BaseEntity;
+import com.nexters.sseotdabwa.domain.notifications.enums.PushOutboxStatus;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 푸시 발송 outbox
+ * - Notification 과 같은 트랜잭션에서 저장되고, PushOutboxRelay 가 트랜잭션 밖에서 꺼내 발송한다.
+ * - 토큰/수신 여부는 발송 시점의 User 기준으로 판단하므로 notificationId 만 보관한다.
+ *   (알림/사용자 삭제를 막지 않도록 FK 를 두지 않음)
+ */
+@Entity
+@Table(
+        name = "push_outbox",
+        indexes = {
+                @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PushOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public PushOutbox(Long notificationId, LocalDateTime nextAttemptAt) {
+        this.notificationId = notificationId;
+        this.status = PushOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 발송 선점: 시도 횟수를 올리고, lease 가 끝날 때까지 다른 relay 가 가져가지 않게 한다.
+     * (발송 중 인스턴스가 죽으면 lease 이후 다시 발송됨 → at-least-once)
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = PushOutboxStatus.SENT;
+        this.lastError = null;
+    }
+
+    public void markSkipped(String reason) {
+        this.status = PushOutboxStatus.SKIPPED;
+        this.lastError = truncate(reason);
+    }
+
+    public void markDead(String reason) {
+        this.status = PushOutboxStatus.DEAD;
+        this.lastError = truncate(reason);
+    }
+
+    /**
+     * 재시도 예약 (maxAttempts 에 도달했으면 DEAD)
+     */
+    public void retryOrDie(String reason, int maxAttempts, LocalDateTime retryAt) {
+        if (attempts >= maxAttempts) {
+            markDead(reason);
+            return;
+        }
+        this.status = PushOutboxStatus.PENDING;
+        this.nextAttemptAt = retryAt;
+        this.lastError = truncate(reason);
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_ERROR_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,48 @@
+package com.nexters.sseotdabwa.domain.notifications.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 안 읽은 알림 수의 시간 bucket (사용자 × 생성 시각 1시간 단위)
+ * - bucket 이 통째로 30일 보관 기간을 지나면 정리 작업이 UnreadNotificationCounter 에서 차감하고 삭제한다.
+ *   (만료 반영은 최대 bucket 폭 + 정리 주기만큼 늦을 수 있음)
+ */
+@Entity
+@Table(
+        name = "unread_notification_buckets",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_unread_notification_buckets_user_bucket", columnNames = {"user_id", "bucket_start"})
+        },
+        indexes = {
+                @Index(name = "idx_unread_notification_buckets_bucket_start", columnList = "bucket_start")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnreadNotificationBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    public UnreadNotificationBucket(Long userId, LocalDateTime bucketStart, long unreadCount) {
+        this.userId = userId;
+        this.bucketStart = bucketStart;
+        this.unreadCount = unreadCount;
+    }
+}
@@ -0,0 +1,41 @@
+package com.nexters.sseotdabwa.domain.notifications.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 안 읽은 알림 수 (최근 30일)
+ *
+ * 정책:
+ * - 알림 생성/읽음 처리와 같은 트랜잭션에서 증감하고, 값은 항상 사용자의 UnreadNotificationBucket 합계와 같다.
+ * - 30일이 지난 알림은 bucket 단위로 만료되며 그만큼 차감된다.
+ * - 사용자 삭제를 막지 않도록 FK 를 두지 않는다.
+ */
+@Entity
+@Table(name = "unread_notification_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnreadNotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    public UnreadNotificationCounter(Long userId, long unreadCount) {
+        this.userId = userId;
+        this.unreadCount = unreadCount;
+    }
+
+    public void reset(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.nexters.sseotdabwa.domain.notifications.enums;
+
+/**
+ * 푸시 outbox 상태
+ * - PENDING: 발송 대기 (nextAttemptAt 이후 발송, 발송 중인 row 는 lease 만큼 미래로 밀려 있음)
+ * - SENT: 발송 완료
+ * - SKIPPED: 발송 대상 아님 (알림 삭제, 푸시 수신 off, 토큰 없음)
+ * - DEAD: 더 이상 재시도하지 않음 (최대 시도 초과, 만료/해지 토큰)
+ */
+public enum PushOutboxStatus {
+    PENDING,
+    SENT,
+    SKIPPED,
+    DEAD
+}
@@ -0,0 +1,30 @@
+package com.nexters.sseotdabwa.domain.notifications.push;
+
+import java.util.List;
+
+/**
+ * 배치 전송 결과
+ * @param successCount 전송 성공 수
+ * @param retryableMessages 일시적 오류로 실패해 다시 보낼 메시지 (제공자 장애, 할당량 초과 등)
+ * @param invalidTokenMessages 토큰이 만료/해지되어 다시 보내도 실패할 메시지 (토큰 정리 대상)
+ * @param rejectedMessages 메시지 자체가 거절되어 다시 보내도 실패할 메시지 (페이로드 오류 등, 토큰은 유지)
+ */
+public record FcmBatchResult(
+        int successCount,
+        List<PushMessage> retryableMessages,
+        List<PushMessage> invalidTokenMessages,
+        List<PushMessage> rejectedMessages
+) {
+
+    public static FcmBatchResult allSucceeded(int count) {
+        return new FcmBatchResult(count, List.of(), List.of(), List.of());
+    }
+
+    public static FcmBatchResult allFailed(List<PushMessage> messages) {
+        return new FcmBatchResult(0, List.copyOf(messages), List.of(), List.of());
+    }
+
+    public int failureCount() {
+        return retryableMessages.size() + invalidTokenMessages.size() + rejectedMessages.size();
+    }
+}
@@ -1,5 +1,6 @@
 package com.nexters.sseotdabwa.domain.notifications.push;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -10,4 +11,10 @@ import java.util.Map;
 public interface FcmSender {
 
     void send(String fcmToken, String title, String body, Map<String, String> data);
+
+    /**
+     * 여러 토큰에 한 번에 전송 (구현체가 제공자 배치 한도 단위로 나눠 보낸다)
+     * - best-effort: 예외를 던지지 않고 토큰별 실패는 결과로 돌려준다.
+     */
+    FcmBatchResult sendAll(List<PushMessage> messages);
 }
@@ -1,11 +1,18 @@
 package com.nexters.sseotdabwa.domain.notifications.push;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +24,8 @@ import org.springframework.stereotype.Component;
  * Firebase Admin SDK 기반 FCM Sender
  * - FirebaseApp Bean이 존재할 때만 등록된다.
  * - 그렇지 않으면 NoopFcmSender가 동작한다.
+ * - sendAll 은 sendEach 를 MAX_BATCH_SIZE(FCM 한도 500) 단위로 호출한다.
+ *   (SDK 가 묶음 안의 메시지를 병렬로 보내므로, 토큰마다 순차로 기다리지 않는다)
  */
 @Slf4j
 @Component
@@ -24,18 +33,25 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(prefix = "firebase", name = "enabled", havingValue = "true")
 public class FirebaseAdminFcmSender implements FcmSender {
 
+    static final int MAX_BATCH_SIZE = 500;
+
+    // 다시 보내도 실패하는 토큰 (앱 삭제/토큰 만료, 다른 프로젝트 토큰)
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = Set.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
+    // 다시 보내도 실패하지만 토큰 문제로 단정할 수 없는 오류
+    // (INVALID_ARGUMENT 는 잘못된 토큰뿐 아니라 페이로드 크기/필드 오류에도 오므로, 토큰은 지우지 않는다)
+    private static final Set<MessagingErrorCode> REJECTED_ERRORS = Set.of(
+            MessagingErrorCode.INVALID_ARGUMENT
+    );
+
     private final FirebaseApp firebaseApp;
 
     @Override
     public void send(String fcmToken, String title, String body, Map<String, String> data) {
-        Message message = Message.builder()
-                .setToken(fcmToken)
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build())
-                .putAllData(data == null ? Map.of() : data)
-                .build();
+        Message message = toMessage(fcmToken, title, body, data);
 
         try {
             String messageId = FirebaseMessaging.getInstance(firebaseApp).send(message);
@@ -46,6 +62,63 @@ public class FirebaseAdminFcmSender implements FcmSender {
         }
     }
 
+    @Override
+    public FcmBatchResult sendAll(List<PushMessage> messages) {
+        int successCount = 0;
+        List<PushMessage> retryableMessages = new ArrayList<>();
+        List<PushMessage> invalidTokenMessages = new ArrayList<>();
+        List<PushMessage> rejectedMessages = new ArrayList<>();
+
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            List<PushMessage> chunk = messages.subList(from, Math.min(from + MAX_BATCH_SIZE, messages.size()));
+            List<Message> fcmMessages = chunk.stream()
+                    .map(m -> toMessage(m.fcmToken(), m.title(), m.body(), m.data()))
+                    .toList();
+
+            try {
+                BatchResponse batchResponse = FirebaseMessaging.getInstance(firebaseApp).sendEach(fcmMessages);
+                List<SendResponse> responses = batchResponse.getResponses();
+                for (int i = 0; i < responses.size(); i++) {
+                    SendResponse response = responses.get(i);
+                    if (response.isSuccessful()) {
+                        successCount++;
+                        continue;
+                    }
+                    FirebaseMessagingException exception = response.getException();
+                    MessagingErrorCode errorCode = exception == null ? null : exception.getMessagingErrorCode();
+                    if (errorCode != null && INVALID_TOKEN_ERRORS.contains(errorCode)) {
+                        invalidTokenMessages.add(chunk.get(i));
+                    } else if (errorCode != null && REJECTED_ERRORS.contains(errorCode)) {
+                        rejectedMessages.add(chunk.get(i));
+                        log.warn("FCM message rejected. tokenPrefix={}, error={}",
+                                tokenPrefix(chunk.get(i).fcmToken()), exception.getMessage());
+                    } else {
+                        retryableMessages.add(chunk.get(i));
+                    }
+                }
+            } catch (Exception e) {
+                // 묶음 전체 실패(인증/네트워크 등): 이 묶음은 재시도 대상으로 두고 다음 묶음은 계속 보낸다
+                retryableMessages.addAll(chunk);
+                log.warn("FCM batch send failed. size={}", chunk.size(), e);
+            }
+        }
+
+        log.info("FCM batch sent. success={}, retryable={}, invalidTokens={}, rejected={}",
+                successCount, retryableMessages.size(), invalidTokenMessages.size(), rejectedMessages.size());
+        return new FcmBatchResult(successCount, retryableMessages, invalidTokenMessages, rejectedMessages);
+    }
+
+    private Message toMessage(String fcmToken, String title, String body, Map<String, String> data) {
+        return Message.builder()
+                .setToken(fcmToken)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .putAllData(data == null ? Map.of() : data)
+                .build();
+    }
+
     private String tokenPrefix(String token) {
         if (token == null) return "null";
         return token.length() <= 10 ? token : token.substring(0, 10) + "...";
@@ -1,5 +1,6 @@
 package com.nexters.sseotdabwa.domain.notifications.push;
 
+import java.util.List;
 import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,4 +21,10 @@ public class NoopFcmSender implements FcmSender {
     public void send(String fcmToken, String title, String body, Map<String, String> data) {
         log.info("[NOOP_FCM] token={}, title={}, body={}, data={}", fcmToken, title, body, data);
     }
+
+    @Override
+    public FcmBatchResult sendAll(List<PushMessage> messages) {
+        log.info("[NOOP_FCM] batch size={}", messages.size());
+        return FcmBatchResult.allSucceeded(messages.size());
+    }
 }
@@ -0,0 +1,15 @@
+package com.nexters.sseotdabwa.domain.notifications.push;
+
+import java.util.Map;
+
+/**
+ * 배치 전송 단위 푸시 메시지
+ * - userId 는 전송에 쓰지 않고, 실패한 토큰을 사용자와 매핑해 정리할 때 사용한다.
+ */
+public record PushMessage(
+        Long userId,
+        String fcmToken,
+        String title,
+        String body,
+        Map<String, String> data
+) {}
@@ -0,0 +1,200 @@
+package com.nexters.sseotdabwa.domain.notifications.push;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.nexters.sseotdabwa.common.config.PushOutboxProperties;
+import com.nexters.sseotdabwa.domain.notifications.service.PushOutboxService;
+import com.nexters.sseotdabwa.domain.notifications.service.command.PushOutboxClaim;
+import com.nexters.sseotdabwa.domain.users.service.UserService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 푸시 outbox relay
+ * - 전용 워커(workers 개)가 PENDING row 를 batchSize 씩 선점(SKIP LOCKED)해 FCM 배치로 발송한다.
+ *   DB 트랜잭션은 선점/결과 반영 구간에만 열리고, FCM 호출 동안에는 커넥션을 붙잡지 않는다.
+ * - 워커는 spring.threads.virtual.enabled=true 면 가상 스레드, 아니면 플랫폼 스레드로 뜬다.
+ * - 새 row 가 적재되면 wakeUp() 으로 깨우고, 그 외에는 pollIntervalMillis 마다 확인한다. (재시도 row 포함)
+ *
+ * 정책:
+ * - 일시적 실패는 지수 백오프로 재시도하고 maxAttempts 에 도달하면 DEAD.
+ * - 만료/해지 토큰은 재시도하지 않고 DEAD, 사용자 토큰도 지운다.
+ * - 메시지 자체가 거절되면(페이로드 오류 등) 재시도하지 않고 DEAD 로 두되, 토큰은 지우지 않는다.
+ * - 발송 중 인스턴스가 죽으면 lease 가 끝난 뒤 다시 발송된다. (at-least-once)
+ */
+@Slf4j
+@Component
+public class PushOutboxRelay implements SmartLifecycle {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final PushOutboxService pushOutboxService;
+    private final FcmSender fcmSender;
+    private final UserService userService;
+    private final PushOutboxProperties properties;
+    private final Environment environment;
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private final Counter sentMessages;
+    private final Counter retriedMessages;
+    private final Counter invalidTokenMessages;
+    private final Counter rejectedMessages;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public PushOutboxRelay(
+            PushOutboxService pushOutboxService,
+            FcmSender fcmSender,
+            UserService userService,
+            PushOutboxProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        this.pushOutboxService = pushOutboxService;
+        this.fcmSender = fcmSender;
+        this.userService = userService;
+        this.properties = properties;
+        this.environment = environment;
+
+        this.sentMessages = Counter.builder("push_outbox.sent").register(meterRegistry);
+        this.retriedMessages = Counter.builder("push_outbox.retried").register(meterRegistry);
+        this.invalidTokenMessages = Counter.builder("push_outbox.invalid_token").register(meterRegistry);
+        this.rejectedMessages = Counter.builder("push_outbox.rejected").register(meterRegistry);
+    }
+
+    /**
+     * 새 outbox row 가 커밋됐음을 알린다. (대기 중인 워커 하나를 바로 깨움)
+     */
+    public void wakeUp() {
+        if (running) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * 발송 차례인 row 를 한 묶음 선점해 발송하고 결과를 반영한다.
+     * @return 발송을 시도한 메시지 수 (0 이면 보낼 row 없음)
+     */
+    public int dispatchOnce() {
+        List<PushOutboxClaim> claims = pushOutboxService.claim(properties.batchSize());
+        if (claims.isEmpty()) {
+            return 0;
+        }
+
+        Map<PushMessage, Long> outboxIds = new IdentityHashMap<>();
+        List<PushMessage> messages = new ArrayList<>(claims.size());
+        for (PushOutboxClaim claim : claims) {
+            outboxIds.put(claim.message(), claim.outboxId());
+            messages.add(claim.message());
+        }
+
+        FcmBatchResult result;
+        try {
+            result = fcmSender.sendAll(messages);
+        } catch (Exception e) {
+            log.warn("FCM 배치 전송 실패, 전체 재시도 예약. size={}", messages.size(), e);
+            result = FcmBatchResult.allFailed(messages);
+        }
+
+        List<Long> retryIds = result.retryableMessages().stream().map(outboxIds::get).toList();
+        List<Long> invalidTokenIds = result.invalidTokenMessages().stream().map(outboxIds::get).toList();
+        List<Long> rejectedIds = result.rejectedMessages().stream().map(outboxIds::get).toList();
+        List<Long> sentIds = new ArrayList<>(outboxIds.values());
+        sentIds.removeAll(retryIds);
+        sentIds.removeAll(invalidTokenIds);
+        sentIds.removeAll(rejectedIds);
+
+        if (!result.invalidTokenMessages().isEmpty()) {
+            userService.clearFcmTokens(result.invalidTokenMessages().stream()
+                    .collect(Collectors.toMap(PushMessage::userId, PushMessage::fcmToken, (first, second) -> first)));
+        }
+        pushOutboxService.complete(sentIds, retryIds, invalidTokenIds, rejectedIds);
+
+        sentMessages.increment(sentIds.size());
+        retriedMessages.increment(retryIds.size());
+        invalidTokenMessages.increment(invalidTokenIds.size());
+        rejectedMessages.increment(rejectedIds.size());
+        return claims.size();
+    }
+
+    private void runDispatchLoop() {
+        while (running) {
+            try {
+                if (dispatchOnce() == 0) {
+                    wakeUps.tryAcquire(properties.pollIntervalMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("푸시 outbox relay 루프 오류", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(properties.pollIntervalMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================
+    // SmartLifecycle
+    // ========================
+
+    @Override
+    public void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+        running = true;
+        Thread.Builder builder = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("push-outbox-", 0)
+                : Thread.ofPlatform().daemon().name("push-outbox-", 0);
+        for (int i = 0; i < Math.max(1, properties.workers()); i++) {
+            workers.add(builder.start(this::runDispatchLoop));
+        }
+        log.info("푸시 outbox relay 시작. workers={}, batchSize={}, pollIntervalMillis={}",
+                workers.size(), properties.batchSize(), properties.pollIntervalMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUps.release(workers.size());
+        for (Thread worker : workers) {
+            try {
+                worker.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.clear();
+        log.info("푸시 outbox relay 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
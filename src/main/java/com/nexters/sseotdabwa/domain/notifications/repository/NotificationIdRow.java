@@ -0,0 +1,17 @@
+package com.nexters.sseotdabwa.domain.notifications.repository;
+
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+
+/**
+ * 일괄 생성 후 새 알림 id 를 (수신자, 타입) 과 매핑하기 위한 조회 결과
+ */
+public record NotificationIdRow(
+        Long id,
+        Long userId,
+        NotificationType type
+) {
+
+    public NotificationKey key() {
+        return new NotificationKey(userId, type);
+    }
+}
@@ -0,0 +1,19 @@
+package com.nexters.sseotdabwa.domain.notifications.repository;
+
+import java.time.LocalDateTime;
+
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+
+/**
+ * 알림함 조회용 projection (Notification 엔티티/연관 프록시를 만들지 않음)
+ */
+public record NotificationInboxRow(
+        Long id,
+        Long feedId,
+        NotificationType type,
+        String title,
+        String body,
+        boolean isRead,
+        LocalDateTime createdAt
+) {
+}
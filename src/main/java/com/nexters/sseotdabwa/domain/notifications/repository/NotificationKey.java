@@ -0,0 +1,11 @@
+package com.nexters.sseotdabwa.domain.notifications.repository;
+
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+
+/**
+ * 피드 안에서 알림 하나를 식별하는 (수신자, 타입) 쌍 (uk_notifications_user_feed_type 의 feed 제외 부분)
+ */
+public record NotificationKey(
+        Long userId,
+        NotificationType type
+) {}
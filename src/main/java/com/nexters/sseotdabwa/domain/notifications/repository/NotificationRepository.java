@@ -1,6 +1,7 @@
 package com.nexters.sseotdabwa.domain.notifications.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,35 +20,38 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Optional<Notification> findByIdAndUserId(Long id, Long userId);
 
-    // type 없는 케이스
+    // 알림함 keyset 조회: idx_notifications_user_created (user_id, created_at + PK) 를 역순으로 범위 스캔
+    // - cursorId 가 없으면 첫 페이지, 있으면 (createdAt, id) 가 커서보다 작은 row 부터
+    // - type 이 없으면 전체
     @Query("""
-        select n
+        select new com.nexters.sseotdabwa.domain.notifications.repository.NotificationInboxRow(
+            n.id, n.feed.id, n.type, n.title, n.body, n.isRead, n.createdAt)
         from Notification n
         where n.user.id = :userId
           and n.createdAt >= :cutoff
-        order by n.createdAt desc
+          and (:type is null or n.type = :type)
+          and (:cursorId is null
+               or n.createdAt < :cursorCreatedAt
+               or (n.createdAt = :cursorCreatedAt and n.id < :cursorId))
+        order by n.createdAt desc, n.id desc
     """)
-    List<Notification> findRecentByUser(
+    List<NotificationInboxRow> findInboxRows(
             @Param("userId") Long userId,
             @Param("cutoff") LocalDateTime cutoff,
+            @Param("type") NotificationType type,
+            @Param("cursorId") Long cursorId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
             Pageable pageable
     );
 
-    // type 있는 케이스
+    // 커서(이전 페이지 마지막 알림)의 생성 시각 (본인 알림만)
     @Query("""
-        select n
+        select n.createdAt
         from Notification n
-        where n.user.id = :userId
-          and n.createdAt >= :cutoff
-          and n.type = :type
-        order by n.createdAt desc
+        where n.id = :id
+          and n.user.id = :userId
     """)
-    List<Notification> findRecentByUserAndType(
-            @Param("userId") Long userId,
-            @Param("cutoff") LocalDateTime cutoff,
-            @Param("type") NotificationType type,
-            Pageable pageable
-    );
+    Optional<LocalDateTime> findCreatedAtByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
     @Query("""
         select count(n)
@@ -58,5 +62,70 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     """)
     long countUnreadSince(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
 
+    // 안 읽은 알림 카운터 보정용: idx_notifications_user_is_read 범위 조회
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationRow(n.user.id, n.createdAt)
+        from Notification n
+        where n.user.id in :userIds
+          and n.isRead = false
+          and n.createdAt >= :cutoff
+    """)
+    List<UnreadNotificationRow> findUnreadRowsByUserIdsSince(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    // 피드 삭제 시 카운터 차감용
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationRow(n.user.id, n.createdAt)
+        from Notification n
+        where n.feed.id = :feedId
+          and n.isRead = false
+          and n.createdAt >= :cutoff
+    """)
+    List<UnreadNotificationRow> findUnreadRowsByFeedIdSince(
+            @Param("feedId") Long feedId,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    // 피드 삭제 시 알림함 캐시 무효화 대상
+    @Query("""
+        select distinct n.user.id
+        from Notification n
+        where n.feed.id = :feedId
+    """)
+    List<Long> findUserIdsByFeedId(@Param("feedId") Long feedId);
+
     void deleteByFeedId(Long feedId);
+
+    void deleteByUserId(Long userId);
+
+    // 일괄 생성 전 중복 확인: 피드에 이미 있는 (수신자, 타입) 쌍을 한 번에 조회
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.notifications.repository.NotificationKey(n.user.id, n.type)
+        from Notification n
+        where n.feed.id = :feedId
+    """)
+    List<NotificationKey> findKeysByFeedId(@Param("feedId") Long feedId);
+
+    // 일괄 생성 후 새 알림 id 조회 (이번 일괄 생성 시각으로 만든 row 만)
+    @Query("""
+        select new com.nexters.sseotdabwa.domain.notifications.repository.NotificationIdRow(n.id, n.user.id, n.type)
+        from Notification n
+        where n.feed.id = :feedId
+          and n.createdAt = :createdAt
+    """)
+    List<NotificationIdRow> findIdRowsByFeedIdAndCreatedAt(
+            @Param("feedId") Long feedId,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    // 푸시 발송용: 수신자(토큰/수신 여부)까지 함께 조회
+    @Query("""
+        select n
+        from Notification n
+        join fetch n.user
+        where n.id in :ids
+    """)
+    List<Notification> findAllWithUserByIdIn(@Param("ids") List<Long> ids);
 }
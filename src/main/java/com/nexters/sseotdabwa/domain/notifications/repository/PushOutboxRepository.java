@@ -0,0 +1,54 @@
+package com.nexters.sseotdabwa.domain.notifications.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.nexters.sseotdabwa.domain.notifications.entity.PushOutbox;
+import com.nexters.sseotdabwa.domain.notifications.enums.PushOutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    /**
+     * 발송할 차례인 PENDING row 선점 조회
+     * - FOR UPDATE SKIP LOCKED: 다른 relay 가 선점 중인 row 는 기다리지 않고 건너뛴다. (lock.timeout = -2)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select o
+        from PushOutbox o
+        where o.status = :status
+          and o.nextAttemptAt <= :now
+        order by o.id
+    """)
+    List<PushOutbox> findDueForUpdateSkipLocked(
+            @Param("status") PushOutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    long countByStatus(PushOutboxStatus status);
+
+    @Modifying
+    @Query("""
+        delete from PushOutbox o
+        where o.status in :statuses
+          and o.updatedAt < :cutoff
+    """)
+    int deleteByStatusInAndUpdatedAtBefore(
+            @Param("statuses") Collection<PushOutboxStatus> statuses,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+}
@@ -0,0 +1,54 @@
+package com.nexters.sseotdabwa.domain.notifications.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.nexters.sseotdabwa.domain.notifications.entity.UnreadNotificationBucket;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface UnreadNotificationBucketRepository extends JpaRepository<UnreadNotificationBucket, Long> {
+
+    @Modifying
+    @Query("""
+        update UnreadNotificationBucket b
+        set b.unreadCount = b.unreadCount - 1
+        where b.userId = :userId
+          and b.bucketStart = :bucketStart
+          and b.unreadCount > 0
+    """)
+    int decrementIfPositive(@Param("userId") Long userId, @Param("bucketStart") LocalDateTime bucketStart);
+
+    /**
+     * 보관 기간이 지난 bucket 선점 조회
+     * - FOR UPDATE SKIP LOCKED: 다른 트랜잭션이 잡고 있는 bucket 은 다음 정리 때 처리한다. (lock.timeout = -2)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select b
+        from UnreadNotificationBucket b
+        where b.bucketStart < :from
+        order by b.bucketStart, b.id
+    """)
+    List<UnreadNotificationBucket> findExpiredForUpdateSkipLocked(@Param("from") LocalDateTime from, Pageable pageable);
+
+    // 회원 탈퇴
+    @Modifying
+    @Query("delete from UnreadNotificationBucket b where b.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from UnreadNotificationBucket b where b.userId in :userIds")
+    List<UnreadNotificationBucket> findAllByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+}
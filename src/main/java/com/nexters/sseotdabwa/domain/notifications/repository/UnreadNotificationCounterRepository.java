@@ -0,0 +1,44 @@
+package com.nexters.sseotdabwa.domain.notifications.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.nexters.sseotdabwa.domain.notifications.entity.UnreadNotificationCounter;
+
+import jakarta.persistence.LockModeType;
+
+public interface UnreadNotificationCounterRepository extends JpaRepository<UnreadNotificationCounter, Long> {
+
+    @Modifying
+    @Query("""
+        update UnreadNotificationCounter c
+        set c.unreadCount = c.unreadCount - 1
+        where c.userId = :userId
+          and c.unreadCount > 0
+    """)
+    int decrementIfPositive(@Param("userId") Long userId);
+
+    // 만료 bucket 차감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("""
+        update UnreadNotificationCounter c
+        set c.unreadCount = case when c.unreadCount > :delta then c.unreadCount - :delta else 0 end
+        where c.userId = :userId
+    """)
+    int subtract(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 회원 탈퇴
+    @Modifying
+    @Query("delete from UnreadNotificationCounter c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from UnreadNotificationCounter c where c.userId in :userIds")
+    List<UnreadNotificationCounter> findAllByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,9 @@
+package com.nexters.sseotdabwa.domain.notifications.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 안 읽은 알림의 수신자와 생성 시각 (카운터 bucket 계산용)
+ */
+public record UnreadNotificationRow(Long userId, LocalDateTime createdAt) {
+}
@@ -0,0 +1,35 @@
+package com.nexters.sseotdabwa.domain.notifications.scheduler;
+
+import com.nexters.sseotdabwa.common.scheduling.LeaderElection;
+import com.nexters.sseotdabwa.domain.notifications.service.PushOutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushOutboxScheduler {
+
+    private final PushOutboxService pushOutboxService;
+    private final LeaderElection leaderElection;
+
+    /**
+     * 1시간마다 보관 기간이 지난 SENT/SKIPPED outbox row 를 삭제한다. (DEAD 는 확인용으로 남김)
+     * - 스케줄러 리더만 실행한다. (삭제는 멱등이라 fencing 없이 실행)
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeCompleted() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+
+        int deleted = pushOutboxService.purgeCompleted();
+        if (deleted > 0) {
+            log.info("푸시 outbox 정리 {} 건", deleted);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.nexters.sseotdabwa.domain.notifications.scheduler;
+
+import java.util.List;
+
+import com.nexters.sseotdabwa.common.config.UnreadNotificationCounterProperties;
+import com.nexters.sseotdabwa.common.scheduling.LeaderElection;
+import com.nexters.sseotdabwa.common.scheduling.LeadershipLostException;
+import com.nexters.sseotdabwa.domain.notifications.service.UnreadNotificationCounterService;
+import com.nexters.sseotdabwa.domain.users.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounterScheduler {
+
+    private final UnreadNotificationCounterService unreadNotificationCounterService;
+    private final UserService userService;
+    private final LeaderElection leaderElection;
+    private final UnreadNotificationCounterProperties properties;
+
+    /**
+     * 10분마다 보관 기간(30일)이 지난 안 읽은 알림 bucket 을 카운터에서 차감하고 삭제한다.
+     * - chunkSize 개씩 트랜잭션을 나눠, 만료 bucket 이 없을 때까지 반복한다.
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void expireBuckets() {
+        if (!properties.enabled() || !leaderElection.isLeader()) {
+            return;
+        }
+
+        int chunkSize = Math.max(1, properties.chunkSize());
+        int expired = 0;
+        int chunk;
+        do {
+            chunk = leaderElection.callFenced(() -> unreadNotificationCounterService.expireBuckets(chunkSize));
+            expired += chunk;
+        } while (chunk == chunkSize);
+
+        if (expired > 0) {
+            log.info("안 읽은 알림 bucket 만료 정리 {} 건", expired);
+        }
+    }
+
+    /**
+     * 6시간마다 전체 사용자의 안 읽은 알림 카운터를 notifications 기준으로 보정한다.
+     * - 사용자 id keyset 으로 chunkSize 명씩 트랜잭션을 나눠, 한 chunk 의 실패가 나머지 보정을 막지 않게 한다.
+     * - 기동 직후에도 한 번 실행해, 카운터가 없는 기존 사용자를 채운다.
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 21_600_000)
+    public void reconcile() {
+        if (!properties.enabled() || !leaderElection.isLeader()) {
+            return;
+        }
+
+        int chunkSize = Math.max(1, properties.chunkSize());
+        long afterId = 0L;
+        int corrected = 0;
+        int failed = 0;
+        while (true) {
+            List<Long> userIds = userService.findIdsAfter(afterId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            try {
+                corrected += leaderElection.callFenced(() -> unreadNotificationCounterService.reconcile(userIds));
+            } catch (LeadershipLostException e) {
+                log.warn("스케줄러 리더를 잃어 안 읽은 알림 카운터 보정 중단. afterId={}", afterId);
+                return;
+            } catch (Exception e) {
+                failed++;
+                log.warn("안 읽은 알림 카운터 보정 실패 userIds={}~{}", userIds.get(0), userIds.get(userIds.size() - 1), e);
+            }
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        log.info("안 읽은 알림 카운터 보정 완료. 보정={}명, 실패 chunk={}", corrected, failed);
+    }
+}
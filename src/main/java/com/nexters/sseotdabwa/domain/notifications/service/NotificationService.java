@@ -1,7 +1,14 @@
 package com.nexters.sseotdabwa.domain.notifications.service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import com.nexters.sseotdabwa.api.notifications.exception.NotificationErrorCode;
 
@@ -15,7 +22,11 @@ import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
 import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationIdRow;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationInboxRow;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationKey;
 import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.writer.NotificationBulkWriter;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 
 import lombok.RequiredArgsConstructor;
@@ -36,32 +47,39 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class NotificationService {
 
-    private static final int RECENT_DAYS = 30;
+    static final int RECENT_DAYS = 30;
     private static final int DEFAULT_PAGE_SIZE = 100;
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkWriter notificationBulkWriter;
+    private final UnreadNotificationCounterService unreadNotificationCounterService;
 
     /**
-     * 최근 30일 알림 조회 (최신순)
+     * 최근 30일 알림 조회 (최신순, 최대 DEFAULT_PAGE_SIZE 건)
      */
-    public List<Notification> getRecentNotifications(Long userId, NotificationType type) {
+    public List<NotificationInboxRow> getRecentNotifications(Long userId, NotificationType type) {
+        return getRecentNotifications(userId, type, null, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * 최근 30일 알림 커서 조회 ((createdAt, id) 역순)
+     * - cursor: 이전 페이지 마지막 알림 id (첫 페이지는 null)
+     * - 커서 알림이 그 사이 삭제되었으면(피드 삭제) 이어서 조회할 기준이 없으므로 빈 목록을 반환한다.
+     */
+    public List<NotificationInboxRow> getRecentNotifications(Long userId, NotificationType type, Long cursor, int limit) {
         LocalDateTime cutoff = LocalDateTime.now().minusDays(RECENT_DAYS);
-        Pageable pageable = PageRequest.of(0, DEFAULT_PAGE_SIZE);
-
-        if (type == null) {
-            return notificationRepository.findRecentByUser(
-                    userId,
-                    cutoff,
-                    pageable
-            );
+        Pageable pageable = PageRequest.of(0, limit);
+
+        LocalDateTime cursorCreatedAt = null;
+        if (cursor != null) {
+            Optional<LocalDateTime> found = notificationRepository.findCreatedAtByIdAndUserId(cursor, userId);
+            if (found.isEmpty()) {
+                return List.of();
+            }
+            cursorCreatedAt = found.get();
         }
 
-        return notificationRepository.findRecentByUserAndType(
-                userId,
-                cutoff,
-                type,
-                pageable
-        );
+        return notificationRepository.findInboxRows(userId, cutoff, type, cursor, cursorCreatedAt, pageable);
     }
 
     /**
@@ -73,7 +91,9 @@ public class NotificationService {
         Notification notification = notificationRepository.findByIdAndUserId(notificationId, userId)
                 .orElseThrow(() -> new GlobalException(NotificationErrorCode.NOTIFICATION_NOT_FOUND));
 
-        notification.markAsRead();
+        if (notification.markAsRead()) {
+            unreadNotificationCounterService.onRead(userId, notification.getCreatedAt());
+        }
     }
 
     /**
@@ -96,20 +116,87 @@ public class NotificationService {
                 .build();
 
         try {
-            return notificationRepository.save(notification);
+            Notification saved = notificationRepository.save(notification);
+            unreadNotificationCounterService.onCreated(List.of(user.getId()), saved.getCreatedAt());
+            return saved;
         } catch (DataIntegrityViolationException e) {
             log.warn("중복 알림 생성 시도 무시: userId={}, feedId={}, type={}", user.getId(), feed.getId(), type);
             return null;
         }
     }
 
+    /**
+     * 피드 하나의 알림을 일괄 생성한다. (중복 확인 1회 + JDBC batch INSERT)
+     * - 이미 있는 (수신자, 타입) 은 건너뛰고, 동시에 생성된 row 는 uk_notifications_user_feed_type 으로 무시한다.
+     * - 새로 생성된 row 는 드라이버의 batch 결과 대신 이번 생성 시각(created_at)으로 다시 조회해 가려낸다.
+     *   (겹쳐 실행된 마감 처리가 먼저 만든 row 를 새 알림으로 보고 푸시/카운터를 중복 반영하지 않도록)
+     * @return 이번에 새로 생성된 알림 id (key: 수신자, 타입)
+     */
+    @Transactional
+    public Map<NotificationKey, Long> createAllIfAbsent(Feed feed, List<NotificationKey> recipients, String title, String body) {
+        if (recipients.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<NotificationKey> existing = new HashSet<>(notificationRepository.findKeysByFeedId(feed.getId()));
+        List<NotificationKey> missing = new LinkedHashSet<>(recipients).stream()
+                .filter(key -> !existing.contains(key))
+                .toList();
+        if (missing.isEmpty()) {
+            return Map.of();
+        }
+
+        // DB(datetime(6)) 에 저장되는 정밀도로 맞춰야 다시 조회할 때 같은 값으로 비교된다.
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        notificationBulkWriter.insertIgnoringDuplicates(feed.getId(), missing, title, body, createdAt);
+
+        Set<NotificationKey> candidates = new HashSet<>(missing);
+        Map<NotificationKey, Long> created = new HashMap<>();
+        for (NotificationIdRow row : notificationRepository.findIdRowsByFeedIdAndCreatedAt(feed.getId(), createdAt)) {
+            if (candidates.contains(row.key())) {
+                created.put(row.key(), row.id());
+            }
+        }
+        if (created.isEmpty()) {
+            return Map.of();
+        }
+        unreadNotificationCounterService.onCreated(created.keySet().stream().map(NotificationKey::userId).toList(), createdAt);
+        return created;
+    }
+
+    /**
+     * 최근 30일 안 읽은 알림 수
+     * - 카운터를 쓰면 카운터 PK 조회, 카운터 row 가 아직 없는 사용자(보정 전)는 COUNT 로 응답한다.
+     */
     public long countUnread(Long userId) {
+        if (unreadNotificationCounterService.isEnabled()) {
+            Long count = unreadNotificationCounterService.findUnreadCount(userId);
+            if (count != null) {
+                return count;
+            }
+        }
         LocalDateTime cutoff = LocalDateTime.now().minusDays(RECENT_DAYS);
         return notificationRepository.countUnreadSince(userId, cutoff);
     }
 
+    /**
+     * 피드의 알림 삭제
+     * @return 알림이 삭제된 수신자 id (알림함 캐시 무효화용)
+     */
     @Transactional
-    public void deleteByFeed(Feed feed) {
+    public List<Long> deleteByFeed(Feed feed) {
+        List<Long> userIds = notificationRepository.findUserIdsByFeedId(feed.getId());
+        unreadNotificationCounterService.onFeedDeleted(feed.getId());
         notificationRepository.deleteByFeedId(feed.getId());
+        return userIds;
+    }
+
+    /**
+     * 회원 탈퇴 시 사용자가 받은 알림과 안 읽은 알림 카운터 삭제
+     */
+    @Transactional
+    public void deleteByUserId(Long userId) {
+        notificationRepository.deleteByUserId(userId);
+        unreadNotificationCounterService.deleteByUserId(userId);
     }
 }
@@ -0,0 +1,160 @@
+package com.nexters.sseotdabwa.domain.notifications.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexters.sseotdabwa.common.config.PushOutboxProperties;
+import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
+import com.nexters.sseotdabwa.domain.notifications.entity.PushOutbox;
+import com.nexters.sseotdabwa.domain.notifications.enums.PushOutboxStatus;
+import com.nexters.sseotdabwa.domain.notifications.push.PushMessage;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.PushOutboxRepository;
+import com.nexters.sseotdabwa.domain.notifications.service.command.PushOutboxClaim;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 푸시 outbox 도메인 서비스
+ * - enqueue: Notification 과 같은 트랜잭션에서 발송 대기 row 저장
+ * - claim/complete: relay 가 짧은 트랜잭션으로 선점/결과 반영 (발송 자체는 트랜잭션 밖)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PushOutboxService {
+
+    private static final double BACKOFF_JITTER = 0.2;
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final PushOutboxProperties properties;
+
+    /**
+     * 알림별 발송 대기 row 저장 (호출한 트랜잭션에 참여)
+     */
+    @Transactional
+    public void enqueue(List<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        pushOutboxRepository.saveAll(notificationIds.stream()
+                .map(id -> PushOutbox.builder()
+                        .notificationId(id)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 발송 차례인 row 를 최대 batchSize 개 선점하고 발송할 메시지로 변환한다.
+     * - 알림이 삭제됐거나 수신자가 푸시를 받을 수 없으면 SKIPPED 처리하고 결과에서 뺀다.
+     */
+    @Transactional
+    public List<PushOutboxClaim> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PushOutbox> due = pushOutboxRepository.findDueForUpdateSkipLocked(
+                PushOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> notificationIds = due.stream().map(PushOutbox::getNotificationId).toList();
+        Map<Long, Notification> notificationMap = notificationRepository.findAllWithUserByIdIn(notificationIds).stream()
+                .collect(Collectors.toMap(Notification::getId, Function.identity()));
+
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(properties.leaseMillis()));
+        List<PushOutboxClaim> claims = new ArrayList<>(due.size());
+        for (PushOutbox outbox : due) {
+            Notification notification = notificationMap.get(outbox.getNotificationId());
+            if (notification == null) {
+                outbox.markSkipped("NOTIFICATION_DELETED");
+                continue;
+            }
+            if (!notification.getUser().canReceivePush()) {
+                outbox.markSkipped("PUSH_NOT_RECEIVABLE");
+                continue;
+            }
+            outbox.lease(leaseUntil);
+            claims.add(new PushOutboxClaim(outbox.getId(), toPushMessage(notification)));
+        }
+        return claims;
+    }
+
+    /**
+     * 발송 결과 반영
+     * @param sentIds 발송 성공
+     * @param retryIds 일시적 실패 → 지수 백오프로 재시도 (maxAttempts 도달 시 DEAD)
+     * @param invalidTokenIds 만료/해지 토큰 → DEAD
+     * @param rejectedIds 메시지 거절(페이로드 오류 등) → DEAD, 토큰은 유지
+     */
+    @Transactional
+    public void complete(List<Long> sentIds, List<Long> retryIds, List<Long> invalidTokenIds, List<Long> rejectedIds) {
+        List<Long> ids = new ArrayList<>(sentIds.size() + retryIds.size() + invalidTokenIds.size() + rejectedIds.size());
+        ids.addAll(sentIds);
+        ids.addAll(retryIds);
+        ids.addAll(invalidTokenIds);
+        ids.addAll(rejectedIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PushOutbox> outboxMap = new HashMap<>();
+        pushOutboxRepository.findAllById(ids).forEach(o -> outboxMap.put(o.getId(), o));
+
+        LocalDateTime now = LocalDateTime.now();
+        sentIds.stream().map(outboxMap::get).forEach(PushOutbox::markSent);
+        invalidTokenIds.stream().map(outboxMap::get).forEach(o -> o.markDead("INVALID_TOKEN"));
+        rejectedIds.stream().map(outboxMap::get).forEach(o -> o.markDead("REJECTED"));
+        retryIds.stream().map(outboxMap::get).forEach(o ->
+                o.retryOrDie("FCM_SEND_FAILED", properties.maxAttempts(), now.plus(Duration.ofMillis(backoffMillis(o.getAttempts())))));
+    }
+
+    /**
+     * 보관 기간이 지난 SENT/SKIPPED row 삭제
+     */
+    @Transactional
+    public int purgeCompleted() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.retentionDays());
+        return pushOutboxRepository.deleteByStatusInAndUpdatedAtBefore(
+                List.of(PushOutboxStatus.SENT, PushOutboxStatus.SKIPPED), cutoff);
+    }
+
+    /**
+     * attempts 번째 실패 후 대기 시간: initial * 2^(attempts-1), 최대 maxBackoff, ±20% jitter
+     */
+    long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long base = Math.min(properties.initialBackoffMillis() << exponent, properties.maxBackoffMillis());
+        double jitter = 1 + ThreadLocalRandom.current().nextDouble(-BACKOFF_JITTER, BACKOFF_JITTER);
+        return (long) (base * jitter);
+    }
+
+    private PushMessage toPushMessage(Notification notification) {
+        Map<String, String> data = new HashMap<>();
+        data.put("screen", "NOTIFICATIONS");
+        data.put("notificationId", String.valueOf(notification.getId()));
+        data.put("feedId", String.valueOf(notification.getFeed().getId()));
+        data.put("type", notification.getType().name());
+
+        return new PushMessage(
+                notification.getUser().getId(),
+                notification.getUser().getFcmToken(),
+                notification.getTitle(),
+                notification.getBody(),
+                data
+        );
+    }
+}
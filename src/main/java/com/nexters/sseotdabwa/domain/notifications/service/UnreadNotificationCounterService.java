@@ -0,0 +1,205 @@
+package com.nexters.sseotdabwa.domain.notifications.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexters.sseotdabwa.common.config.UnreadNotificationCounterProperties;
+import com.nexters.sseotdabwa.domain.notifications.entity.UnreadNotificationBucket;
+import com.nexters.sseotdabwa.domain.notifications.entity.UnreadNotificationCounter;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationBucketRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationCounterRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationRow;
+import com.nexters.sseotdabwa.domain.notifications.writer.UnreadNotificationCounterWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 안 읽은 알림 카운터
+ * - 미확인 알림 수 조회(앱 진입마다 polling)를 notifications COUNT 대신 카운터 PK 조회로 처리한다.
+ *
+ * 구조:
+ * - UnreadNotificationBucket: (사용자, 생성 시각 1시간 단위) 별 안 읽은 알림 수
+ * - UnreadNotificationCounter: 사용자의 bucket 합계 (조회용)
+ *
+ * 정책:
+ * - 알림 생성/읽음 처리/피드 삭제와 같은 트랜잭션에서 bucket 과 카운터를 함께 증감한다.
+ * - bucket 이 통째로 보관 기간(30일)을 지나면 expireBuckets() 가 카운터에서 차감하고 삭제한다.
+ * - 어긋난 값(배포 전 데이터, 장애 등)은 reconcile() 이 notifications 기준으로 다시 계산해 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UnreadNotificationCounterService {
+
+    private final UnreadNotificationCounterRepository counterRepository;
+    private final UnreadNotificationBucketRepository bucketRepository;
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounterWriter counterWriter;
+    private final UnreadNotificationCounterProperties properties;
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 카운터 값 (카운터 row 가 아직 없으면 null)
+     */
+    public Long findUnreadCount(Long userId) {
+        return counterRepository.findById(userId)
+                .map(UnreadNotificationCounter::getUnreadCount)
+                .orElse(null);
+    }
+
+    /**
+     * 같은 시각에 생성된 안 읽은 알림만큼 증가
+     */
+    @Transactional
+    public void onCreated(Collection<Long> userIds, LocalDateTime createdAt) {
+        if (!isEnabled() || userIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> deltas = userIds.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        counterWriter.increment(deltas, bucketOf(createdAt));
+    }
+
+    /**
+     * 안 읽은 알림 하나가 읽음 처리(또는 삭제)됨
+     * - bucket 이 이미 만료 정리됐으면 카운터에서도 빠진 상태이므로 차감하지 않는다.
+     */
+    @Transactional
+    public void onRead(Long userId, LocalDateTime createdAt) {
+        if (!isEnabled() || createdAt == null) {
+            return;
+        }
+        if (bucketRepository.decrementIfPositive(userId, bucketOf(createdAt)) > 0) {
+            counterRepository.decrementIfPositive(userId);
+        }
+    }
+
+    /**
+     * 피드 삭제 전, 피드의 안 읽은 알림만큼 차감
+     */
+    @Transactional
+    public void onFeedDeleted(Long feedId) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<UnreadNotificationRow> rows = notificationRepository.findUnreadRowsByFeedIdSince(feedId, windowStart());
+        for (UnreadNotificationRow row : rows) {
+            onRead(row.userId(), row.createdAt());
+        }
+    }
+
+    /**
+     * 회원 탈퇴 시 사용자의 bucket/카운터 삭제
+     * - 비활성화 상태여도 이전에 쌓인 row 가 남지 않도록 항상 삭제한다.
+     */
+    @Transactional
+    public void deleteByUserId(Long userId) {
+        bucketRepository.deleteByUserId(userId);
+        counterRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 보관 기간이 지난 bucket 을 최대 limit 개 선점(SKIP LOCKED)해 카운터에서 차감하고 삭제한다.
+     * @return 정리한 bucket 수
+     */
+    @Transactional
+    public int expireBuckets(int limit) {
+        List<UnreadNotificationBucket> expired =
+                bucketRepository.findExpiredForUpdateSkipLocked(windowStart(), PageRequest.of(0, limit));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (UnreadNotificationBucket bucket : expired) {
+            if (bucket.getUnreadCount() > 0) {
+                deltas.merge(bucket.getUserId(), bucket.getUnreadCount(), Long::sum);
+            }
+        }
+        deltas.forEach(counterRepository::subtract);
+        bucketRepository.deleteAllByIdInBatch(expired.stream().map(UnreadNotificationBucket::getId).toList());
+        return expired.size();
+    }
+
+    /**
+     * notifications 기준으로 사용자들의 bucket/카운터를 다시 계산해, 다른 경우에만 덮어쓴다.
+     * - bucket → 카운터 순으로 잠근 뒤 계산하므로, 동시에 생성/읽음 처리된 알림은 이 트랜잭션 이후에 반영된다.
+     * @return 값이 달라 보정한 사용자 수
+     */
+    @Transactional
+    public int reconcile(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<UnreadNotificationBucket>> storedBuckets = bucketRepository.findAllByUserIdInForUpdate(userIds).stream()
+                .collect(Collectors.groupingBy(UnreadNotificationBucket::getUserId));
+        Map<Long, UnreadNotificationCounter> counters = counterRepository.findAllByUserIdInForUpdate(userIds).stream()
+                .collect(Collectors.toMap(UnreadNotificationCounter::getUserId, Function.identity()));
+        Map<Long, Map<LocalDateTime, Long>> expectedBuckets = notificationRepository
+                .findUnreadRowsByUserIdsSince(userIds, windowStart()).stream()
+                .collect(Collectors.groupingBy(UnreadNotificationRow::userId,
+                        Collectors.groupingBy(row -> bucketOf(row.createdAt()), Collectors.counting())));
+
+        int corrected = 0;
+        for (Long userId : userIds) {
+            List<UnreadNotificationBucket> stored = storedBuckets.getOrDefault(userId, List.of());
+            Map<LocalDateTime, Long> expected = expectedBuckets.getOrDefault(userId, Map.of());
+            long expectedTotal = expected.values().stream().mapToLong(Long::longValue).sum();
+            UnreadNotificationCounter counter = counters.get(userId);
+            long storedTotal = counter == null ? 0 : counter.getUnreadCount();
+
+            if (storedTotal == expectedTotal && toCounts(stored).equals(expected)) {
+                continue;
+            }
+
+            bucketRepository.deleteAllInBatch(stored);
+            expected.forEach((bucketStart, count) ->
+                    bucketRepository.save(new UnreadNotificationBucket(userId, bucketStart, count)));
+            if (counter == null) {
+                counterRepository.save(new UnreadNotificationCounter(userId, expectedTotal));
+            } else {
+                counter.reset(expectedTotal);
+            }
+            corrected++;
+        }
+        return corrected;
+    }
+
+    /**
+     * 아직 만료되지 않은 가장 오래된 bucket 의 시작 시각
+     * - 이보다 이른 bucket 은 모든 알림이 30일을 지났다.
+     */
+    private LocalDateTime windowStart() {
+        return bucketOf(LocalDateTime.now().minusDays(NotificationService.RECENT_DAYS));
+    }
+
+    private static LocalDateTime bucketOf(LocalDateTime createdAt) {
+        return createdAt.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static Map<LocalDateTime, Long> toCounts(List<UnreadNotificationBucket> buckets) {
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        for (UnreadNotificationBucket bucket : buckets) {
+            if (bucket.getUnreadCount() > 0) {
+                counts.put(bucket.getBucketStart(), bucket.getUnreadCount());
+            }
+        }
+        return counts;
+    }
+}
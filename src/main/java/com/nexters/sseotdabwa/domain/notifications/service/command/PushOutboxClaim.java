@@ -0,0 +1,11 @@
+package com.nexters.sseotdabwa.domain.notifications.service.command;
+
+import com.nexters.sseotdabwa.domain.notifications.push.PushMessage;
+
+/**
+ * 선점한 outbox row 와 발송할 메시지
+ */
+public record PushOutboxClaim(
+        Long outboxId,
+        PushMessage message
+) {}
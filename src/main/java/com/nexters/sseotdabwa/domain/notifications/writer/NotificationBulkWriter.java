@@ -0,0 +1,72 @@
+package com.nexters.sseotdabwa.domain.notifications.writer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationKey;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Notification 일괄 INSERT (JDBC batch)
+ * - 호출한 트랜잭션의 커넥션을 그대로 사용한다. (JpaTransactionManager 가 JDBC 커넥션을 공유)
+ * - MySQL: INSERT IGNORE 로 uk_notifications_user_feed_type 중복(동시 마감 처리 등)을 건너뛴다.
+ * - 그 외(H2 테스트): NOT EXISTS 조건으로 같은 효과를 낸다.
+ * - row 별 INSERT 여부는 반환하지 않는다. rewriteBatchedStatements 를 켠 Connector/J 는 건너뛴 row 까지
+ *   SUCCESS_NO_INFO 로 돌려주므로, 호출자가 (feed_id, created_at) 으로 다시 조회해 새 row 를 가려낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationBulkWriter {
+
+    private static final String MYSQL_INSERT_IGNORE = """
+            INSERT IGNORE INTO notifications (user_id, feed_id, type, title, body, is_read, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, false, ?, ?)
+            """;
+    private static final String INSERT_IF_NOT_EXISTS = """
+            INSERT INTO notifications (user_id, feed_id, type, title, body, is_read, created_at, updated_at)
+            SELECT ?, ?, ?, ?, ?, false, ?, ? FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM notifications WHERE user_id = ? AND feed_id = ? AND type = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean mySql;
+
+    /**
+     * 피드 하나에 대한 알림을 일괄 INSERT 한다. (이미 있는 (수신자, 피드, 타입) 은 건너뜀)
+     * @param createdAt 일괄 생성되는 알림의 생성 시각 (안 읽은 알림 카운터 bucket 과 맞추고, 새 row 를 다시 조회하는 기준)
+     */
+    public void insertIgnoringDuplicates(Long feedId, List<NotificationKey> keys,
+                                         String title, String body, LocalDateTime createdAt) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        boolean ignoreSupported = isMySql();
+        List<Object[]> batchArgs = new ArrayList<>(keys.size());
+        for (NotificationKey key : keys) {
+            String type = key.type().name();
+            batchArgs.add(ignoreSupported
+                    ? new Object[]{key.userId(), feedId, type, title, body, createdAt, createdAt}
+                    : new Object[]{key.userId(), feedId, type, title, body, createdAt, createdAt, key.userId(), feedId, type});
+        }
+
+        jdbcTemplate.batchUpdate(ignoreSupported ? MYSQL_INSERT_IGNORE : INSERT_IF_NOT_EXISTS, batchArgs);
+    }
+
+    private boolean isMySql() {
+        Boolean cached = mySql;
+        if (cached == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            cached = product != null && product.toLowerCase().contains("mysql");
+            mySql = cached;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,108 @@
+package com.nexters.sseotdabwa.domain.notifications.writer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 안 읽은 알림 카운터 증가 (JDBC batch upsert)
+ * - 호출한 트랜잭션의 커넥션을 그대로 사용한다. (알림 INSERT 와 같은 트랜잭션에서 커밋)
+ * - MySQL: INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 bucket/카운터 row 를 만들거나 더한다.
+ * - 그 외(H2 테스트): UPDATE 후 갱신되지 않은 row 만 NOT EXISTS 조건으로 INSERT 한다.
+ * - 락 순서: bucket → 카운터, 각각 userId 오름차순 (동시 알림 생성/읽음/만료 정리 간 교착 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounterWriter {
+
+    private static final String MYSQL_UPSERT_BUCKET = """
+            INSERT INTO unread_notification_buckets (user_id, bucket_start, unread_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE unread_count = unread_count + ?
+            """;
+    private static final String MYSQL_UPSERT_COUNTER = """
+            INSERT INTO unread_notification_counters (user_id, unread_count)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE unread_count = unread_count + ?
+            """;
+    private static final String UPDATE_BUCKET = """
+            UPDATE unread_notification_buckets SET unread_count = unread_count + ?
+            WHERE user_id = ? AND bucket_start = ?
+            """;
+    private static final String INSERT_BUCKET_IF_NOT_EXISTS = """
+            INSERT INTO unread_notification_buckets (user_id, bucket_start, unread_count)
+            SELECT ?, ?, ? FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM unread_notification_buckets WHERE user_id = ? AND bucket_start = ?)
+            """;
+    private static final String UPDATE_COUNTER = """
+            UPDATE unread_notification_counters SET unread_count = unread_count + ?
+            WHERE user_id = ?
+            """;
+    private static final String INSERT_COUNTER_IF_NOT_EXISTS = """
+            INSERT INTO unread_notification_counters (user_id, unread_count)
+            SELECT ?, ? FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM unread_notification_counters WHERE user_id = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean mySql;
+
+    /**
+     * 같은 bucket 에 생성된 알림 수만큼 사용자별 bucket/카운터를 증가시킨다.
+     * @param deltas userId → 새로 생성된 안 읽은 알림 수
+     */
+    public void increment(Map<Long, Long> deltas, LocalDateTime bucketStart) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> sorted = new TreeMap<>(deltas);
+        if (isMySql()) {
+            List<Object[]> bucketArgs = new ArrayList<>(sorted.size());
+            List<Object[]> counterArgs = new ArrayList<>(sorted.size());
+            sorted.forEach((userId, delta) -> {
+                bucketArgs.add(new Object[]{userId, bucketStart, delta, delta});
+                counterArgs.add(new Object[]{userId, delta, delta});
+            });
+            jdbcTemplate.batchUpdate(MYSQL_UPSERT_BUCKET, bucketArgs);
+            jdbcTemplate.batchUpdate(MYSQL_UPSERT_COUNTER, counterArgs);
+            return;
+        }
+
+        sorted.forEach((userId, delta) -> upsert(
+                UPDATE_BUCKET, new Object[]{delta, userId, bucketStart},
+                INSERT_BUCKET_IF_NOT_EXISTS, new Object[]{userId, bucketStart, delta, userId, bucketStart}));
+        sorted.forEach((userId, delta) -> upsert(
+                UPDATE_COUNTER, new Object[]{delta, userId},
+                INSERT_COUNTER_IF_NOT_EXISTS, new Object[]{userId, delta, userId}));
+    }
+
+    private void upsert(String update, Object[] updateArgs, String insert, Object[] insertArgs) {
+        if (jdbcTemplate.update(update, updateArgs) > 0) {
+            return;
+        }
+        if (jdbcTemplate.update(insert, insertArgs) > 0) {
+            return;
+        }
+        // 그 사이 다른 트랜잭션이 먼저 INSERT 함
+        jdbcTemplate.update(update, updateArgs);
+    }
+
+    private boolean isMySql() {
+        Boolean cached = mySql;
+        if (cached == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            cached = product != null && product.toLowerCase().contains("mysql");
+            mySql = cached;
+        }
+        return cached;
+    }
+}
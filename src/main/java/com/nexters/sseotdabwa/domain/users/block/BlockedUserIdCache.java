@@ -0,0 +1,119 @@
+package com.nexters.sseotdabwa.domain.users.block;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexters.sseotdabwa.common.config.BlockedUserIdCacheProperties;
+import com.nexters.sseotdabwa.domain.users.repository.UserBlockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자별 차단 id 집합 캐시
+ * - 피드 목록처럼 매 요청 차단 목록이 필요한 경로에서 DB 조회를 생략한다.
+ *
+ * 정책:
+ * - Caffeine 캐시로 maxEntries 를 넘으면 사용 빈도/최근성 기준으로 제거하고, ttlMillis 가 지나면 다시 적재한다.
+ * - hit/miss/eviction/size 는 cache.* 지표(cache=user.block_cache)로 노출한다.
+ * - 차단/차단 해제/탈퇴 시 즉시 + 커밋 이후 한 번 더 무효화한다.
+ *   (커밋 전 다른 요청이 옛 값을 다시 적재하더라도 커밋 이후 무효화로 정리)
+ * - 적재 도중 무효화가 일어나면(generation 변경) 적재한 값은 캐시에 남기지 않는다.
+ * - 인스턴스 로컬 캐시이므로 다른 인스턴스의 변경은 ttlMillis 이내에 반영된다.
+ */
+@Component
+public class BlockedUserIdCache {
+
+    static final String CACHE_NAME = "user.block_cache";
+
+    private final UserBlockRepository userBlockRepository;
+    private final BlockedUserIdCacheProperties properties;
+    private final Cache<Long, BlockedUserIds> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public BlockedUserIdCache(
+            UserBlockRepository userBlockRepository,
+            BlockedUserIdCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.userBlockRepository = userBlockRepository;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, properties.maxEntries()))
+                .expireAfterWrite(Duration.ofMillis(Math.max(0, properties.ttlMillis())))
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public BlockedUserIds get(Long userId) {
+        if (!properties.enabled()) {
+            return load(userId);
+        }
+
+        BlockedUserIds cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        BlockedUserIds ids = load(userId);
+        cache.put(userId, ids);
+        if (generation.get() != startGeneration) {
+            cache.invalidate(userId);
+        }
+        return ids;
+    }
+
+    /**
+     * userId 가 차단한 목록이 바뀌었을 때 (차단/차단 해제)
+     */
+    public void evict(Long userId) {
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            cache.invalidate(userId);
+        };
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    /**
+     * userId 가 탈퇴해 userId 의 차단 목록과 userId 를 차단한 사용자들의 목록이 모두 바뀌었을 때
+     */
+    public void evictAllInvolving(Long userId) {
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            cache.invalidate(userId);
+            cache.asMap().values().removeIf(ids -> ids.contains(userId));
+        };
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private BlockedUserIds load(Long userId) {
+        return BlockedUserIds.of(userBlockRepository.findBlockedUserIdsByUserId(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
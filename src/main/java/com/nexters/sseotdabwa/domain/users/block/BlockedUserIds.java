@@ -0,0 +1,43 @@
+package com.nexters.sseotdabwa.domain.users.block;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 한 사용자가 차단한 사용자 id 집합 (불변)
+ * - boxed List<Long> 대신 정렬된 long[] 로 보관하고 이진 탐색으로 포함 여부를 판단한다.
+ */
+public final class BlockedUserIds {
+
+    private static final BlockedUserIds EMPTY = new BlockedUserIds(new long[0]);
+
+    private final long[] sortedIds;
+
+    private BlockedUserIds(long[] sortedIds) {
+        this.sortedIds = sortedIds;
+    }
+
+    public static BlockedUserIds empty() {
+        return EMPTY;
+    }
+
+    public static BlockedUserIds of(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new BlockedUserIds(ids);
+    }
+
+    public boolean contains(long userId) {
+        return Arrays.binarySearch(sortedIds, userId) >= 0;
+    }
+
+    public int size() {
+        return sortedIds.length;
+    }
+
+    public boolean isEmpty() {
+        return sortedIds.length == 0;
+    }
+}
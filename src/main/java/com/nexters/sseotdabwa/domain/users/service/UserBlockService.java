@@ -7,6 +7,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.nexters.sseotdabwa.api.users.exception.UserErrorCode;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
+import com.nexters.sseotdabwa.common.security.UserPrincipalCache;
+import com.nexters.sseotdabwa.domain.users.block.BlockedUserIdCache;
+import com.nexters.sseotdabwa.domain.users.block.BlockedUserIds;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.entity.UserBlock;
 import com.nexters.sseotdabwa.domain.users.repository.UserBlockRepository;
@@ -20,6 +23,7 @@ import lombok.RequiredArgsConstructor;
  * 정책:
  * - 자기 자신 차단 불가
  * - 동일 대상 중복 차단 불가 (exists로 1차 방어, DB unique로 최종 방어)
+ * - 차단 관계가 바뀌면 BlockedUserIdCache 와 양쪽 사용자의 UserPrincipalCache 를 무효화
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +31,8 @@ import lombok.RequiredArgsConstructor;
 public class UserBlockService {
 
     private final UserBlockRepository userBlockRepository;
+    private final BlockedUserIdCache blockedUserIdCache;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 사용자 차단
@@ -48,6 +54,9 @@ public class UserBlockService {
                 .build();
 
         userBlockRepository.save(block);
+        blockedUserIdCache.evict(user.getId());
+        userPrincipalCache.evict(user.getId());
+        userPrincipalCache.evict(targetUser.getId());
     }
     /**
      * 차단 목록 조회 (최신순)
@@ -65,6 +74,9 @@ public class UserBlockService {
                 .orElseThrow(() -> new GlobalException(UserErrorCode.BLOCK_USER_NOT_FOUND));
 
         userBlockRepository.delete(relation);
+        blockedUserIdCache.evict(user.getId());
+        userPrincipalCache.evict(user.getId());
+        userPrincipalCache.evict(userId);
     }
 
     /**
@@ -74,6 +86,13 @@ public class UserBlockService {
         return userBlockRepository.findBlockedUserIdsByUserId(userId);
     }
 
+    /**
+     * 차단한 사용자 ID 집합 조회 (캐시, 피드 목록 필터링용)
+     */
+    public BlockedUserIds getBlockedUserIds(Long userId) {
+        return blockedUserIdCache.get(userId);
+    }
+
     /**
      * 사용자 탈퇴 시 차단 관계 정리
      */
@@ -81,5 +100,6 @@ public class UserBlockService {
     public void deleteAllBlocksOfUser(Long userId) {
         userBlockRepository.deleteAllByUserId(userId);
         userBlockRepository.deleteAllByBlockedUserId(userId);
+        blockedUserIdCache.evictAllInvolving(userId);
     }
 }
@@ -1,16 +1,22 @@
 package com.nexters.sseotdabwa.domain.users.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nexters.sseotdabwa.api.users.exception.UserErrorCode;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
+import com.nexters.sseotdabwa.common.security.UserPrincipalCache;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedTimeline;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
 import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
@@ -31,7 +37,10 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final RandomNicknameGenerator randomNicknameGenerator;
+    @Qualifier("requiresNewTransactionTemplate")
     private final TransactionTemplate requiresNewTransactionTemplate;
+    private final PublicFeedTimeline publicFeedTimeline;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 소셜 ID와 소셜 계정 타입으로 사용자 조회
@@ -98,6 +107,8 @@ public class UserService {
     @Transactional
     public void updateProfile(User user, String nickname, String profileImage) {
         user.updateProfile(nickname, profileImage);
+        userPrincipalCache.evict(user.getId());
+        publicFeedTimeline.onAuthorUpdated(user.getId(), user.getNickname(), user.getProfileImage());
     }
 
     /**
@@ -106,6 +117,8 @@ public class UserService {
     @Transactional
     public void updateProfileImage(User user, String profileImage) {
         user.updateProfileImage(profileImage);
+        userPrincipalCache.evict(user.getId());
+        publicFeedTimeline.onAuthorUpdated(user.getId(), user.getNickname(), user.getProfileImage());
     }
 
     /**
@@ -114,6 +127,7 @@ public class UserService {
     @Transactional
     public void delete(User user) {
         userRepository.delete(user);
+        userPrincipalCache.evict(user.getId());
     }
 
     /**
@@ -139,6 +153,25 @@ public class UserService {
     public void updateFcmToken(Long userId, String fcmToken) {
         User user = findById(userId);
         user.updateFcmToken(fcmToken);
+        userPrincipalCache.evict(userId);
+    }
+
+    /**
+     * FCM 이 더 이상 유효하지 않다고 응답한 토큰 정리
+     * - 발송 이후 사용자가 토큰을 새로 등록했을 수 있으므로, 저장된 토큰이 실패한 토큰과 같을 때만 지운다.
+     * @param fcmTokensByUserId userId → 실패한 FCM 토큰
+     */
+    @Transactional
+    public void clearFcmTokens(Map<Long, String> fcmTokensByUserId) {
+        if (fcmTokensByUserId == null || fcmTokensByUserId.isEmpty()) {
+            return;
+        }
+        for (User user : userRepository.findByIdIn(List.copyOf(fcmTokensByUserId.keySet()))) {
+            if (Objects.equals(user.getFcmToken(), fcmTokensByUserId.get(user.getId()))) {
+                user.updateFcmToken(null);
+                userPrincipalCache.evict(user.getId());
+            }
+        }
     }
 
     public List<User> findByIds(List<Long> userIds) {
@@ -147,4 +180,11 @@ public class UserService {
         }
         return userRepository.findByIdIn(userIds);
     }
+
+    /**
+     * afterId 다음 사용자 id 를 오름차순으로 최대 size 개 조회 (배치 작업의 전체 사용자 순회용)
+     */
+    public List<Long> findIdsAfter(Long afterId, int size) {
+        return userRepository.findIdsAfter(afterId, PageRequest.of(0, size));
+    }
 }
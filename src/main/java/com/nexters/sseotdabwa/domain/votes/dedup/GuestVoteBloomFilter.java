@@ -0,0 +1,92 @@
+package com.nexters.sseotdabwa.domain.votes.dedup;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+/**
+ * 피드 하나에 대한 게스트 fingerprint Bloom filter
+ * - 비트 배열 크기(m)와 해시 수(k)는 예상 삽입 수(n)와 오탐률(p)로 산정한다.
+ * - 해시는 SHA-256 digest 의 앞 16바이트를 두 개의 long 으로 나눠 double hashing(h1 + i * h2) 한다.
+ */
+final class GuestVoteBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] words;
+    private final long bitSize;
+    private final int hashCount;
+    private final LocalDateTime expiresAt;
+
+    GuestVoteBloomFilter(long bitSize, int hashCount, LocalDateTime expiresAt) {
+        this.words = new long[(int) ((bitSize + 63) >>> 6)];
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.expiresAt = expiresAt;
+    }
+
+    static long optimalBitSize(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        return Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+    }
+
+    static int optimalHashCount(long expectedInsertions, long bitSize) {
+        long n = Math.max(1, expectedInsertions);
+        return Math.max(1, (int) Math.round((double) bitSize / n * LN2));
+    }
+
+    static long sizeInBytes(long bitSize) {
+        return ((bitSize + 63) >>> 6) * Long.BYTES;
+    }
+
+    /**
+     * fingerprint 가 기록되어 있는지 확인한다. (기록하지 않음)
+     * @return 기록된(또는 오탐) fingerprint 면 true
+     */
+    synchronized boolean mightContain(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            if ((words[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+            combined += h2;
+        }
+        return true;
+    }
+
+    /**
+     * fingerprint 를 기록한다.
+     * @return 처음 보는 fingerprint 면 true, 이미 기록된(또는 오탐) fingerprint 면 false
+     */
+    synchronized boolean put(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+
+        boolean changed = false;
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                changed = true;
+            }
+            combined += h2;
+        }
+        return changed;
+    }
+
+    boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nexters.sseotdabwa.domain.votes.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nexters.sseotdabwa.common.config.GuestVoteDedupProperties;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게스트 투표 중복 차단
+ * - 피드마다 (클라이언트 IP + 기기 식별자) fingerprint Bloom filter 를 두고, 이미 기록된 fingerprint 의 투표를 DB 접근 전에 거절한다.
+ * - fingerprint 는 투표 트랜잭션이 커밋된 뒤에만 필터에 기록한다.
+ *   (없는 피드/마감 피드/롤백된 투표는 fingerprint 를 소모하지 않음)
+ * - 커밋 전까지는 (피드, fingerprint) 를 진행 중으로 잡아 두어, 같은 fingerprint 의 동시 투표는 하나만 통과한다.
+ * - 필터는 처음 생성된 시점부터 투표 기간(48시간)이 지나면 만료된다.
+ *
+ * 정책:
+ * - Bloom filter 특성상 falsePositiveRate 확률로 처음 투표하는 게스트가 거절될 수 있다. (놓치는 중복은 없음)
+ * - 전체 필터 메모리가 maxMemoryMb 를 넘으면 만료된 필터 → 가장 먼저 만료될 필터 순으로 제거한다.
+ * - 인스턴스 로컬 상태이므로 서버가 여러 대면 인스턴스마다 한 번씩은 통과될 수 있다.
+ */
+@Slf4j
+@Component
+public class GuestVoteDeduplicator {
+
+    private final boolean enabled;
+    private final long bitSize;
+    private final int hashCount;
+    private final int maxFilters;
+    private final Map<Long, GuestVoteBloomFilter> filters = new ConcurrentHashMap<>();
+    private final Set<PendingVote> pending = ConcurrentHashMap.newKeySet();
+
+    private record PendingVote(Long feedId, String fingerprint) {}
+
+    public GuestVoteDeduplicator(GuestVoteDedupProperties properties) {
+        this.enabled = properties.enabled();
+        this.bitSize = GuestVoteBloomFilter.optimalBitSize(
+                properties.expectedVotesPerFeed(), properties.falsePositiveRate());
+        this.hashCount = GuestVoteBloomFilter.optimalHashCount(properties.expectedVotesPerFeed(), bitSize);
+
+        long maxBytes = (long) properties.maxMemoryMb() * 1024 * 1024;
+        this.maxFilters = (int) Math.max(1, maxBytes / GuestVoteBloomFilter.sizeInBytes(bitSize));
+    }
+
+    /**
+     * 게스트 투표 허용 여부를 판단하고, 현재 트랜잭션이 커밋되면 fingerprint 를 기록한다.
+     * - 트랜잭션이 롤백되면 기록하지 않고 진행 중 표시만 해제한다.
+     * - 트랜잭션 밖에서 호출되면 바로 기록한다.
+     * @return 처음 보는 fingerprint 면 true, 중복(또는 같은 fingerprint 투표가 진행 중)이면 false
+     *         (fingerprint 가 없거나 비활성화 시 항상 true)
+     */
+    public boolean tryAcquire(Long feedId, String fingerprint) {
+        if (!enabled || fingerprint == null || fingerprint.isBlank()) {
+            return true;
+        }
+
+        byte[] digest = digest(fingerprint);
+        GuestVoteBloomFilter filter = filters.get(feedId);
+        if (filter != null && !filter.isExpired(LocalDateTime.now()) && filter.mightContain(digest)) {
+            return false;
+        }
+
+        PendingVote vote = new PendingVote(feedId, fingerprint);
+        if (!pending.add(vote)) {
+            return false;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(vote, digest, true);
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(vote, digest, status == STATUS_COMMITTED);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 커밋된 투표의 fingerprint 를 기록하고 진행 중 표시를 해제한다. (기록 후 해제해 그 사이 중복 통과가 없게 함)
+     */
+    private void complete(PendingVote vote, byte[] digest, boolean committed) {
+        try {
+            if (committed) {
+                LocalDateTime now = LocalDateTime.now();
+                GuestVoteBloomFilter filter = filters.compute(vote.feedId(), (id, existing) ->
+                        existing == null || existing.isExpired(now) ? newFilter(now) : existing);
+                filter.put(digest);
+                evictIfOverCapacity(vote.feedId(), now);
+            }
+        } finally {
+            pending.remove(vote);
+        }
+    }
+
+    int filterCount() {
+        return filters.size();
+    }
+
+    private GuestVoteBloomFilter newFilter(LocalDateTime now) {
+        return new GuestVoteBloomFilter(bitSize, hashCount, now.plusHours(Feed.VOTE_DEADLINE_HOURS));
+    }
+
+    private void evictIfOverCapacity(Long currentFeedId, LocalDateTime now) {
+        if (filters.size() <= maxFilters) {
+            return;
+        }
+
+        filters.values().removeIf(filter -> filter.isExpired(now));
+        while (filters.size() > maxFilters) {
+            filters.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(currentFeedId))
+                    .min(Comparator.comparing(entry -> entry.getValue().getExpiresAt()))
+                    .ifPresent(oldest -> {
+                        filters.remove(oldest.getKey(), oldest.getValue());
+                        log.debug("게스트 투표 필터 메모리 한도 초과로 제거: feedId={}", oldest.getKey());
+                    });
+        }
+    }
+
+    private static byte[] digest(String fingerprint) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
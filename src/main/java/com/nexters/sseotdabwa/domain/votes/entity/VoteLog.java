@@ -11,12 +11,32 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 운영 반영 시 (ddl-auto: validate 라 스키마는 직접 변경)
+ * - 유니크 제약 추가 전에 기존 중복 (user_id, feed_id) 행을 먼저 정리해야 ALTER 가 실패하지 않는다. (가장 먼저 생긴 행만 유지)
+ *   DELETE v FROM vote_logs v
+ *     JOIN vote_logs keep ON keep.user_id = v.user_id AND keep.feed_id = v.feed_id AND keep.id < v.id;
+ *   ALTER TABLE vote_logs ADD CONSTRAINT uk_vote_logs_user_feed UNIQUE (user_id, feed_id);
+ * - 지운 행만큼 피드 yes/no 카운트가 과다 집계되어 있을 수 있으므로 필요하면 vote_logs 기준으로 재집계한다.
+ */
 @Entity
-@Table(name = "vote_logs")
+@Table(
+        name = "vote_logs",
+        uniqueConstraints = {
+                // 회원 투표 중복 방지 (게스트 투표는 user_id 가 NULL 이므로 제약 대상이 아님)
+                @UniqueConstraint(name = VoteLog.USER_FEED_UNIQUE_CONSTRAINT, columnNames = {"user_id", "feed_id"})
+        },
+        indexes = {
+                // 마감 알림 수신자 일괄 조회 (feed_id in (...) and vote_type = USER → user_id 까지 인덱스에서 해결)
+                @Index(name = "idx_vote_logs_feed_type_user", columnList = "feed_id, vote_type, user_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VoteLog extends BaseEntity {
 
+    public static final String USER_FEED_UNIQUE_CONSTRAINT = "uk_vote_logs_user_feed";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
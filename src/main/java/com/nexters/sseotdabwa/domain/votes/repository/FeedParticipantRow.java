@@ -0,0 +1,17 @@
+package com.nexters.sseotdabwa.domain.votes.repository;
+
+/**
+ * 마감 알림 수신자 계산용 피드 참여자 (JPQL constructor projection)
+ * - User 엔티티를 로딩하지 않고 푸시 수신 여부 판단에 필요한 값만 조회
+ */
+public record FeedParticipantRow(
+        Long feedId,
+        Long userId,
+        String fcmToken,
+        boolean pushEnabled
+) {
+
+    public boolean canReceivePush() {
+        return pushEnabled && fcmToken != null && !fcmToken.isBlank();
+    }
+}
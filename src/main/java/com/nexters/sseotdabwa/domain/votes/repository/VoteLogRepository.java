@@ -1,5 +1,6 @@
 package com.nexters.sseotdabwa.domain.votes.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
@@ -21,17 +22,17 @@ public interface VoteLogRepository extends JpaRepository<VoteLog, Long> {
     List<VoteLog> findByUserIdAndFeedIdIn(Long userId, List<Long> feedIds);
 
     /**
-     * 특정 피드에 투표한 userId 목록 (guest 제외)
-     * - VoteType.USER
-     * - user is not null
-     * - distinct
+     * 여러 피드의 참여자(guest 제외)와 푸시 수신 정보를 한 번에 조회
+     * - idx_vote_logs_feed_type_user 로 피드별 USER 투표만 범위 스캔
+     * - (user_id, feed_id) unique 이므로 distinct 불필요
      */
     @Query("""
-        select distinct v.user.id
+        select new com.nexters.sseotdabwa.domain.votes.repository.FeedParticipantRow(
+            v.feed.id, u.id, u.fcmToken, u.pushEnabled)
         from VoteLog v
-        where v.feed.id = :feedId
+        join v.user u
+        where v.feed.id in :feedIds
           and v.voteType = com.nexters.sseotdabwa.domain.votes.enums.VoteType.USER
-          and v.user is not null
     """)
-    List<Long> findDistinctUserIdsVotedByFeedId(@Param("feedId") Long feedId);
+    List<FeedParticipantRow> findParticipantsByFeedIdIn(@Param("feedIds") Collection<Long> feedIds);
 }
@@ -1,23 +1,33 @@
 package com.nexters.sseotdabwa.domain.votes.service;
 
 import java.util.List;
+import java.util.Locale;
 
+import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.votes.entity.VoteLog;
+import com.nexters.sseotdabwa.domain.votes.exception.VoteErrorCode;
+import com.nexters.sseotdabwa.domain.votes.repository.FeedParticipantRow;
 import com.nexters.sseotdabwa.domain.votes.repository.VoteLogRepository;
 import com.nexters.sseotdabwa.domain.votes.service.command.VoteCreateCommand;
+import com.nexters.sseotdabwa.domain.votes.writer.VoteLogWriteBehindQueue;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class VoteLogService {
 
     private final VoteLogRepository voteLogRepository;
+    private final VoteLogWriteBehindQueue voteLogWriteBehindQueue;
 
     @Transactional
     public void deleteByUserId(Long userId) {
@@ -45,15 +55,68 @@ public class VoteLogService {
         return voteLogRepository.save(voteLog);
     }
 
-    public boolean existsByUserAndFeed(Long userId, Long feedId) {
-        return voteLogRepository.existsByUserIdAndFeedId(userId, feedId);
+    /**
+     * 회원 투표 로그 생성 (insert-first)
+     * - 사전 exists 조회 없이 바로 INSERT 하고, (user_id, feed_id) 유니크 제약 위반을 중복 투표로 판단한다.
+     * - 다른 무결성 위반(FK, NOT NULL 등)은 중복 투표가 아니므로 그대로 전파한다.
+     * - 동시에 같은 회원의 투표가 들어와도 하나만 성공한다.
+     */
+    @Transactional
+    public VoteLog createUserVoteLog(VoteCreateCommand command) {
+        VoteLog voteLog = VoteLog.builder()
+                .user(command.user())
+                .feed(command.feed())
+                .choice(command.choice())
+                .voteType(command.voteType())
+                .build();
+
+        try {
+            return voteLogRepository.saveAndFlush(voteLog);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateVote(e)) {
+                throw e;
+            }
+            log.warn("중복 투표 시도: userId={}, feedId={}", command.user().getId(), command.feed().getId());
+            throw new GlobalException(VoteErrorCode.VOTE_ALREADY_VOTED);
+        }
+    }
+
+    /**
+     * uk_vote_logs_user_feed 위반인지 확인
+     * - DB 마다 제약 이름 앞뒤에 테이블/인덱스 정보가 붙으므로(MySQL: vote_logs.uk_…, H2: PUBLIC.UK_… ON …) 포함 여부로 비교한다.
+     */
+    private boolean isDuplicateVote(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+            return cve.getConstraintName().toLowerCase(Locale.ROOT).contains(VoteLog.USER_FEED_UNIQUE_CONSTRAINT);
+        }
+        return false;
+    }
+
+    /**
+     * 게스트 투표 로그 기록
+     * - write-behind 활성화: 커밋 이후 큐에 적재되어 별도 스레드에서 multi-row INSERT 로 저장된다.
+     * - 비활성화: 현재 트랜잭션에서 즉시 INSERT
+     */
+    @Transactional
+    public void recordVoteLog(VoteCreateCommand command) {
+        if (!voteLogWriteBehindQueue.isEnabled()) {
+            createVoteLog(command);
+            return;
+        }
+        voteLogWriteBehindQueue.enqueueAfterCommit(command);
     }
 
     public List<VoteLog> findByUserIdAndFeedIds(Long userId, List<Long> feedIds) {
         return voteLogRepository.findByUserIdAndFeedIdIn(userId, feedIds);
     }
 
-    public List<Long> findDistinctUserIdsVotedByFeedId(Long feedId) {
-        return voteLogRepository.findDistinctUserIdsVotedByFeedId(feedId);
+    /**
+     * 여러 피드의 참여자(guest 제외)를 푸시 수신 정보와 함께 조회 (쿼리 1회)
+     */
+    public List<FeedParticipantRow> findParticipantsByFeedIds(List<Long> feedIds) {
+        if (feedIds == null || feedIds.isEmpty()) {
+            return List.of();
+        }
+        return voteLogRepository.findParticipantsByFeedIdIn(feedIds);
     }
 }
@@ -0,0 +1,284 @@
+package com.nexters.sseotdabwa.domain.votes.writer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexters.sseotdabwa.common.config.VoteLogWriteBehindProperties;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteType;
+import com.nexters.sseotdabwa.domain.votes.service.command.VoteCreateCommand;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * VoteLog write-behind 큐
+ * - 투표 트랜잭션이 커밋된 뒤 VoteLog row 를 메모리 큐에 적재하고,
+ *   전용 스레드가 batchSize 개 또는 flushIntervalMillis 마다 multi-row INSERT 로 일괄 저장한다.
+ * - 게스트(SYSTEM) 투표 로그에 사용한다. 회원 투표는 유니크 제약으로 중복을 판단해야 하므로 동기 INSERT 한다.
+ *
+ * 정책:
+ * - 큐가 가득 차면 offerTimeoutMillis 만큼 대기(backpressure)하고, 그래도 자리가 없으면 호출 스레드에서 동기 INSERT 한다.
+ * - 종료(stop) 시 큐에 남은 row 를 모두 flush 한 뒤 내려간다.
+ * - 배치 INSERT 가 실패하면 row 단위로 재시도하고, 그래도 실패한 row(삭제된 피드 등)는 로그만 남기고 버린다.
+ * - INSERT 는 항상 별도(REQUIRES_NEW) 트랜잭션으로 커밋한다.
+ *   (afterCommit 콜백은 끝난 트랜잭션에 참여하고, 풀이 auto-commit=false 로 설정돼도 INSERT 가 롤백되지 않도록)
+ */
+@Slf4j
+@Component
+public class VoteLogWriteBehindQueue implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO vote_logs (user_id, feed_id, choice, vote_type, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 6;
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+    // 웹 서버(graceful shutdown)보다 늦게 멈추도록 낮은 phase 사용 → 처리 중이던 요청의 VoteLog 까지 flush
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final VoteLogWriteBehindProperties properties;
+    private final BlockingQueue<PendingVoteLog> queue;
+
+    private final Timer flushTimer;
+    private final Counter flushedRows;
+    private final Counter overflowRows;
+    private final Counter failedRows;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public VoteLogWriteBehindQueue(
+            JdbcTemplate jdbcTemplate,
+            @Qualifier("requiresNewTransactionTemplate") TransactionTemplate requiresNewTransactionTemplate,
+            VoteLogWriteBehindProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransactionTemplate = requiresNewTransactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.capacity()));
+
+        Gauge.builder("vote_log.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("flush 대기 중인 VoteLog 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("vote_log.write_behind.flush")
+                .description("VoteLog 배치 INSERT 소요 시간")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("vote_log.write_behind.flushed").register(meterRegistry);
+        this.overflowRows = Counter.builder("vote_log.write_behind.overflow").register(meterRegistry);
+        this.failedRows = Counter.builder("vote_log.write_behind.failed").register(meterRegistry);
+    }
+
+    /**
+     * 큐 적재 대상 row
+     */
+    record PendingVoteLog(
+            Long userId,
+            Long feedId,
+            VoteChoice choice,
+            VoteType voteType,
+            LocalDateTime createdAt
+    ) {}
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 큐에 적재한다. (롤백되면 적재하지 않음)
+     */
+    public void enqueueAfterCommit(VoteCreateCommand command) {
+        PendingVoteLog row = new PendingVoteLog(
+                command.user() == null ? null : command.user().getId(),
+                command.feed().getId(),
+                command.choice(),
+                command.voteType(),
+                LocalDateTime.now()
+        );
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(row);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(row);
+            }
+        });
+    }
+
+    private void enqueue(PendingVoteLog row) {
+        if (running) {
+            try {
+                if (queue.offer(row, properties.offerTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            overflowRows.increment();
+        }
+        // 큐가 가득 찼거나 종료 중이면 호출 스레드에서 바로 저장
+        write(List.of(row));
+    }
+
+    /**
+     * 큐에 쌓인 row 를 즉시 모두 저장한다.
+     */
+    public void flushAll() {
+        List<PendingVoteLog> batch = new ArrayList<>(properties.batchSize());
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    private void runFlushLoop() {
+        List<PendingVoteLog> batch = new ArrayList<>(properties.batchSize());
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.flushIntervalMillis());
+
+        while (running) {
+            try {
+                PendingVoteLog first = queue.poll(properties.flushIntervalMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // batchSize 가 차거나 flushInterval 이 지날 때까지 모은다.
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < properties.batchSize()) {
+                    queue.drainTo(batch, properties.batchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= properties.batchSize() || remaining <= 0) {
+                        break;
+                    }
+                    PendingVoteLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("VoteLog write-behind flush 루프 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingVoteLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> insertBatch(batch));
+            flushedRows.increment(batch.size());
+        } catch (DataAccessException e) {
+            log.warn("VoteLog 배치 INSERT 실패, row 단위로 재시도합니다. size={}", batch.size(), e);
+            for (PendingVoteLog row : batch) {
+                insertOne(row);
+            }
+        }
+    }
+
+    private void insertBatch(List<PendingVoteLog> batch) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(batch.size(), ROW_PLACEHOLDER));
+        Object[] args = new Object[batch.size() * COLUMN_COUNT];
+        int i = 0;
+        for (PendingVoteLog row : batch) {
+            args[i++] = row.userId();
+            args[i++] = row.feedId();
+            args[i++] = row.choice().name();
+            args[i++] = row.voteType().name();
+            args[i++] = row.createdAt();
+            args[i++] = row.createdAt();
+        }
+        requiresNewTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+
+    private void insertOne(PendingVoteLog row) {
+        try {
+            insertBatch(List.of(row));
+            flushedRows.increment();
+        } catch (DataAccessException e) {
+            failedRows.increment();
+            log.warn("VoteLog 저장 실패 (버림) userId={}, feedId={}, voteType={}",
+                    row.userId(), row.feedId(), row.voteType(), e);
+        }
+    }
+
+    // ========================
+    // SmartLifecycle
+    // ========================
+
+    @Override
+    public void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "vote-log-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("VoteLog write-behind 시작. capacity={}, batchSize={}, flushIntervalMillis={}",
+                properties.capacity(), properties.batchSize(), properties.flushIntervalMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 row 모두 저장 (durability)
+        flushAll();
+        log.info("VoteLog write-behind 종료. 잔여 큐 flush 완료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
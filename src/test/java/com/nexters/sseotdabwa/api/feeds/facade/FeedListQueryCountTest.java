@@ -0,0 +1,175 @@
+package com.nexters.sseotdabwa.api.feeds.facade;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexters.sseotdabwa.api.users.facade.UserFacade;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 목록 응답의 SQL 실행 수 회귀 테스트 (Hibernate Statistics)
+ * - 페이지 크기/작성자 수와 무관하게 실행 statement 수가 같아야 하고,
+ * - 작성자(User) 지연 로딩으로 인한 추가 fetch 가 없어야 한다.
+ */
+@SpringBootTest
+@Transactional
+class FeedListQueryCountTest {
+
+    private static final int FEED_COUNT = 10;
+
+    @Autowired
+    private FeedFacade feedFacade;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("피드 목록(V1) 조회 시 작성자 수만큼 추가 쿼리가 발생하지 않는다")
+    void getFeedList_noAuthorNPlusOne() {
+        // given
+        User viewer = createUser();
+        createFeedsByDistinctAuthors();
+
+        // when
+        QueryCount small = measure(() -> feedFacade.getFeedList(viewer, null, 2, null, null));
+        QueryCount large = measure(() -> feedFacade.getFeedList(viewer, null, FEED_COUNT, null, null));
+
+        // then
+        assertThat(large.entityFetches()).isZero();
+        assertThat(large.statements()).isEqualTo(small.statements());
+    }
+
+    @Test
+    @DisplayName("피드 목록(V2) 조회 시 작성자 수만큼 추가 쿼리가 발생하지 않는다")
+    void getFeedListV2_noAuthorNPlusOne() {
+        // given
+        User viewer = createUser();
+        createFeedsByDistinctAuthors();
+
+        // when
+        QueryCount small = measure(() -> feedFacade.getFeedListV2(viewer, null, 2, null, null));
+        QueryCount large = measure(() -> feedFacade.getFeedListV2(viewer, null, FEED_COUNT, null, null));
+
+        // then
+        assertThat(large.entityFetches()).isZero();
+        assertThat(large.statements()).isEqualTo(small.statements());
+    }
+
+    @Test
+    @DisplayName("비로그인 피드 목록 조회 시에도 작성자 추가 쿼리가 발생하지 않는다")
+    void getFeedList_anonymous_noAuthorNPlusOne() {
+        // given
+        createFeedsByDistinctAuthors();
+
+        // when
+        QueryCount small = measure(() -> feedFacade.getFeedList(null, null, 2, null, null));
+        QueryCount large = measure(() -> feedFacade.getFeedList(null, null, FEED_COUNT, null, null));
+
+        // then
+        assertThat(large.entityFetches()).isZero();
+        assertThat(large.statements()).isEqualTo(small.statements());
+    }
+
+    @Test
+    @DisplayName("내 피드(V1/V2) 조회 시 작성자 지연 로딩 쿼리가 발생하지 않는다")
+    void getMyFeeds_noAuthorLazyLoad() {
+        // given
+        User author = createUser();
+        for (int i = 0; i < FEED_COUNT; i++) {
+            createFeed(author);
+        }
+
+        // when
+        QueryCount v1 = measure(() -> userFacade.getMyFeeds(author, null, FEED_COUNT, null, null));
+        QueryCount v2Small = measure(() -> userFacade.getMyFeedsV2(author, null, 2, null, null));
+        QueryCount v2Large = measure(() -> userFacade.getMyFeedsV2(author, null, FEED_COUNT, null, null));
+
+        // then
+        assertThat(v1.entityFetches()).isZero();
+        assertThat(v2Large.entityFetches()).isZero();
+        assertThat(v2Large.statements()).isEqualTo(v2Small.statements());
+    }
+
+    // ===== Helper Methods =====
+
+    private record QueryCount(long statements, long entityFetches) {}
+
+    /**
+     * 한 번 실행해 애플리케이션 캐시(차단 목록 등)를 데운 뒤,
+     * 영속성 컨텍스트를 비우고 다시 실행해 1차 캐시에 남은 엔티티로 N+1 이 가려지지 않게 한다.
+     */
+    private QueryCount measure(Runnable action) {
+        entityManager.flush();
+        action.run();
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+
+        return new QueryCount(statistics.getPrepareStatementCount(), statistics.getEntityFetchCount());
+    }
+
+    private void createFeedsByDistinctAuthors() {
+        for (int i = 0; i < FEED_COUNT; i++) {
+            createFeed(createUser());
+        }
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("테스트_" + UUID.randomUUID().toString().substring(0, 8))
+                .socialAccount(SocialAccount.KAKAO)
+                .profileImage("https://cdn.example.com/profile.png")
+                .build());
+    }
+
+    private Feed createFeed(User user) {
+        return feedRepository.save(Feed.builder()
+                .user(user)
+                .content("테스트 피드")
+                .price(10000L)
+                .category(FeedCategory.FASHION)
+                .build());
+    }
+}
@@ -0,0 +1,224 @@
+package com.nexters.sseotdabwa.api.feeds.facade;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexters.sseotdabwa.api.feeds.dto.FeedResponseV2;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRepository;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedImageService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
+import com.nexters.sseotdabwa.domain.users.service.UserBlockService;
+import com.nexters.sseotdabwa.domain.votes.entity.VoteLog;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteType;
+import com.nexters.sseotdabwa.domain.votes.repository.VoteLogRepository;
+import com.nexters.sseotdabwa.domain.votes.service.VoteLogService;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 목록 페이지 조립 벤치마크 (기본 test 태스크에서는 제외)
+ * - 엔티티 기반 조립(차단 → 피드 → 이미지 → 샤드 합계 → 내 투표, 5 쿼리)과
+ *   DTO projection read model(피드 행 + 이미지 행, 2 쿼리)의 지연 시간/스레드 할당량을 비교한다.
+ * - 매 반복마다 영속성 컨텍스트를 비워, 엔티티 경로가 실제 요청처럼 hydration 비용을 치르게 한다.
+ *
+ * 실행:
+ *   ./gradlew benchmarkTest --tests '*FeedPageAssemblyBenchmarkTest'
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class FeedPageAssemblyBenchmarkTest {
+
+    private static final int USER_COUNT = 50;
+    private static final int FEED_COUNT = 1_000;
+    private static final int IMAGES_PER_FEED = 3;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private FeedFacade feedFacade;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private FeedImageService feedImageService;
+
+    @Autowired
+    private FeedVoteCounterService feedVoteCounterService;
+
+    @Autowired
+    private VoteLogService voteLogService;
+
+    @Autowired
+    private UserBlockService userBlockService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private FeedImageRepository feedImageRepository;
+
+    @Autowired
+    private VoteLogRepository voteLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("read model 조립과 엔티티 기반 조립의 지연 시간/할당량 비교")
+    void compareEntityAssemblyWithReadModel() {
+        // given
+        User viewer = seed();
+        assertThat(summarize(readModelPage(viewer))).isEqualTo(summarize(entityPage(viewer)));
+
+        // when
+        Measurement entity = measure(() -> entityPage(viewer));
+        Measurement readModel = measure(() -> readModelPage(viewer));
+
+        // then
+        log.info("[entity]     {} us/page, {} bytes/page", entity.micros(), entity.bytes());
+        log.info("[read model] {} us/page, {} bytes/page", readModel.micros(), readModel.bytes());
+        assertThat(readModel.bytes()).isPositive();
+    }
+
+    // ===== Helper Methods =====
+
+    private record Measurement(long micros, long bytes) {}
+
+    private Measurement measure(Runnable page) {
+        for (int i = 0; i < WARMUP; i++) {
+            runCleared(page);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runCleared(page);
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(elapsed / ITERATIONS / 1_000, allocated / ITERATIONS);
+    }
+
+    private void runCleared(Runnable page) {
+        entityManager.clear();
+        page.run();
+    }
+
+    private List<FeedResponseV2> readModelPage(User viewer) {
+        return feedFacade.getFeedListV2(viewer, null, PAGE_SIZE, null, null).content();
+    }
+
+    /**
+     * read model 도입 전 FeedFacade.getFeedListV2 의 조립 방식 (이미지 URL 은 비교 대상에서 제외)
+     * - 당시의 user_id NOT IN 조회는 제거되었으므로, 차단 수만큼 더 읽어 메모리에서 제외한다. (차단 1명이라 결과 동일)
+     */
+    private List<FeedResponseV2> entityPage(User viewer) {
+        List<Long> excludedUserIds = userBlockService.findBlockedUserIds(viewer.getId());
+        List<Feed> feeds = feedService.findAllExceptDeletedWithCursor(null, PAGE_SIZE + excludedUserIds.size(), null, null)
+                .stream()
+                .filter(feed -> !excludedUserIds.contains(feed.getUser().getId()))
+                .toList();
+        List<Feed> slicedFeeds = feeds.size() > PAGE_SIZE ? feeds.subList(0, PAGE_SIZE) : feeds;
+        List<Long> feedIds = slicedFeeds.stream().map(Feed::getId).toList();
+
+        Map<Long, List<FeedImage>> imageMap = feedImageService.findByFeedIds(feedIds).stream()
+                .collect(Collectors.groupingBy(fi -> fi.getFeed().getId()));
+        Map<Long, FeedVoteCount> voteCountMap = feedVoteCounterService.getCounts(slicedFeeds);
+        Map<Long, VoteChoice> voteMap = voteLogService.findByUserIdAndFeedIds(viewer.getId(), feedIds).stream()
+                .collect(Collectors.toMap(vl -> vl.getFeed().getId(), VoteLog::getChoice));
+
+        return slicedFeeds.stream()
+                .map(feed -> {
+                    List<FeedImage> images = imageMap.getOrDefault(feed.getId(), List.of());
+                    VoteChoice myChoice = voteMap.get(feed.getId());
+                    return FeedResponseV2.of(feed, voteCountMap.get(feed.getId()), images, List.of(), myChoice != null, myChoice);
+                })
+                .toList();
+    }
+
+    private List<String> summarize(List<FeedResponseV2> page) {
+        return page.stream()
+                .map(r -> r.feedId() + "|" + r.yesCount() + "|" + r.noCount() + "|" + r.hasVoted() + "|" + r.myVoteChoice()
+                        + "|" + r.author().userId() + "|" + r.author().nickname()
+                        + "|" + r.images().stream().map(FeedResponseV2.ImageInfo::s3ObjectKey).toList())
+                .toList();
+    }
+
+    private User seed() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(User.builder()
+                    .socialId(UUID.randomUUID().toString())
+                    .nickname("bench_" + UUID.randomUUID().toString().substring(0, 8))
+                    .socialAccount(SocialAccount.KAKAO)
+                    .build()));
+        }
+        User viewer = users.get(0);
+        userBlockService.blockUser(viewer, users.get(1));
+
+        FeedCategory[] categories = FeedCategory.values();
+        for (int i = 0; i < FEED_COUNT; i++) {
+            Feed feed = feedRepository.save(Feed.builder()
+                    .user(users.get(i % USER_COUNT))
+                    .content("benchmark " + i)
+                    .price(10000L)
+                    .category(categories[i % categories.length])
+                    .build());
+            for (int j = 0; j < IMAGES_PER_FEED; j++) {
+                feedImageRepository.save(FeedImage.builder()
+                        .feed(feed)
+                        .s3ObjectKey("feeds/" + feed.getId() + "/" + j + ".png")
+                        .imageWidth(1080)
+                        .imageHeight(1080)
+                        .build());
+            }
+            if (i % 3 == 0) {
+                voteLogRepository.save(VoteLog.builder()
+                        .user(viewer)
+                        .feed(feed)
+                        .choice(i % 2 == 0 ? VoteChoice.YES : VoteChoice.NO)
+                        .voteType(VoteType.USER)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return viewer;
+    }
+}
@@ -1,9 +1,13 @@
 package com.nexters.sseotdabwa.api.notifications.facade;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import com.nexters.sseotdabwa.api.notifications.dto.NotificationResponse;
+import com.nexters.sseotdabwa.common.response.CursorPageResponse;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.entity.FeedImage;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
@@ -12,8 +16,15 @@ import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
 
 import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
 import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.notifications.enums.PushOutboxStatus;
+import com.nexters.sseotdabwa.domain.notifications.push.FcmBatchResult;
 import com.nexters.sseotdabwa.domain.notifications.push.FcmSender;
+import com.nexters.sseotdabwa.domain.notifications.push.PushMessage;
+import com.nexters.sseotdabwa.domain.notifications.push.PushOutboxRelay;
 import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.PushOutboxRepository;
+import com.nexters.sseotdabwa.domain.notifications.service.NotificationService;
+import com.nexters.sseotdabwa.domain.notifications.service.UnreadNotificationCounterService;
 
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
@@ -24,16 +35,21 @@ import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteType;
 import com.nexters.sseotdabwa.domain.votes.repository.VoteLogRepository;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -47,10 +63,26 @@ class NotificationFacadeTest {
     @Autowired private FeedImageRepository feedImageRepository;
     @Autowired private VoteLogRepository voteLogRepository;
     @Autowired private NotificationRepository notificationRepository;
+    @Autowired private PushOutboxRepository pushOutboxRepository;
+    @Autowired private PushOutboxRelay pushOutboxRelay;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private UnreadNotificationCounterService unreadNotificationCounterService;
 
     @MockBean
     private FcmSender fcmSender;
 
+    @SpyBean
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        given(fcmSender.sendAll(anyList())).willAnswer(invocation -> {
+            List<PushMessage> messages = invocation.getArgument(0);
+            return FcmBatchResult.allSucceeded(messages.size());
+        });
+    }
+
     @Test
     @DisplayName("피드 마감 처리 시 작성자/참여자 알림이 생성된다")
     void onFeedsClosed_createsNotifications_forAuthorAndParticipants() {
@@ -95,7 +127,73 @@ class NotificationFacadeTest {
     }
 
     @Test
-    @DisplayName("pushEnabled=true + fcmToken 존재하면 FCM send가 호출된다")
+    @DisplayName("여러 피드를 한 번에 마감하면 피드별 참여자에게만 알림이 생성된다 (게스트/작성자 본인 투표 제외)")
+    void onFeedsClosed_multipleFeeds_resolvesParticipantsPerFeed() {
+        // given
+        User author = createUser("author");
+        User voter1 = createUser("voter1");
+        User voter2 = createUser("voter2");
+
+        Feed feed1 = createFeed(author);
+        Feed feed2 = createFeed(author);
+
+        saveVote(voter1, feed1, VoteType.USER);
+        saveVote(voter2, feed2, VoteType.USER);
+        saveVote(author, feed2, VoteType.USER);
+        saveVote(null, feed2, VoteType.SYSTEM);
+
+        // when
+        notificationFacade.onFeedsClosed(List.of(feed1.getId(), feed2.getId()));
+
+        // then
+        // 피드별 작성자 1 + 참여자 1 = 4개
+        assertThat(notificationRepository.count()).isEqualTo(4);
+        assertThat(notificationRepository.existsByUserIdAndFeedIdAndType(
+                voter1.getId(), feed1.getId(), NotificationType.PARTICIPATED_FEED_CLOSED)).isTrue();
+        assertThat(notificationRepository.existsByUserIdAndFeedIdAndType(
+                voter1.getId(), feed2.getId(), NotificationType.PARTICIPATED_FEED_CLOSED)).isFalse();
+        assertThat(notificationRepository.existsByUserIdAndFeedIdAndType(
+                voter2.getId(), feed2.getId(), NotificationType.PARTICIPATED_FEED_CLOSED)).isTrue();
+        assertThat(notificationRepository.existsByUserIdAndFeedIdAndType(
+                author.getId(), feed2.getId(), NotificationType.PARTICIPATED_FEED_CLOSED)).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("여러 피드 마감 중 한 피드의 알림 생성이 실패해도 그 피드만 롤백되고 나머지 피드의 알림은 커밋된다")
+    void onFeedsClosed_oneFeedFails_otherFeedsCommitted() {
+        // given (피드별 트랜잭션 커밋을 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리)
+        User author = createUser("author");
+        User voter = createUser("voter");
+        Feed failingFeed = createFeed(author);
+        Feed feed = createFeed(author);
+        saveVote(voter, failingFeed, VoteType.USER);
+        saveVote(voter, feed, VoteType.USER);
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            throw new IllegalStateException("알림 생성 실패");
+        }).when(notificationService).createAllIfAbsent(
+                argThat(f -> f != null && f.getId().equals(failingFeed.getId())), anyList(), anyString(), anyString());
+
+        try {
+            // when
+            notificationFacade.onFeedsClosed(List.of(failingFeed.getId(), feed.getId()));
+
+            // then
+            assertThat(countNotifications(failingFeed)).isZero();
+            assertThat(countNotifications(feed)).isEqualTo(2);
+        } finally {
+            jdbcTemplate.update("DELETE FROM notifications WHERE feed_id IN (?, ?)", failingFeed.getId(), feed.getId());
+            jdbcTemplate.update("DELETE FROM vote_logs WHERE feed_id IN (?, ?)", failingFeed.getId(), feed.getId());
+            unreadNotificationCounterService.deleteByUserId(author.getId());
+            unreadNotificationCounterService.deleteByUserId(voter.getId());
+            feedRepository.deleteAllById(List.of(failingFeed.getId(), feed.getId()));
+            userRepository.deleteAllById(List.of(author.getId(), voter.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("pushEnabled=true + fcmToken 존재하면 outbox 에 적재되고, relay 가 FCM 배치 전송(sendAll)한다")
     void onFeedsClosed_sendsFcm_whenEligible() {
         // given
         User author = createUser("author");
@@ -109,13 +207,43 @@ class NotificationFacadeTest {
         notificationFacade.onFeedsClosed(List.of(feed.getId()));
 
         // then
-        // 최소 1회 이상 전송 시도
-        verify(fcmSender, atLeastOnce()).send(
-                eq("fcm_token_test"),
-                anyString(),  // title
-                anyString(),  // body
-                anyMap()      // data payload
-        );
+        // 마감 트랜잭션 안에서는 발송하지 않고 outbox 에만 적재
+        verify(fcmSender, never()).sendAll(anyList());
+        assertThat(pushOutboxRepository.countByStatus(PushOutboxStatus.PENDING)).isEqualTo(1);
+
+        pushOutboxRelay.dispatchOnce();
+        verify(fcmSender, times(1)).sendAll(argThat(messages -> messages.stream()
+                .anyMatch(m -> "fcm_token_test".equals(m.fcmToken()) && m.data().containsKey("notificationId"))));
+        assertThat(pushOutboxRepository.countByStatus(PushOutboxStatus.SENT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참여자가 여러 명이어도 마감 알림 푸시는 한 번의 배치 전송으로 보낸다")
+    void onFeedsClosed_sendsParticipantsInSingleBatch() {
+        // given
+        User author = createUser("author");
+        Feed feed = createFeed(author);
+        createFeedImage(feed);
+
+        for (int i = 0; i < 3; i++) {
+            User voter = createUser("voter" + i);
+            voter.updateFcmToken("fcm_token_" + i);
+            userRepository.save(voter);
+            voteLogRepository.save(VoteLog.builder()
+                    .user(voter)
+                    .feed(feed)
+                    .choice(VoteChoice.YES)
+                    .voteType(VoteType.USER)
+                    .build());
+        }
+
+        // when
+        notificationFacade.onFeedsClosed(List.of(feed.getId()));
+        pushOutboxRelay.dispatchOnce();
+
+        // then
+        verify(fcmSender, times(1)).sendAll(argThat(messages -> messages.size() == 3));
+        verify(fcmSender, never()).send(anyString(), anyString(), anyString(), anyMap());
     }
 
     @Test
@@ -142,8 +270,10 @@ class NotificationFacadeTest {
         // 알림 저장은 됨 (작성자 알림 1개)
         assertThat(notificationRepository.count()).isEqualTo(1);
 
-        // 전송은 안됨
-        verify(fcmSender, never()).send(anyString(), anyString(), anyString(), anyMap());
+        // outbox 적재/전송 안됨
+        assertThat(pushOutboxRepository.count()).isZero();
+        assertThat(pushOutboxRelay.dispatchOnce()).isZero();
+        verify(fcmSender, never()).sendAll(anyList());
     }
 
     @Test
@@ -162,7 +292,8 @@ class NotificationFacadeTest {
 
         // then
         assertThat(notificationRepository.count()).isEqualTo(1);
-        verify(fcmSender, never()).send(anyString(), anyString(), anyString(), anyMap());
+        assertThat(pushOutboxRepository.count()).isZero();
+        verify(fcmSender, never()).sendAll(anyList());
     }
 
     // ===== getUnreadCount =====
@@ -224,6 +355,70 @@ class NotificationFacadeTest {
         assertThat(count).isZero();
     }
 
+    // ===== getNotificationPage =====
+
+    @Test
+    @DisplayName("알림 커서 조회 - 생성 시각이 같아도 (createdAt, id) 역순으로 누락/중복 없이 이어진다")
+    void getNotificationPage_keysetAcrossEqualCreatedAt() {
+        // given
+        User user = createUser("user");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(saveNotification(user, createFeed(user)).getId());
+        }
+        jdbcTemplate.update("update notifications set created_at = ? where user_id = ?",
+                LocalDateTime.now().minusHours(1), user.getId());
+
+        // when
+        CursorPageResponse<NotificationResponse> first = notificationFacade.getNotificationPage(user, null, null, 2);
+        CursorPageResponse<NotificationResponse> second = notificationFacade.getNotificationPage(user, null, first.nextCursor(), 2);
+        CursorPageResponse<NotificationResponse> last = notificationFacade.getNotificationPage(user, null, second.nextCursor(), 2);
+
+        // then
+        assertThat(notificationIds(first)).containsExactly(ids.get(4), ids.get(3));
+        assertThat(notificationIds(second)).containsExactly(ids.get(2), ids.get(1));
+        assertThat(notificationIds(last)).containsExactly(ids.get(0));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("알림 커서 조회 - 기본 크기 첫 페이지는 캐시에서 응답하고, 읽음 처리 시 무효화된다")
+    void getNotificationPage_firstPageCachedUntilMarkAsRead() {
+        // given
+        User user = createUser("user");
+        Notification notification = saveNotification(user, createFeed(user));
+        CursorPageResponse<NotificationResponse> loaded = notificationFacade.getNotificationPage(user, null, null, null);
+
+        // when
+        CursorPageResponse<NotificationResponse> cached = notificationFacade.getNotificationPage(user, null, null, null);
+        notificationFacade.markAsRead(user, notification.getId());
+        CursorPageResponse<NotificationResponse> reloaded = notificationFacade.getNotificationPage(user, null, null, null);
+
+        // then
+        assertThat(cached).isSameAs(loaded);
+        assertThat(loaded.content().get(0).isRead()).isFalse();
+        assertThat(reloaded.content().get(0).isRead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("알림 커서 조회 - 마감 알림이 새로 생성되면 캐시된 첫 페이지가 무효화된다")
+    void getNotificationPage_evictedOnFeedClosed() {
+        // given
+        User author = createUser("author");
+        Feed feed = createFeed(author);
+        CursorPageResponse<NotificationResponse> before = notificationFacade.getNotificationPage(author, null, null, null);
+
+        // when
+        notificationFacade.onFeedsClosed(List.of(feed.getId()));
+        CursorPageResponse<NotificationResponse> after = notificationFacade.getNotificationPage(author, null, null, null);
+
+        // then
+        assertThat(before.content()).isEmpty();
+        assertThat(after.content()).extracting(NotificationResponse::feedId).containsExactly(feed.getId());
+    }
+
     // ---------------- helpers ----------------
 
     private User createUser(String prefix) {
@@ -243,6 +438,29 @@ class NotificationFacadeTest {
                 .build());
     }
 
+    private Notification saveNotification(User user, Feed feed) {
+        return notificationRepository.save(Notification.builder()
+                .user(user).feed(feed).type(NotificationType.MY_FEED_CLOSED)
+                .title("제목").body("내용").build());
+    }
+
+    private Integer countNotifications(Feed feed) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE feed_id = ?", Integer.class, feed.getId());
+    }
+
+    private List<Long> notificationIds(CursorPageResponse<NotificationResponse> page) {
+        return page.content().stream().map(NotificationResponse::notificationId).toList();
+    }
+
+    private void saveVote(User user, Feed feed, VoteType voteType) {
+        voteLogRepository.save(VoteLog.builder()
+                .user(user)
+                .feed(feed)
+                .choice(VoteChoice.YES)
+                .voteType(voteType)
+                .build());
+    }
+
     private void createFeedImage(Feed feed) {
         feedImageRepository.save(FeedImage.builder()
                 .feed(feed)
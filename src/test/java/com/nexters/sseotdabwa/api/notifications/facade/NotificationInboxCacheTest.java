@@ -0,0 +1,138 @@
+package com.nexters.sseotdabwa.api.notifications.facade;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.nexters.sseotdabwa.api.notifications.dto.NotificationResponse;
+import com.nexters.sseotdabwa.common.config.NotificationInboxCacheProperties;
+import com.nexters.sseotdabwa.common.response.CursorPageResponse;
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NotificationInboxCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loadCount;
+    private Supplier<CursorPageResponse<NotificationResponse>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loadCount = new AtomicInteger();
+        loader = () -> {
+            loadCount.incrementAndGet();
+            return CursorPageResponse.of(List.of(), null, false);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 사용자/타입 필터의 첫 페이지는 TTL 동안 한 번만 조립하고 hit/miss 를 기록한다")
+    void getFirstPage_cachesWithinTtl() {
+        // given
+        NotificationInboxCache cache = createCache(true, 10, 60_000);
+
+        // when
+        CursorPageResponse<NotificationResponse> first = cache.getFirstPage(1L, null, loader);
+        CursorPageResponse<NotificationResponse> second = cache.getFirstPage(1L, null, loader);
+        cache.getFirstPage(1L, NotificationType.MY_FEED_CLOSED, loader);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화되면 해당 사용자의 모든 타입 필터를 다시 조립하고, 다른 사용자는 유지한다")
+    void evict_removesAllTypeFiltersOfUser() {
+        // given
+        NotificationInboxCache cache = createCache(true, 10, 60_000);
+        cache.getFirstPage(1L, null, loader);
+        cache.getFirstPage(1L, NotificationType.PARTICIPATED_FEED_CLOSED, loader);
+        cache.getFirstPage(2L, null, loader);
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        cache.getFirstPage(2L, null, loader);
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("적재 도중 무효화되면 조립한 첫 페이지는 캐시에 남기지 않는다")
+    void getFirstPage_evictedWhileLoading_notCached() {
+        // given
+        NotificationInboxCache cache = createCache(true, 10, 60_000);
+
+        // when
+        cache.getFirstPage(1L, null, () -> {
+            cache.evictAll(List.of(1L));
+            return loader.get();
+        });
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 일부 첫 페이지만 제거해 최대 개수를 유지하고 제거 수를 기록한다")
+    void getFirstPage_overCapacity_keepsMaxEntries() {
+        // given
+        NotificationInboxCache cache = createCache(true, 2, 60_000);
+
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            cache.getFirstPage(userId, null, loader);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(evictions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 매 요청 조립한다")
+    void getFirstPage_disabled_alwaysLoads() {
+        // given
+        NotificationInboxCache cache = createCache(false, 10, 60_000);
+
+        // when
+        cache.getFirstPage(1L, null, loader);
+        cache.getFirstPage(1L, null, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    // ===== Helper Methods =====
+
+    private NotificationInboxCache createCache(boolean enabled, int maxEntries, long ttlMillis) {
+        return new NotificationInboxCache(new NotificationInboxCacheProperties(enabled, maxEntries, ttlMillis), meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", NotificationInboxCache.CACHE_NAME, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("cache.evictions")
+                .tag("cache", NotificationInboxCache.CACHE_NAME)
+                .functionCounter()
+                .count();
+    }
+}
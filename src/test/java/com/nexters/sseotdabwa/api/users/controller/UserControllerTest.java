@@ -28,6 +28,12 @@ import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedImageRepository;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedReviewRepository;
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationBucketRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationCounterRepository;
+import com.nexters.sseotdabwa.domain.notifications.service.NotificationService;
+import com.nexters.sseotdabwa.domain.notifications.service.UnreadNotificationCounterService;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
 import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
@@ -79,6 +85,21 @@ class UserControllerTest {
     @Autowired
     private JwtTokenService jwtTokenService;
 
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UnreadNotificationCounterService unreadNotificationCounterService;
+
+    @Autowired
+    private UnreadNotificationCounterRepository unreadNotificationCounterRepository;
+
+    @Autowired
+    private UnreadNotificationBucketRepository unreadNotificationBucketRepository;
+
     @Test
     @DisplayName("내 정보 조회 성공 - 200 OK")
     void getMyInfo_success() throws Exception {
@@ -175,6 +196,34 @@ class UserControllerTest {
         assertThat(userBlockRepository.count()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 시 받은 알림, 내 피드의 알림, 안 읽은 알림 카운터/bucket 삭제 (다른 유저 카운터는 차감)")
+    void withdraw_success_deletesNotificationsAndUnreadCounters() throws Exception {
+        // given
+        User user = createUser();
+        User otherUser = createUser();
+        Feed feed = createFeed(user);
+        Feed otherFeed = createFeed(otherUser);
+        notificationService.createIfAbsent(user, otherFeed, NotificationType.PARTICIPATED_FEED_CLOSED, "제목", "내용");
+        notificationService.createIfAbsent(user, feed, NotificationType.MY_FEED_CLOSED, "제목", "내용");
+        notificationService.createIfAbsent(otherUser, feed, NotificationType.PARTICIPATED_FEED_CLOSED, "제목", "내용");
+        notificationService.createIfAbsent(otherUser, otherFeed, NotificationType.MY_FEED_CLOSED, "제목", "내용");
+
+        String accessToken = jwtTokenService.createAccessToken(user.getId());
+
+        // when
+        mockMvc.perform(delete("/api/v1/users/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(notificationRepository.count()).isEqualTo(1);
+        assertThat(unreadNotificationCounterRepository.findById(user.getId())).isEmpty();
+        assertThat(unreadNotificationBucketRepository.findAll())
+                .allMatch(bucket -> bucket.getUserId().equals(otherUser.getId()));
+        assertThat(unreadNotificationCounterService.findUnreadCount(otherUser.getId())).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("회원 탈퇴 시 Refresh Token도 삭제됨")
     void withdraw_success_deletesRefreshTokens() throws Exception {
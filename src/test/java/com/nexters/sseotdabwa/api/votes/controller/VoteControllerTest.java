@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,7 +30,7 @@ import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteType;
 import com.nexters.sseotdabwa.domain.votes.repository.VoteLogRepository;
 
-@SpringBootTest
+@SpringBootTest(properties = "vote.guest-dedup.enabled=true")
 @AutoConfigureMockMvc
 @Transactional
 class VoteControllerTest {
@@ -156,6 +157,77 @@ class VoteControllerTest {
                 .andExpect(jsonPath("$.data.myProfileImage").doesNotExist());
     }
 
+    @Test
+    @DisplayName("같은 클라이언트 IP + 기기로 게스트 중복 투표 시 전달 헤더를 바꿔도 400 - VOTE_001")
+    void guestVote_sameRemoteAddrAndDevice_400() throws Exception {
+        // given
+        User owner = createUser();
+        Feed feed = createFeed(owner);
+        VoteRequest request = new VoteRequest(VoteChoice.YES);
+        mockMvc.perform(post("/api/v1/feeds/" + feed.getId() + "/votes/guest")
+                        .with(remoteAddr("203.0.113.7"))
+                        .header("X-Device-Id", "device-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/feeds/" + feed.getId() + "/votes/guest")
+                        .with(remoteAddr("203.0.113.7"))
+                        .header("X-Device-Id", "device-1")
+                        .header("X-Forwarded-For", "198.51.100.1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VOTE_001"));
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트 IP(NAT) 뒤의 서로 다른 기기는 각각 게스트 투표 가능 - 201 Created")
+    void guestVote_sameRemoteAddrDifferentDevice_201() throws Exception {
+        // given
+        User owner = createUser();
+        Feed feed = createFeed(owner);
+        VoteRequest request = new VoteRequest(VoteChoice.YES);
+        mockMvc.perform(post("/api/v1/feeds/" + feed.getId() + "/votes/guest")
+                        .with(remoteAddr("203.0.113.7"))
+                        .header("X-Device-Id", "device-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/feeds/" + feed.getId() + "/votes/guest")
+                        .with(remoteAddr("203.0.113.7"))
+                        .header("X-Device-Id", "device-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.yesCount").value(2));
+    }
+
+    @Test
+    @DisplayName("기기 식별자가 없으면 같은 클라이언트 IP 여도 중복 검사 없이 게스트 투표 가능 - 201 Created")
+    void guestVote_withoutDeviceId_201() throws Exception {
+        // given
+        User owner = createUser();
+        Feed feed = createFeed(owner);
+        VoteRequest request = new VoteRequest(VoteChoice.NO);
+        mockMvc.perform(post("/api/v1/feeds/" + feed.getId() + "/votes/guest")
+                        .with(remoteAddr("203.0.113.7"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/feeds/" + feed.getId() + "/votes/guest")
+                        .with(remoteAddr("203.0.113.7"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.noCount").value(2));
+    }
+
     @Test
     @DisplayName("게스트 마감 피드 투표 시 400 - VOTE_002")
     void guestVote_closedFeed_400() throws Exception {
@@ -176,6 +248,13 @@ class VoteControllerTest {
 
     // ===== Helper Methods =====
 
+    private RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
     private User createUser() {
         return userRepository.save(User.builder()
                 .socialId(UUID.randomUUID().toString())
@@ -0,0 +1,230 @@
+package com.nexters.sseotdabwa.api.votes.facade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.nexters.sseotdabwa.api.votes.dto.VoteRequest;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedVoteCounterRepository;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
+import com.nexters.sseotdabwa.domain.votes.repository.VoteLogRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 피드에 다수 스레드가 동시에 투표할 때 카운트 유실/초과가 없는지 검증한다.
+ * - 각 스레드가 별도 트랜잭션으로 커밋해야 하므로 클래스 단위 @Transactional 을 사용하지 않는다.
+ */
+@SpringBootTest
+class VoteFacadeConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int VOTER_COUNT = 100;
+
+    @Autowired
+    private VoteFacade voteFacade;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private VoteLogRepository voteLogRepository;
+
+    @Autowired
+    private FeedVoteCounterRepository feedVoteCounterRepository;
+
+    @Autowired
+    private FeedVoteCounterService feedVoteCounterService;
+
+    @AfterEach
+    void tearDown() {
+        voteLogRepository.deleteAllInBatch();
+        feedVoteCounterRepository.deleteAllInBatch();
+        feedRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 회원이 하나의 피드에 동시에 투표해도 모든 표가 반영된다")
+    void vote_concurrent_allCounted() throws InterruptedException {
+        // given
+        Feed feed = createFeed(createUser());
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            voters.add(createUser());
+        }
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        runConcurrently(VOTER_COUNT, i -> {
+            VoteChoice choice = (i % 2 == 0) ? VoteChoice.YES : VoteChoice.NO;
+            voteFacade.vote(voters.get(i), feed.getId(), new VoteRequest(choice));
+        }, failures);
+
+        // then
+        Feed result = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(failures.get()).isZero();
+        assertThat(result.getYesCount()).isEqualTo(VOTER_COUNT / 2);
+        assertThat(result.getNoCount()).isEqualTo(VOTER_COUNT / 2);
+        assertThat(voteLogRepository.count()).isEqualTo(VOTER_COUNT);
+    }
+
+    @Test
+    @DisplayName("샤드가 있는 피드에 동시에 투표해도 집계 카운트가 정확하다")
+    void vote_concurrent_shardedFeed_allCounted() throws InterruptedException {
+        // given
+        Feed feed = createFeed(createUser());
+        feedVoteCounterService.initialize(feed);
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            voters.add(createUser());
+        }
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        runConcurrently(VOTER_COUNT, i -> {
+            VoteChoice choice = (i % 4 == 0) ? VoteChoice.NO : VoteChoice.YES;
+            voteFacade.vote(voters.get(i), feed.getId(), new VoteRequest(choice));
+        }, failures);
+
+        // then
+        Feed result = feedRepository.findById(feed.getId()).orElseThrow();
+        FeedVoteCount count = feedVoteCounterService.getCount(result);
+        assertThat(failures.get()).isZero();
+        assertThat(result.getYesCount()).isZero();
+        assertThat(count.yesCount()).isEqualTo(VOTER_COUNT * 3 / 4);
+        assertThat(count.noCount()).isEqualTo(VOTER_COUNT / 4);
+        assertThat(voteLogRepository.count()).isEqualTo(VOTER_COUNT);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 여러 번 투표해도 한 표만 반영된다")
+    void vote_concurrent_sameUser_onlyOneCounted() throws InterruptedException {
+        // given
+        Feed feed = createFeed(createUser());
+        User voter = createUser();
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        runConcurrently(THREAD_COUNT,
+                i -> voteFacade.vote(voter, feed.getId(), new VoteRequest(VoteChoice.YES)), failures);
+
+        // then
+        Feed result = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(failures.get()).isEqualTo(THREAD_COUNT - 1);
+        assertThat(result.getYesCount()).isEqualTo(1);
+        assertThat(voteLogRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게스트 투표가 하나의 피드에 동시에 몰려도 모든 표가 반영된다")
+    void guestVote_concurrent_allCounted() throws InterruptedException {
+        // given
+        Feed feed = createFeed(createUser());
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        runConcurrently(VOTER_COUNT,
+                i -> voteFacade.guestVote(feed.getId(), new VoteRequest(VoteChoice.YES), "guest-" + i), failures);
+
+        // then
+        Feed result = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(failures.get()).isZero();
+        assertThat(result.getYesCount()).isEqualTo(VOTER_COUNT);
+        assertThat(result.getNoCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감된 피드에 동시 투표 시 모두 VOTE_002 로 거절되고 카운트는 변하지 않는다")
+    void vote_concurrent_closedFeed_allRejected() throws InterruptedException {
+        // given
+        Feed feed = createFeed(createUser());
+        feed.closeVote();
+        feedRepository.save(feed);
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            voters.add(createUser());
+        }
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        runConcurrently(THREAD_COUNT,
+                i -> voteFacade.vote(voters.get(i), feed.getId(), new VoteRequest(VoteChoice.YES)), failures);
+
+        // then
+        Feed result = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(failures.get()).isEqualTo(THREAD_COUNT);
+        assertThat(result.getYesCount()).isZero();
+        assertThat(voteLogRepository.count()).isZero();
+    }
+
+    // ===== Helper Methods =====
+
+    private void runConcurrently(int taskCount, IndexedTask task, AtomicInteger failures) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    task.run(index);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("테스트_" + UUID.randomUUID().toString().substring(0, 8))
+                .socialAccount(SocialAccount.KAKAO)
+                .build());
+    }
+
+    private Feed createFeed(User user) {
+        return feedRepository.save(Feed.builder()
+                .user(user)
+                .content("테스트 피드")
+                .price(10000L)
+                .category(FeedCategory.FASHION)
+                .build());
+    }
+}
@@ -142,7 +142,7 @@ class VoteFacadeTest {
         VoteRequest request = new VoteRequest(VoteChoice.YES);
 
         // when
-        VoteResponse response = voteFacade.guestVote(feed.getId(), request);
+        VoteResponse response = voteFacade.guestVote(feed.getId(), request, "guest-1");
 
         // then
         assertThat(response.feedId()).isEqualTo(feed.getId());
@@ -154,16 +154,16 @@ class VoteFacadeTest {
     }
 
     @Test
-    @DisplayName("게스트 중복 투표 허용")
-    void guestVote_duplicate_allowed() {
+    @DisplayName("서로 다른 게스트는 같은 피드에 각각 투표 가능")
+    void guestVote_differentGuests_allowed() {
         // given
         User owner = createUser();
         Feed feed = createFeed(owner);
         VoteRequest request = new VoteRequest(VoteChoice.YES);
-        voteFacade.guestVote(feed.getId(), request);
+        voteFacade.guestVote(feed.getId(), request, "guest-1");
 
         // when
-        VoteResponse response = voteFacade.guestVote(feed.getId(), request);
+        VoteResponse response = voteFacade.guestVote(feed.getId(), request, "guest-2");
 
         // then
         assertThat(response.yesCount()).isEqualTo(2L);
@@ -181,7 +181,7 @@ class VoteFacadeTest {
         VoteRequest request = new VoteRequest(VoteChoice.YES);
 
         // when & then
-        assertThatThrownBy(() -> voteFacade.guestVote(feed.getId(), request))
+        assertThatThrownBy(() -> voteFacade.guestVote(feed.getId(), request, "guest-1"))
                 .isInstanceOf(GlobalException.class)
                 .hasMessage("마감된 피드에는 투표할 수 없습니다.");
     }
@@ -214,7 +214,7 @@ class VoteFacadeTest {
         VoteRequest request = new VoteRequest(VoteChoice.YES);
 
         // when & then
-        assertThatThrownBy(() -> voteFacade.guestVote(feed.getId(), request))
+        assertThatThrownBy(() -> voteFacade.guestVote(feed.getId(), request, "guest-1"))
                 .isInstanceOf(GlobalException.class)
                 .hasMessage("마감된 피드에는 투표할 수 없습니다.");
     }
@@ -0,0 +1,246 @@
+package com.nexters.sseotdabwa.common.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexters.sseotdabwa.common.config.SchedulerLeaderProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 DB 를 바라보는 여러 인스턴스(LeaderElection)의 리더 선출/인계/fencing 검증
+ * - heartbeat 와 lease 가 각자 커밋되어야 하므로 테스트 트랜잭션으로 감싸지 않는다. (lease 이름은 테스트마다 새로 만듦)
+ */
+@SpringBootTest
+class LeaderElectionTest {
+
+    private static final long LEASE_MILLIS = 15_000;
+    private static final long RENEW_INTERVAL_MILLIS = 5_000;
+
+    @Autowired private SchedulerLeaseRepository leaseRepository;
+    @Autowired @Qualifier("transactionTemplate") private TransactionTemplate transactionTemplate;
+    @Autowired @Qualifier("requiresNewTransactionTemplate") private TransactionTemplate requiresNewTransactionTemplate;
+    @Autowired private Environment environment;
+
+    private MutableClock clock;
+    private String leaseName;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        leaseName = "test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseRepository.deleteById(leaseName);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 heartbeat 해도 리더는 하나만 선출된다")
+    void heartbeat_multipleNodes_electsSingleLeader() {
+        // given
+        List<LeaderElection> nodes = createNodes(3);
+
+        // when
+        nodes.forEach(LeaderElection::heartbeat);
+        clock.advance(Duration.ofMillis(RENEW_INTERVAL_MILLIS));
+        nodes.forEach(LeaderElection::heartbeat);
+
+        // then
+        assertThat(nodes.stream().filter(LeaderElection::isLeader)).hasSize(1);
+        assertThat(currentToken()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리더가 lease 를 반납하면 다음 heartbeat 에서 다른 인스턴스가 인계하고 fencing 토큰이 증가한다")
+    void release_otherNodeTakesOverWithNextToken() {
+        // given
+        List<LeaderElection> nodes = createNodes(2);
+        nodes.forEach(LeaderElection::heartbeat);
+        LeaderElection leader = leaderOf(nodes);
+        LeaderElection follower = nodes.get(nodes.indexOf(leader) == 0 ? 1 : 0);
+
+        // when
+        leader.release();
+        follower.heartbeat();
+
+        // then
+        assertThat(leader.isLeader()).isFalse();
+        assertThat(follower.isLeader()).isTrue();
+        assertThat(currentToken()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("lease 가 만료되면 다른 인스턴스가 인계하고, 이전 리더의 fencing 작업은 실행되지 않는다")
+    void expiredLease_staleLeaderIsFenced() {
+        // given
+        List<LeaderElection> nodes = createNodes(2);
+        nodes.forEach(LeaderElection::heartbeat);
+        LeaderElection staleLeader = leaderOf(nodes);
+        LeaderElection follower = nodes.get(nodes.indexOf(staleLeader) == 0 ? 1 : 0);
+        AtomicInteger executed = new AtomicInteger();
+
+        // when
+        clock.advance(Duration.ofMillis(LEASE_MILLIS));
+        follower.heartbeat();
+
+        // then
+        assertThat(follower.isLeader()).isTrue();
+        assertThatThrownBy(() -> staleLeader.runFenced(executed::incrementAndGet))
+                .isInstanceOf(LeadershipLostException.class);
+        follower.runFenced(executed::incrementAndGet);
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리더가 주기적으로 갱신하면 lease 시간이 지나도 리더가 바뀌지 않는다")
+    void heartbeat_renewingLeaderKeepsLease() {
+        // given
+        List<LeaderElection> nodes = createNodes(2);
+        nodes.forEach(LeaderElection::heartbeat);
+        LeaderElection leader = leaderOf(nodes);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            clock.advance(Duration.ofMillis(RENEW_INTERVAL_MILLIS));
+            nodes.forEach(LeaderElection::heartbeat);
+        }
+
+        // then
+        assertThat(leaderOf(nodes)).isSameAs(leader);
+        assertThat(currentToken()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("긴 fencing 작업이 실행 중이어도 heartbeat 가 lease 를 갱신하고, 작업은 그대로 커밋된다")
+    void runFenced_longJob_doesNotBlockHeartbeat() throws Exception {
+        // given
+        List<LeaderElection> nodes = createNodes(1);
+        LeaderElection leader = nodes.get(0);
+        leader.heartbeat();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Integer> job = CompletableFuture.supplyAsync(() -> leader.callFenced(() -> {
+            started.countDown();
+            await(finish);
+            return 1;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        clock.advance(Duration.ofMillis(RENEW_INTERVAL_MILLIS));
+        CompletableFuture.runAsync(leader::heartbeat).get(5, TimeUnit.SECONDS);
+        finish.countDown();
+
+        // then
+        assertThat(job.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(leader.isLeader()).isTrue();
+        assertThat(leaseRepository.findById(leaseName).orElseThrow().getLeaseUntil())
+                .isEqualTo(LocalDateTime.ofInstant(clock.instant().plusMillis(LEASE_MILLIS), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("fencing 작업 도중 lease 가 다른 인스턴스로 넘어가면 작업이 끝난 뒤 확인에서 거절된다")
+    void runFenced_leaseLostDuringJob_isFenced() throws Exception {
+        // given
+        List<LeaderElection> nodes = createNodes(2);
+        nodes.forEach(LeaderElection::heartbeat);
+        LeaderElection staleLeader = leaderOf(nodes);
+        LeaderElection follower = nodes.get(nodes.indexOf(staleLeader) == 0 ? 1 : 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> job = CompletableFuture.runAsync(() -> staleLeader.runFenced(() -> {
+            started.countDown();
+            await(finish);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        clock.advance(Duration.ofMillis(LEASE_MILLIS));
+        CompletableFuture.runAsync(follower::heartbeat).get(5, TimeUnit.SECONDS);
+        finish.countDown();
+
+        // then
+        assertThat(follower.isLeader()).isTrue();
+        assertThatThrownBy(() -> job.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(LeadershipLostException.class);
+        assertThat(staleLeader.isLeader()).isFalse();
+    }
+
+    // ===== Helper Methods =====
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<LeaderElection> createNodes(int count) {
+        SchedulerLeaderProperties properties =
+                new SchedulerLeaderProperties(true, leaseName, LEASE_MILLIS, RENEW_INTERVAL_MILLIS);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new LeaderElection(leaseRepository, transactionTemplate, requiresNewTransactionTemplate,
+                        properties, environment, clock, "node-" + i))
+                .toList();
+    }
+
+    private LeaderElection leaderOf(List<LeaderElection> nodes) {
+        List<LeaderElection> leaders = nodes.stream().filter(LeaderElection::isLeader).toList();
+        assertThat(leaders).hasSize(1);
+        return leaders.get(0);
+    }
+
+    private long currentToken() {
+        return leaseRepository.findById(leaseName).orElseThrow().getFencingToken();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
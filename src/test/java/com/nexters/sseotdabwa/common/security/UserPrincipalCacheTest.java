@@ -0,0 +1,160 @@
+package com.nexters.sseotdabwa.common.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nexters.sseotdabwa.api.users.exception.UserErrorCode;
+import com.nexters.sseotdabwa.common.config.UserPrincipalCacheProperties;
+import com.nexters.sseotdabwa.common.exception.GlobalException;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserPrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loadCount;
+    private Function<Long, User> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loadCount = new AtomicInteger();
+        loader = userId -> {
+            loadCount.incrementAndGet();
+            return createUser(userId);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 TTL 동안 한 번만 조회하고 hit/miss 를 기록한다")
+    void get_cachesWithinTtl() {
+        // given
+        UserPrincipalCache cache = createCache(true, 10, 60_000);
+
+        // when
+        User first = cache.get(1L, loader);
+        User second = cache.get(1L, loader);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화되면 다음 요청에서 다시 조회한다")
+    void evict_reloadsOnNextGet() {
+        // given
+        UserPrincipalCache cache = createCache(true, 10, 60_000);
+        cache.get(1L, loader);
+
+        // when
+        cache.evict(1L);
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 일부 사용자만 제거해 최대 개수를 유지하고 제거 수를 기록한다")
+    void get_overCapacity_keepsMaxEntries() {
+        // given
+        UserPrincipalCache cache = createCache(true, 2, 60_000);
+
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            cache.get(userId, loader);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(evictions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("적재 도중 무효화되면 조회한 사용자는 캐시에 남기지 않는다")
+    void get_evictedWhileLoading_notCached() {
+        // given
+        UserPrincipalCache cache = createCache(true, 10, 60_000);
+
+        // when
+        cache.get(1L, userId -> {
+            cache.evict(userId);
+            return loader.apply(userId);
+        });
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 실패(탈퇴한 사용자 등)는 캐시하지 않고 예외를 그대로 전파한다")
+    void get_loaderThrows_notCached() {
+        // given
+        UserPrincipalCache cache = createCache(true, 10, 60_000);
+        Function<Long, User> failing = userId -> {
+            throw new GlobalException(UserErrorCode.USER_NOT_FOUND);
+        };
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L, failing)).isInstanceOf(GlobalException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 매 요청 조회한다")
+    void get_disabled_alwaysLoads() {
+        // given
+        UserPrincipalCache cache = createCache(false, 10, 60_000);
+
+        // when
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    // ===== Helper Methods =====
+
+    private UserPrincipalCache createCache(boolean enabled, int maxEntries, long ttlMillis) {
+        return new UserPrincipalCache(new UserPrincipalCacheProperties(enabled, maxEntries, ttlMillis), meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", UserPrincipalCache.CACHE_NAME, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("cache.evictions")
+                .tag("cache", UserPrincipalCache.CACHE_NAME)
+                .functionCounter()
+                .count();
+    }
+
+    private User createUser(Long id) {
+        User user = User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("테스트_" + UUID.randomUUID().toString().substring(0, 8))
+                .socialAccount(SocialAccount.KAKAO)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
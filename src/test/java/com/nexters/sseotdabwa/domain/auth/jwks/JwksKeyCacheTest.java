@@ -0,0 +1,274 @@
+package com.nexters.sseotdabwa.domain.auth.jwks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.nexters.sseotdabwa.domain.auth.service.GoogleOAuthService;
+import com.nexters.sseotdabwa.domain.auth.service.external.GoogleUserInfo;
+import com.sun.net.httpserver.HttpServer;
+
+import io.jsonwebtoken.Jwts;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwksKeyCacheTest {
+
+    private static final String KID = "kid-1";
+    private static final String ROTATED_KID = "kid-2";
+    private static final String WEB_CLIENT_ID = "test-web-client-id";
+
+    private MutableClock clock;
+    private AtomicInteger fetchCount;
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clock = new MutableClock();
+        fetchCount = new AtomicInteger();
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+    }
+
+    @Test
+    @DisplayName("Cache-Control max-age 를 읽고, 없으면 기본 유효 시간을 사용한다")
+    void maxAge_parsesCacheControl() {
+        // given
+        HttpHeaders withMaxAge = new HttpHeaders();
+        withMaxAge.setCacheControl("public, max-age=19137, must-revalidate, no-transform");
+
+        // when & then
+        assertThat(JwksKeyCache.maxAge(withMaxAge)).isEqualTo(Duration.ofSeconds(19137));
+        assertThat(JwksKeyCache.maxAge(new HttpHeaders())).isEqualTo(JwksKeyCache.DEFAULT_MAX_AGE);
+    }
+
+    @Test
+    @DisplayName("max-age 동안은 캐시된 키로 응답하고, 만료되면 다시 조회한다")
+    void getKey_refetchesAfterMaxAge() {
+        // given
+        JwksKeyCache cache = new JwksKeyCache("test", () -> fetch(Map.of(KID, keyPair.getPublic()), Duration.ofMinutes(10)), clock);
+
+        // when
+        PublicKey first = cache.getKey(KID);
+        clock.advance(Duration.ofMinutes(9));
+        cache.getKey(KID);
+        clock.advance(Duration.ofMinutes(2));
+        cache.getKey(KID);
+
+        // then
+        assertThat(first).isEqualTo(keyPair.getPublic());
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 는 한 번 다시 조회하되, 최소 간격 이내의 반복 조회는 하지 않는다")
+    void getKey_unknownKid_refetchesOncePerInterval() {
+        // given
+        List<Map<String, PublicKey>> responses = new ArrayList<>(List.of(
+                Map.of(KID, keyPair.getPublic()),
+                Map.of(KID, keyPair.getPublic(), ROTATED_KID, keyPair.getPublic())
+        ));
+        JwksKeyCache cache = new JwksKeyCache("test",
+                () -> fetch(responses.size() > 1 ? responses.remove(0) : responses.get(0), Duration.ofHours(1)), clock);
+        cache.getKey(KID);
+
+        // when
+        PublicKey unknownWithinInterval = cache.getKey(ROTATED_KID);
+        clock.advance(JwksKeyCache.MIN_REFETCH_INTERVAL);
+        PublicKey rotated = cache.getKey(ROTATED_KID);
+
+        // then
+        assertThat(unknownWithinInterval).isNull();
+        assertThat(rotated).isEqualTo(keyPair.getPublic());
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 후 조회에 실패해도 유예 시간 동안은 이전 키로 응답한다")
+    void getKey_fetchFailsAfterExpiry_servesStaleKeys() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        JwksKeyCache cache = new JwksKeyCache("test", () -> {
+            if (calls.getAndIncrement() > 0) {
+                throw new IllegalStateException("provider down");
+            }
+            return fetch(Map.of(KID, keyPair.getPublic()), Duration.ofMinutes(10));
+        }, clock);
+        cache.getKey(KID);
+
+        // when
+        clock.advance(Duration.ofMinutes(11));
+        PublicKey stale = cache.getKey(KID);
+        clock.advance(JwksKeyCache.STALE_GRACE);
+
+        // then
+        assertThat(stale).isEqualTo(keyPair.getPublic());
+        assertThatThrownBy(() -> cache.getKey(KID)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("비어 있는 캐시에 동시에 요청이 몰려도 제공자 조회는 한 번만 한다")
+    void getKey_concurrentMisses_singleFlight() throws Exception {
+        // given
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        JwksKeyCache cache = new JwksKeyCache("test", () -> {
+            fetchStarted.countDown();
+            await(releaseFetch);
+            return fetch(Map.of(KID, keyPair.getPublic()), Duration.ofHours(1));
+        }, clock);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // when
+            List<Future<PublicKey>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.getKey(KID)));
+            }
+            fetchStarted.await(5, TimeUnit.SECONDS);
+            releaseFetch.countDown();
+
+            // then
+            for (Future<PublicKey> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(keyPair.getPublic());
+            }
+            assertThat(fetchCount.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로컬 stub JWKS 엔드포인트로 Google 로그인 검증 시 JWKS 는 한 번만 조회한다")
+    void googleOAuthService_againstStubJwksEndpoint() throws Exception {
+        // given
+        AtomicInteger hits = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/certs", exchange -> {
+            hits.incrementAndGet();
+            byte[] body = jwksJson().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        try {
+            GoogleOAuthService googleOAuthService = new GoogleOAuthService(WebClient.create());
+            ReflectionTestUtils.setField(googleOAuthService, "keysUrl",
+                    "http://127.0.0.1:" + server.getAddress().getPort() + "/certs");
+            ReflectionTestUtils.setField(googleOAuthService, "webClientId", WEB_CLIENT_ID);
+            ReflectionTestUtils.setField(googleOAuthService, "iosClientId", "test-ios-client-id");
+            ReflectionTestUtils.setField(googleOAuthService, "androidClientId", "test-android-client-id");
+
+            // when
+            GoogleUserInfo first = googleOAuthService.verifyAndGetUserInfo(createIdToken("sub-1"));
+            GoogleUserInfo second = googleOAuthService.verifyAndGetUserInfo(createIdToken("sub-2"));
+
+            // then
+            assertThat(first.getSub()).isEqualTo("sub-1");
+            assertThat(second.getSub()).isEqualTo("sub-2");
+            assertThat(hits.get()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    // ===== Helper Methods =====
+
+    private JwksKeyCache.FetchedKeys fetch(Map<String, PublicKey> keys, Duration maxAge) {
+        fetchCount.incrementAndGet();
+        return new JwksKeyCache.FetchedKeys(keys, maxAge);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String jwksJson() {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return """
+                {"keys":[{"kty":"RSA","kid":"%s","use":"sig","alg":"RS256","n":"%s","e":"%s"}]}
+                """.formatted(
+                KID,
+                encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                encoder.encodeToString(publicKey.getPublicExponent().toByteArray())
+        );
+    }
+
+    private String createIdToken(String sub) {
+        Date now = new Date();
+        return Jwts.builder()
+                .header()
+                .keyId(KID)
+                .and()
+                .issuer("https://accounts.google.com")
+                .audience().add(WEB_CLIENT_ID).and()
+                .subject(sub)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3600000))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -52,6 +53,9 @@ class AppleOAuthServiceTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    @Mock
+    private AppleClientSecretProvider appleClientSecretProvider;
+
     @InjectMocks
     private AppleOAuthService appleOAuthService;
 
@@ -69,10 +73,7 @@ class AppleOAuthServiceTest {
         ReflectionTestUtils.setField(appleOAuthService, "keysUrl", "https://appleid.apple.com/auth/keys");
         ReflectionTestUtils.setField(appleOAuthService, "tokenUrl", "https://appleid.apple.com/auth/token");
         ReflectionTestUtils.setField(appleOAuthService, "issuer", APPLE_ISSUER);
-        ReflectionTestUtils.setField(appleOAuthService, "teamId", "TEAM123456");
-        ReflectionTestUtils.setField(appleOAuthService, "keyId", "KEY123456");
         ReflectionTestUtils.setField(appleOAuthService, "clientId", TEST_CLIENT_ID);
-        // EC Private Key는 테스트에서 모킹으로 우회
     }
 
     @Test
@@ -181,7 +182,7 @@ class AppleOAuthServiceTest {
         given(requestHeadersUriSpec.uri(anyString())).willReturn(requestHeadersSpec);
         given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
         given(responseSpec.onStatus(any(), any())).willReturn(responseSpec);
-        given(responseSpec.bodyToMono(ApplePublicKeys.class))
+        given(responseSpec.toEntity(ApplePublicKeys.class))
                 .willReturn(Mono.error(new RuntimeException("Connection failed")));
 
         // when & then
@@ -329,6 +330,6 @@ class AppleOAuthServiceTest {
         given(requestHeadersUriSpec.uri(anyString())).willReturn(requestHeadersSpec);
         given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
         given(responseSpec.onStatus(any(), any())).willReturn(responseSpec);
-        given(responseSpec.bodyToMono(ApplePublicKeys.class)).willReturn(Mono.just(mockKeys));
+        given(responseSpec.toEntity(ApplePublicKeys.class)).willReturn(Mono.just(ResponseEntity.ok(mockKeys)));
     }
 }
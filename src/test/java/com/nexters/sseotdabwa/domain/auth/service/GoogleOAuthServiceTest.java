@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -30,6 +31,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class GoogleOAuthServiceTest {
@@ -105,6 +108,24 @@ class GoogleOAuthServiceTest {
         assertThat(result.getEmail()).isEqualTo("ios@gmail.com");
     }
 
+    @Test
+    @DisplayName("Google 공개키는 캐시되어 이후 로그인에서 다시 조회하지 않는다")
+    void verifyAndGetUserInfo_cachesPublicKeys() {
+        // given
+        String firstToken = createValidIdToken("test-sub-123", TEST_WEB_CLIENT_ID);
+        String secondToken = createValidIdToken("test-sub-456", TEST_IOS_CLIENT_ID);
+
+        setupWebClientGetMock(createMockGooglePublicKeys());
+
+        // when
+        googleOAuthService.verifyAndGetUserInfo(firstToken);
+        GoogleUserInfo result = googleOAuthService.verifyAndGetUserInfo(secondToken);
+
+        // then
+        assertThat(result.getSub()).isEqualTo("test-sub-456");
+        verify(webClient, times(1)).get();
+    }
+
     @Test
     @DisplayName("만료된 토큰으로 조회 시 AUTH_302 예외 발생")
     void verifyAndGetUserInfo_expiredToken_throwsException() {
@@ -175,7 +196,7 @@ class GoogleOAuthServiceTest {
         given(requestHeadersUriSpec.uri(anyString())).willReturn(requestHeadersSpec);
         given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
         given(responseSpec.onStatus(any(), any())).willReturn(responseSpec);
-        given(responseSpec.bodyToMono(GooglePublicKeys.class))
+        given(responseSpec.toEntity(GooglePublicKeys.class))
                 .willReturn(Mono.error(new RuntimeException("Connection failed")));
 
         // when & then
@@ -323,6 +344,6 @@ class GoogleOAuthServiceTest {
         given(requestHeadersUriSpec.uri(anyString())).willReturn(requestHeadersSpec);
         given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
         given(responseSpec.onStatus(any(), any())).willReturn(responseSpec);
-        given(responseSpec.bodyToMono(GooglePublicKeys.class)).willReturn(Mono.just(mockKeys));
+        given(responseSpec.toEntity(GooglePublicKeys.class)).willReturn(Mono.just(ResponseEntity.ok(mockKeys)));
     }
 }
@@ -2,14 +2,22 @@ package com.nexters.sseotdabwa.domain.auth.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
 @SpringBootTest
 class JwtTokenServiceTest {
 
+    private static final String SECRET = "test-jwt-secret-key-for-testing-purposes-only-minimum-256-bits-required";
+
     @Autowired
     private JwtTokenService jwtTokenService;
 
@@ -93,6 +101,64 @@ class JwtTokenServiceTest {
         assertThat(extractedUserId).isEqualTo(userId);
     }
 
+    @Test
+    @DisplayName("AccessToken 단일 검증 시 userId 반환 (재검증도 같은 결과)")
+    void verifyAccessToken_success() {
+        // given
+        Long userId = 123L;
+        String token = jwtTokenService.createAccessToken(userId);
+
+        // when
+        Optional<Long> first = jwtTokenService.verifyAccessToken(token);
+        Optional<Long> second = jwtTokenService.verifyAccessToken(token);
+
+        // then
+        assertThat(first).contains(userId);
+        assertThat(second).contains(userId);
+    }
+
+    @Test
+    @DisplayName("RefreshToken/서명 변조 토큰은 AccessToken 단일 검증 실패")
+    void verifyAccessToken_refreshOrTampered_returnsEmpty() {
+        // given
+        String accessToken = jwtTokenService.createAccessToken(1L);
+        jwtTokenService.verifyAccessToken(accessToken);
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThat(jwtTokenService.verifyAccessToken(jwtTokenService.createRefreshToken(1L))).isEmpty();
+        assertThat(jwtTokenService.verifyAccessToken(tampered)).isEmpty();
+        assertThat(jwtTokenService.verifyAccessToken(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 AccessToken 단일 검증 실패")
+    void verifyAccessToken_expired_returnsEmpty() {
+        // given
+        JwtTokenService expiringService = new JwtTokenService(SECRET, -1_000, 1_000);
+        String expiredToken = expiringService.createAccessToken(1L);
+
+        // when & then
+        assertThat(expiringService.verifyAccessToken(expiredToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("exp 클레임이 없는 AccessToken 단일 검증 실패 (예외 없이 거절)")
+    void verifyAccessToken_withoutExpiration_returnsEmpty() {
+        // given
+        JwtTokenService service = new JwtTokenService(SECRET, 1_000, 1_000);
+        String tokenWithoutExp = Jwts.builder()
+                .subject("1")
+                .claim("type", "access")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // when & then
+        assertThat(service.verifyAccessToken(tokenWithoutExp)).isEmpty();
+        assertThat(service.validateToken(tokenWithoutExp)).isFalse();
+    }
+
     @Test
     @DisplayName("RefreshToken 검증 성공")
     void validateRefreshToken_success() {
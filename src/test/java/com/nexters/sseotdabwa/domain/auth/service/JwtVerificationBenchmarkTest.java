@@ -0,0 +1,89 @@
+package com.nexters.sseotdabwa.domain.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 필터의 토큰 검증 경로 벤치마크 (기본 test 태스크에서는 제외)
+ * - legacy: validateToken + getUserIdFromToken, 매번 파서를 새로 만들어 서명을 두 번 검증
+ * - single-pass: 재사용 파서로 한 번만 검증
+ *
+ * 실행:
+ *   ./gradlew benchmarkTest --tests '*JwtVerificationBenchmarkTest'
+ */
+@Slf4j
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-testing-purposes-only-minimum-256-bits-required";
+    private static final int TOKEN_COUNT = 20_000;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 3_600_000, 604_800_000);
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("토큰 검증 경로: 이중 파싱 vs 단일 파싱")
+    void compareVerificationPaths() {
+        // given
+        List<String> tokens = new ArrayList<>(TOKEN_COUNT);
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens.add(jwtTokenService.createAccessToken((long) i));
+        }
+
+        // when
+        long legacy = measure(i -> legacyUserId(tokens.get(i % TOKEN_COUNT)));
+        long singlePass = measure(i -> jwtTokenService.verifyAccessToken(tokens.get(i % TOKEN_COUNT)).orElseThrow());
+
+        // then
+        log.info("[legacy double parse] {} ns/request", legacy);
+        log.info("[single pass]         {} ns/request", singlePass);
+        assertThat(singlePass).isLessThan(legacy);
+    }
+
+    // ===== Helper Methods =====
+
+    private long measure(ToLongFunction<Integer> request) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += request.applyAsLong(i);
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += request.applyAsLong(i);
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertThat(sink).isNotNegative();
+        return elapsed / ITERATIONS;
+    }
+
+    /**
+     * 단일 검증 API 도입 전 JwtAuthenticationFilter 의 검증 방식
+     */
+    private long legacyUserId(String token) {
+        Claims validated = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        if (!"access".equals(validated.get("type", String.class))) {
+            throw new IllegalStateException("not an access token");
+        }
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return Long.parseLong(claims.getSubject());
+    }
+}
@@ -0,0 +1,125 @@
+package com.nexters.sseotdabwa.domain.auth.service;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.nexters.sseotdabwa.domain.auth.service.external.KakaoUserInfo;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OAuth 제공자 응답이 느릴 때 요청 실행기별 처리량 비교 (기본 test 태스크에서는 제외)
+ * - platform: Tomcat 기본 설정과 같은 200 개 고정 플랫폼 스레드 풀
+ * - virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true 와 같은 실행 방식)
+ * - 카카오 사용자 정보 API 를 PROVIDER_LATENCY 만큼 지연 응답하는 로컬 stub 으로 대체한다.
+ *
+ * 실행:
+ *   ./gradlew benchmarkTest --tests '*VirtualThreadLoginLoadTest'
+ */
+@Slf4j
+@Tag("benchmark")
+class VirtualThreadLoginLoadTest {
+
+    private static final Duration PROVIDER_LATENCY = Duration.ofMillis(300);
+    private static final int PLATFORM_THREADS = 200;
+    private static final int REQUESTS = 4_000;
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private KakaoOAuthService kakaoOAuthService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v2/user/me", exchange -> {
+            try {
+                Thread.sleep(PROVIDER_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"id\":12345}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        // 커넥션 풀이 병목이 되지 않도록 요청 수만큼 허용 (실행기 차이만 비교)
+        connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        kakaoOAuthService = new KakaoOAuthService(webClient);
+        ReflectionTestUtils.setField(kakaoOAuthService, "userInfoUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v2/user/me");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @Test
+    @DisplayName("느린 OAuth 제공자: 플랫폼 스레드 풀 vs 가상 스레드 처리량")
+    void compareThroughputWithSlowProvider() throws Exception {
+        // given
+        runLoad(Executors.newVirtualThreadPerTaskExecutor(), 200); // warmup
+
+        // when
+        double platform = runLoad(Executors.newFixedThreadPool(PLATFORM_THREADS), REQUESTS);
+        double virtual = runLoad(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+
+        // then
+        log.info("[platform x{}] {} req/s", PLATFORM_THREADS, Math.round(platform));
+        log.info("[virtual]       {} req/s", Math.round(virtual));
+        assertThat(virtual).isGreaterThan(platform * 2);
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * 요청을 한꺼번에 제출하고 모두 끝날 때까지의 처리량(req/s)
+     */
+    private double runLoad(ExecutorService executor, int requests) throws Exception {
+        try (executor) {
+            long started = System.nanoTime();
+            List<Future<KakaoUserInfo>> results = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> kakaoOAuthService.getUserInfo("access-token")));
+            }
+            for (Future<KakaoUserInfo> result : results) {
+                assertThat(result.get().getId()).isEqualTo(12345L);
+            }
+            long elapsed = System.nanoTime() - started;
+            return requests / (elapsed / 1_000_000_000.0);
+        }
+    }
+}
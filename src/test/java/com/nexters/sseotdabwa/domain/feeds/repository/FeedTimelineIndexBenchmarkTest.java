@@ -0,0 +1,321 @@
+package com.nexters.sseotdabwa.domain.feeds.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 타임라인 인덱스 벤치마크 (MySQL 전용, 기본 test 태스크에서는 제외)
+ * - 엔티티 매핑으로 스키마를 만든 뒤 피드 100만 건을 적재하고,
+ *   FeedService.findPageRows 가 호출하는 read model 쿼리(findPageRowsWithCursor*)를 필터 조합마다 실제로 실행한다.
+ * - 실행 중 Hibernate 가 만든 SQL 과 바인딩 값을 JDBC 계층에서 가로채, 같은 SQL 을 그대로 EXPLAIN 한다.
+ *   (손으로 옮겨 적은 SQL 이 아니라 운영에서 나가는 쿼리의 실행 계획)
+ * - 모든 조합이 idx_feeds_* 인덱스를 사용해야 한다.
+ * - 카테고리가 없거나 1개면 등치 조건 뒤 id 순서 그대로 읽으므로 filesort 가 없어야 한다.
+ * - 카테고리가 여러 개(IN)면 (category, …, id) 인덱스의 범위가 값마다 따로 생겨 한 번에 id 역순이 되지 않는다.
+ *   옵티마이저가 (report_status, …, id) 인덱스를 역순으로 읽으며 category 를 거르거나, IN 범위를 읽고 filesort 하므로
+ *   filesort 여부는 단정하지 않고 실행 계획과 시간만 기록한다.
+ *
+ * 실행:
+ *   ./gradlew benchmarkTest -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench \
+ *       -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=secret
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+class FeedTimelineIndexBenchmarkTest {
+
+    private static final int FEED_COUNT = 1_000_000;
+    private static final int USER_COUNT = 1_000;
+    private static final int BLOCKED_USER_COUNT = 3;
+    private static final int PAGE_SIZE = 21;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    private Long viewerId;
+    private Long cursorId;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.mysql.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.mysql.username", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.mysql.password", ""));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return StatementCapture.wrap(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (FEED_COUNT + 1));
+
+        jdbcTemplate.update("""
+            INSERT INTO users (social_id, nickname, social_account, push_enabled, created_at, updated_at)
+            WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+            SELECT CONCAT('bench-', n), CONCAT('bench_', n), 'KAKAO', true, NOW(), NOW() FROM seq
+        """, USER_COUNT);
+        Long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+
+        long started = System.currentTimeMillis();
+        jdbcTemplate.update("""
+            INSERT INTO feeds (user_id, content, price, report_status, category, yes_count, no_count,
+                               feed_status, created_at, updated_at)
+            WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+            SELECT ? + (n % ?),
+                   'benchmark',
+                   10000,
+                   CASE WHEN n % 50 = 0 THEN 'REPORTED' WHEN n % 97 = 0 THEN 'DELETED' ELSE 'NONE' END,
+                   ELT(1 + (n % 11), 'LUXURY', 'FASHION', 'BEAUTY', 'FOOD', 'ELECTRONICS', 'TRAVEL',
+                       'HEALTH', 'BOOK', 'INTERIOR', 'KITCHEN', 'ETC'),
+                   0, 0,
+                   IF(n % 10 = 0, 'OPEN', 'CLOSED'),
+                   NOW() - INTERVAL (? - n) MINUTE,
+                   NOW()
+            FROM seq
+        """, FEED_COUNT, firstUserId, USER_COUNT, FEED_COUNT);
+
+        // 조회자: 마지막 사용자, 앞쪽 사용자 몇 명을 차단
+        viewerId = firstUserId + USER_COUNT - 1;
+        for (int i = 0; i < BLOCKED_USER_COUNT; i++) {
+            jdbcTemplate.update("""
+                INSERT INTO user_blocks (user_id, blocked_user_id, created_at, updated_at)
+                VALUES (?, ?, NOW(), NOW())
+            """, viewerId, firstUserId + i);
+        }
+
+        jdbcTemplate.execute("ANALYZE TABLE feeds, user_blocks, vote_logs");
+        cursorId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM feeds", Long.class) / 2;
+        log.info("피드 {}건 적재 완료 ({} ms)", FEED_COUNT, System.currentTimeMillis() - started);
+    }
+
+    static List<TimelineFilter> filterCombinations() {
+        List<FeedStatus> statuses = new ArrayList<>();
+        statuses.add(null);
+        statuses.addAll(List.of(FeedStatus.values()));
+
+        List<List<FeedCategory>> categorySets = List.of(
+                List.of(),
+                List.of(FeedCategory.FASHION),
+                List.of(FeedCategory.FASHION, FeedCategory.BEAUTY, FeedCategory.ELECTRONICS)
+        );
+        List<Boolean> excludeBlocked = List.of(false, true);
+        List<Boolean> withCursor = List.of(false, true);
+
+        List<TimelineFilter> filters = new ArrayList<>();
+        for (FeedStatus status : statuses) {
+            for (List<FeedCategory> categories : categorySets) {
+                for (boolean excluding : excludeBlocked) {
+                    for (boolean cursor : withCursor) {
+                        filters.add(new TimelineFilter(status, categories, excluding, cursor));
+                    }
+                }
+            }
+        }
+        return filters;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    @DisplayName("read model 쿼리가 idx_feeds_* 인덱스로 실행되고, 카테고리 0~1개면 filesort 가 없다")
+    void pageRowQuery_usesTimelineIndex(TimelineFilter filter) throws SQLException {
+        // given
+        Long cursor = filter.withCursor() ? cursorId : null;
+
+        // when
+        StatementCapture.start();
+        long started = System.nanoTime();
+        List<FeedPageRow> rows = filter.categories().isEmpty()
+                ? feedRepository.findPageRowsWithCursor(
+                        viewerId, filter.excludeBlocked(), cursor, filter.feedStatus(), PageRequest.ofSize(PAGE_SIZE))
+                : feedRepository.findPageRowsWithCursorByCategories(
+                        viewerId, filter.excludeBlocked(), cursor, filter.feedStatus(), filter.categories(),
+                        PageRequest.ofSize(PAGE_SIZE));
+        long elapsedMicros = (System.nanoTime() - started) / 1_000;
+        CapturedStatement statement = StatementCapture.stop();
+        String plan = explain(statement);
+
+        // then
+        log.info("[{}] {} rows, {} us\n{}\n{}", filter, rows.size(), elapsedMicros, statement.sql(), plan);
+        assertThat(rows).isNotEmpty();
+        assertThat(plan).contains("\"key\": \"idx_feeds_");
+        if (filter.categories().size() <= 1) {
+            assertThat(plan).doesNotContain("\"using_filesort\": true");
+        }
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * 가로챈 SQL 앞에 EXPLAIN 을 붙이고, 같은 바인딩 호출을 같은 순서로 다시 적용한다.
+     */
+    private String explain(CapturedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN FORMAT=JSON " + statement.sql())) {
+            for (BindCall bind : statement.binds()) {
+                bind.applyTo(explain);
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    record TimelineFilter(FeedStatus feedStatus, List<FeedCategory> categories, boolean excludeBlocked, boolean withCursor) {
+
+        @Override
+        public String toString() {
+            return "status=" + feedStatus + ", categories=" + categories
+                    + ", excludeBlocked=" + excludeBlocked + ", cursor=" + withCursor;
+        }
+    }
+
+    record CapturedStatement(String sql, List<BindCall> binds) {}
+
+    /**
+     * PreparedStatement.setXxx(index, value, …) 호출 한 번
+     */
+    record BindCall(Method method, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof SQLException sqlException
+                        ? sqlException
+                        : new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * DataSource → Connection → PreparedStatement 를 JDK 프록시로 감싸,
+     * start() ~ stop() 사이 현재 스레드에서 준비된 feeds 조회 SQL 과 바인딩 호출을 기록한다.
+     */
+    static final class StatementCapture {
+
+        private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+        private StatementCapture() {
+        }
+
+        static void start() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static CapturedStatement stop() {
+            List<CapturedStatement> captured = CAPTURED.get();
+            CAPTURED.remove();
+            return captured.stream()
+                    .filter(statement -> statement.sql().contains(" feeds "))
+                    .reduce((first, second) -> second)
+                    .orElseThrow(() -> new IllegalStateException("feeds 조회 SQL 을 가로채지 못했습니다."));
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result, args) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private static Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, result, args) -> {
+                List<CapturedStatement> captured = CAPTURED.get();
+                if (captured != null && result instanceof PreparedStatement statement
+                        && method.getName().equals("prepareStatement")) {
+                    CapturedStatement capturedStatement = new CapturedStatement((String) args[0], new ArrayList<>());
+                    captured.add(capturedStatement);
+                    return wrap(statement, capturedStatement.binds());
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrap(PreparedStatement statement, List<BindCall> binds) {
+            return proxy(PreparedStatement.class, statement, (method, result, args) -> {
+                if (method.getDeclaringClass() == PreparedStatement.class && method.getName().startsWith("set")) {
+                    binds.add(new BindCall(method, args));
+                }
+                return result;
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return handler.handle(method, result, args);
+            });
+            return type.cast(proxy);
+        }
+
+        @FunctionalInterface
+        private interface ResultHandler {
+            Object handle(Method method, Object result, Object[] args);
+        }
+    }
+}
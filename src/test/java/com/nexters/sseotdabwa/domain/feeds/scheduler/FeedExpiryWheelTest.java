@@ -0,0 +1,108 @@
+package com.nexters.sseotdabwa.domain.feeds.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedExpiryWheelTest {
+
+    private static final long TICK = 1_000;
+    private static final int WHEEL_SIZE = 64;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("마감 시각 전에는 반환하지 않고, 마감 시각이 지난 첫 tick 에 반환한다")
+    void advance_returnsFeedAtFirstTickAfterDeadline() {
+        // given
+        FeedExpiryWheel wheel = new FeedExpiryWheel(TICK, WHEEL_SIZE, START);
+        long deadline = START + 5_500;
+        wheel.schedule(1L, deadline);
+
+        // when
+        List<Long> beforeDeadline = wheel.advance(START + 5_000);
+        List<Long> justBeforeDeadline = wheel.advance(START + 5_499);
+        List<Long> atNextTick = wheel.advance(START + 6_000);
+
+        // then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(justBeforeDeadline).isEmpty();
+        assertThat(atNextTick).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("48시간 뒤 마감 시각도 윗 단계에서 내려와 한 tick 이내로 반환된다")
+    void advance_cascadesFromHigherLevels() {
+        // given
+        FeedExpiryWheel wheel = new FeedExpiryWheel(TICK, WHEEL_SIZE, START);
+        long deadline = START + Duration.ofHours(48).toMillis() + 300;
+        wheel.schedule(1L, deadline);
+
+        // when
+        List<Long> due = new ArrayList<>();
+        long firedAt = -1;
+        for (long now = START; now <= deadline + TICK && firedAt < 0; now += TICK) {
+            due.addAll(wheel.advance(now));
+            if (!due.isEmpty()) {
+                firedAt = now;
+            }
+        }
+
+        // then
+        assertThat(due).containsExactly(1L);
+        assertThat(firedAt).isGreaterThanOrEqualTo(deadline).isLessThan(deadline + TICK);
+    }
+
+    @Test
+    @DisplayName("같은 tick 에 마감되는 피드는 한 번에 반환한다")
+    void advance_batchesFeedsSharingTick() {
+        // given
+        FeedExpiryWheel wheel = new FeedExpiryWheel(TICK, WHEEL_SIZE, START);
+        wheel.schedule(1L, START + 120_100);
+        wheel.schedule(2L, START + 120_900);
+        wheel.schedule(3L, START + 121_100);
+
+        // when
+        List<Long> due = wheel.advance(START + 121_000);
+
+        // then
+        assertThat(due).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행이 늦어져 여러 tick 을 건너뛰어도 그 사이 마감된 피드를 모두 반환한다")
+    void advance_skippedTicks_returnsAllOverdue() {
+        // given
+        FeedExpiryWheel wheel = new FeedExpiryWheel(TICK, WHEEL_SIZE, START);
+        wheel.schedule(1L, START + 10_000);
+        wheel.schedule(2L, START + Duration.ofMinutes(30).toMillis());
+        wheel.schedule(3L, START + Duration.ofHours(3).toMillis());
+
+        // when
+        List<Long> due = wheel.advance(START + Duration.ofHours(2).toMillis());
+
+        // then
+        assertThat(due).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 마감 시각이 지난 피드는 등록하지 않는다")
+    void schedule_pastDeadline_returnsFalse() {
+        // given
+        FeedExpiryWheel wheel = new FeedExpiryWheel(TICK, WHEEL_SIZE, START);
+
+        // when
+        boolean scheduled = wheel.schedule(1L, START - 1);
+
+        // then
+        assertThat(scheduled).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
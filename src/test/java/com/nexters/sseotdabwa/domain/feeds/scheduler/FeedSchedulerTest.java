@@ -1,10 +1,15 @@
 package com.nexters.sseotdabwa.domain.feeds.scheduler;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.nexters.sseotdabwa.api.notifications.facade.NotificationFacade;
+import com.nexters.sseotdabwa.common.scheduling.LeaderElection;
 import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.timeline.PublicFeedTimeline;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,9 +29,25 @@ class FeedSchedulerTest {
     @Mock
     private NotificationFacade notificationFacade;
 
+    @Mock
+    private PublicFeedTimeline publicFeedTimeline;
+
+    @Mock
+    private FeedCloseJob feedCloseJob;
+
+    @Mock
+    private LeaderElection leaderElection;
+
     @InjectMocks
     private FeedScheduler feedScheduler;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(leaderElection.isLeader()).thenReturn(true);
+        lenient().when(leaderElection.callFenced(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     @Test
     @DisplayName("스케줄러가 만료 피드를 마감시키고, 마감된 feedId들로 알림 파이프라인을 호출한다")
     void closeExpiredFeeds_closesAndNotifies() {
@@ -40,6 +61,7 @@ class FeedSchedulerTest {
         // then
         verify(feedService).closeExpiredFeedsAndReturnIds();
         verify(notificationFacade).onFeedsClosed(closedIds);
+        verify(publicFeedTimeline).onFeedsClosed(closedIds);
     }
 
     @Test
@@ -55,4 +77,41 @@ class FeedSchedulerTest {
         verify(feedService).closeExpiredFeedsAndReturnIds();
         verify(notificationFacade, never()).onFeedsClosed(anyList());
     }
+
+    @Test
+    @DisplayName("chunk 마감 모드면 FeedCloseJob 에 위임하고, chunk 마다 알림 파이프라인을 호출한다")
+    void closeExpiredFeeds_chunked_delegatesToJob() {
+        // given
+        when(feedCloseJob.isChunked()).thenReturn(true);
+        when(feedCloseJob.run(any())).thenAnswer(invocation -> {
+            Consumer<List<Long>> onClosed = invocation.getArgument(0);
+            onClosed.accept(List.of(1L, 2L));
+            onClosed.accept(List.of(3L));
+            return 3;
+        });
+
+        // when
+        feedScheduler.closeExpiredFeeds();
+
+        // then
+        verify(feedService, never()).closeExpiredFeedsAndReturnIds();
+        verify(notificationFacade).onFeedsClosed(List.of(1L, 2L));
+        verify(notificationFacade).onFeedsClosed(List.of(3L));
+        verify(publicFeedTimeline).onFeedsClosed(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("스케줄러 리더가 아니면 만료 피드를 마감하지 않는다")
+    void closeExpiredFeeds_notLeader_skips() {
+        // given
+        when(leaderElection.isLeader()).thenReturn(false);
+
+        // when
+        feedScheduler.closeExpiredFeeds();
+
+        // then
+        verify(feedService, never()).closeExpiredFeedsAndReturnIds();
+        verify(feedCloseJob, never()).run(any());
+        verify(notificationFacade, never()).onFeedsClosed(anyList());
+    }
 }
@@ -0,0 +1,84 @@
+package com.nexters.sseotdabwa.domain.feeds.scheduler;
+
+import java.util.List;
+
+import com.nexters.sseotdabwa.common.scheduling.LeaderElection;
+import com.nexters.sseotdabwa.common.scheduling.LeadershipLostException;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedVoteCounterSchedulerTest {
+
+    @Mock
+    private FeedVoteCounterService feedVoteCounterService;
+
+    @Mock
+    private LeaderElection leaderElection;
+
+    @InjectMocks
+    private FeedVoteCounterScheduler feedVoteCounterScheduler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(leaderElection.isLeader()).thenReturn(true);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(leaderElection).runFenced(any());
+    }
+
+    @Test
+    @DisplayName("compaction 대상 피드마다 compact를 호출하고, 한 피드가 실패해도 나머지는 계속 처리한다")
+    void compactVoteCounters_compactsEachFeed() {
+        // given
+        when(feedVoteCounterService.findFeedIdsToCompact()).thenReturn(List.of(1L, 2L, 3L));
+        doThrow(new RuntimeException("boom")).when(feedVoteCounterService).compact(2L);
+
+        // when
+        feedVoteCounterScheduler.compactVoteCounters();
+
+        // then
+        verify(feedVoteCounterService).compact(1L);
+        verify(feedVoteCounterService).compact(2L);
+        verify(feedVoteCounterService).compact(3L);
+    }
+
+    @Test
+    @DisplayName("compaction 대상이 없으면 compact를 호출하지 않는다")
+    void compactVoteCounters_empty_doesNothing() {
+        // given
+        when(feedVoteCounterService.findFeedIdsToCompact()).thenReturn(List.of());
+
+        // when
+        feedVoteCounterScheduler.compactVoteCounters();
+
+        // then
+        verify(feedVoteCounterService, never()).compact(anyLong());
+    }
+
+    @Test
+    @DisplayName("compaction 도중 스케줄러 리더를 잃으면 남은 피드는 처리하지 않는다")
+    void compactVoteCounters_leadershipLost_stops() {
+        // given
+        when(feedVoteCounterService.findFeedIdsToCompact()).thenReturn(List.of(1L, 2L, 3L));
+        doThrow(new LeadershipLostException("scheduler", 1L)).when(feedVoteCounterService).compact(2L);
+
+        // when
+        feedVoteCounterScheduler.compactVoteCounters();
+
+        // then
+        verify(feedVoteCounterService).compact(1L);
+        verify(feedVoteCounterService, never()).compact(3L);
+    }
+}
@@ -1,9 +1,12 @@
 package com.nexters.sseotdabwa.domain.feeds.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCloseChunk;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCloseCursor;
 import com.nexters.sseotdabwa.domain.feeds.service.command.FeedCreateCommand;
 import com.nexters.sseotdabwa.domain.feeds.service.command.FeedImageCreateInfo;
 
@@ -17,10 +20,15 @@ import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedPageRow;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.users.block.BlockedUserIds;
 import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.entity.UserBlock;
 import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.users.repository.UserBlockRepository;
 import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 
 import jakarta.persistence.EntityManager;
 
@@ -40,6 +48,9 @@ class FeedServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserBlockRepository userBlockRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -113,30 +124,56 @@ class FeedServiceTest {
                 .hasMessage("피드를 찾을 수 없습니다.");
     }
 
-    // ===== findByIdWithLock =====
+    // ===== incrementVoteCountIfOpen =====
 
     @Test
-    @DisplayName("비관적 락으로 피드 조회 성공")
-    void findByIdWithLock_success() {
+    @DisplayName("OPEN 피드의 YES 카운트를 조건부 UPDATE로 증가시킨다")
+    void incrementVoteCountIfOpen_yes_success() {
         // given
         User user = createUser();
         Feed feed = createFeed(user);
 
         // when
-        Feed result = feedService.findByIdWithLock(feed.getId());
+        boolean result = feedService.incrementVoteCountIfOpen(feed.getId(), VoteChoice.YES);
 
         // then
-        assertThat(result.getId()).isEqualTo(feed.getId());
-        assertThat(result.getContent()).isEqualTo(feed.getContent());
+        Feed updated = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(result).isTrue();
+        assertThat(updated.getYesCount()).isEqualTo(1L);
+        assertThat(updated.getNoCount()).isZero();
     }
 
     @Test
-    @DisplayName("비관적 락 조회 시 존재하지 않는 피드면 FEED_NOT_FOUND 예외")
-    void findByIdWithLock_notFound() {
-        // when & then
-        assertThatThrownBy(() -> feedService.findByIdWithLock(999L))
-                .isInstanceOf(GlobalException.class)
-                .hasMessage("피드를 찾을 수 없습니다.");
+    @DisplayName("마감된 피드는 카운트를 증가시키지 않고 false 반환")
+    void incrementVoteCountIfOpen_closedFeed_returnsFalse() {
+        // given
+        User user = createUser();
+        Feed feed = createFeed(user);
+        feed.closeVote();
+        feedRepository.saveAndFlush(feed);
+
+        // when
+        boolean result = feedService.incrementVoteCountIfOpen(feed.getId(), VoteChoice.NO);
+
+        // then
+        Feed updated = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(result).isFalse();
+        assertThat(updated.getNoCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("48시간이 지난 피드는 카운트를 증가시키지 않고 false 반환")
+    void incrementVoteCountIfOpen_expiredFeed_returnsFalse() {
+        // given
+        User user = createUser();
+        Feed feed = createFeed(user);
+        setCreatedAt(feed.getId(), LocalDateTime.now().minusHours(49));
+
+        // when
+        boolean result = feedService.incrementVoteCountIfOpen(feed.getId(), VoteChoice.YES);
+
+        // then
+        assertThat(result).isFalse();
     }
 
     @Test
@@ -193,6 +230,58 @@ class FeedServiceTest {
         assertThat(updated.getFeedStatus()).isEqualTo(FeedStatus.OPEN);
     }
 
+    @Test
+    @DisplayName("chunk 마감 - createdAt 순으로 chunkSize 개씩 마감하고, 다음 커서부터 이어서 마감한다")
+    void closeExpiredChunk_closesInKeysetOrder() {
+        // given
+        User user = createUser();
+        Feed oldest = createFeed(user);
+        Feed older = createFeed(user);
+        Feed recent = createFeed(user);
+        setCreatedAt(oldest.getId(), LocalDateTime.now().minusHours(60));
+        setCreatedAt(older.getId(), LocalDateTime.now().minusHours(50));
+        setCreatedAt(recent.getId(), LocalDateTime.now().minusHours(47));
+
+        // when
+        List<Long> closedInOrder = new ArrayList<>();
+        FeedCloseChunk chunk = feedService.closeExpiredChunk(FeedCloseCursor.first(), 1);
+        while (!chunk.isEmpty()) {
+            assertThat(chunk.closedFeedIds()).hasSize(1);
+            closedInOrder.addAll(chunk.closedFeedIds());
+            chunk = feedService.closeExpiredChunk(chunk.next(), 1);
+        }
+        entityManager.clear();
+
+        // then
+        assertThat(closedInOrder).containsSubsequence(oldest.getId(), older.getId());
+        assertThat(closedInOrder).doesNotContain(recent.getId());
+        assertThat(feedRepository.findById(older.getId()).orElseThrow().getFeedStatus()).isEqualTo(FeedStatus.CLOSED);
+        assertThat(feedRepository.findById(recent.getId()).orElseThrow().getFeedStatus()).isEqualTo(FeedStatus.OPEN);
+        assertThat(feedService.countExpiredOpenFeeds()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감 타이머 후보 중 48시간이 지난 OPEN 피드만 CLOSED 전환 + feedId 반환")
+    void closeExpiredFeedsAndReturnIds_withCandidates_closesOnlyExpiredCandidates() {
+        // given
+        User user = createUser();
+        Feed expired = createFeed(user);
+        Feed recent = createFeed(user);
+        Feed notCandidate = createFeed(user);
+        setCreatedAt(expired.getId(), LocalDateTime.now().minusHours(49));
+        setCreatedAt(recent.getId(), LocalDateTime.now().minusHours(47));
+        setCreatedAt(notCandidate.getId(), LocalDateTime.now().minusHours(49));
+
+        // when
+        List<Long> closedIds = feedService.closeExpiredFeedsAndReturnIds(List.of(expired.getId(), recent.getId()));
+        entityManager.clear();
+
+        // then
+        assertThat(closedIds).containsExactly(expired.getId());
+        assertThat(feedRepository.findById(recent.getId()).orElseThrow().getFeedStatus()).isEqualTo(FeedStatus.OPEN);
+        assertThat(feedRepository.findById(notCandidate.getId()).orElseThrow().getFeedStatus()).isEqualTo(FeedStatus.OPEN);
+    }
+
     @Test
     @DisplayName("REPORTED 피드 → 48시간 초과 시 CLOSED 전환 + feedId 반환")
     void closeExpiredFeedsAndReturnIds_closesReportedExpiredFeeds() {
@@ -562,107 +651,6 @@ class FeedServiceTest {
         });
     }
 
-    // ===== findAllExceptDeletedWithCursor (excludedUserIds) =====
-
-    @Test
-    @DisplayName("차단 필터 - 차단 사용자의 피드 제외")
-    void findAllExceptDeletedWithCursor_excludesBlockedUserFeeds() {
-        // given
-        User user = createUser();
-        User blockedUser = createUser();
-        Feed myFeed = createFeed(user);
-        Feed blockedFeed = createFeed(blockedUser);
-
-        // when
-        List<Feed> result = feedService.findAllExceptDeletedWithCursor(null, 10, null, null, List.of(blockedUser.getId()));
-
-        // then
-        assertThat(result).extracting(Feed::getId)
-                .contains(myFeed.getId())
-                .doesNotContain(blockedFeed.getId());
-    }
-
-    @Test
-    @DisplayName("차단 필터 - excludedUserIds가 빈 리스트이면 전체 피드 반환")
-    void findAllExceptDeletedWithCursor_emptyExcluded_returnsAll() {
-        // given
-        User user = createUser();
-        User other = createUser();
-        Feed feed1 = createFeed(user);
-        Feed feed2 = createFeed(other);
-
-        // when
-        List<Feed> result = feedService.findAllExceptDeletedWithCursor(null, 10, null, null, List.of());
-
-        // then
-        assertThat(result).extracting(Feed::getId)
-                .containsExactlyInAnyOrder(feed1.getId(), feed2.getId());
-    }
-
-    @Test
-    @DisplayName("차단 필터 - 커서 + 차단 필터 동시 동작")
-    void findAllExceptDeletedWithCursor_cursorAndExcluded() {
-        // given
-        User user = createUser();
-        User blockedUser = createUser();
-        Feed feed1 = createFeed(user);
-        Feed feed2 = createFeed(user);
-        Feed blockedFeed = createFeed(blockedUser);
-        // feed3(blockedFeed) > feed2 > feed1 순서라 가정
-        Feed feed3 = createFeed(user);
-
-        // when - feed3을 커서로, blockedUser 차단
-        List<Feed> result = feedService.findAllExceptDeletedWithCursor(feed3.getId(), 10, null, null, List.of(blockedUser.getId()));
-
-        // then
-        assertThat(result).extracting(Feed::getId)
-                .doesNotContain(blockedFeed.getId())
-                .doesNotContain(feed3.getId());
-        assertThat(result).allSatisfy(f -> assertThat(f.getId()).isLessThan(feed3.getId()));
-    }
-
-    @Test
-    @DisplayName("차단 필터 - feedStatus + 차단 필터 동시 동작")
-    void findAllExceptDeletedWithCursor_feedStatusAndExcluded() {
-        // given
-        User user = createUser();
-        User blockedUser = createUser();
-        Feed openFeed = createFeed(user);
-        Feed blockedOpenFeed = createFeed(blockedUser);
-
-        // when
-        List<Feed> result = feedService.findAllExceptDeletedWithCursor(null, 10, FeedStatus.OPEN, null, List.of(blockedUser.getId()));
-
-        // then
-        assertThat(result).extracting(Feed::getId)
-                .contains(openFeed.getId())
-                .doesNotContain(blockedOpenFeed.getId());
-    }
-
-    @Test
-    @DisplayName("차단 필터 - 커서 + feedStatus + 차단 필터 동시 동작")
-    void findAllExceptDeletedWithCursor_cursorAndFeedStatusAndExcluded() {
-        // given
-        User user = createUser();
-        User blockedUser = createUser();
-        Feed open1 = createFeed(user);
-        Feed open2 = createFeed(user);
-        Feed blockedOpen = createFeed(blockedUser);
-        Feed open3 = createFeed(user);
-
-        // when - open3을 커서로, OPEN 필터, blockedUser 차단
-        List<Feed> result = feedService.findAllExceptDeletedWithCursor(open3.getId(), 10, FeedStatus.OPEN, null, List.of(blockedUser.getId()));
-
-        // then
-        assertThat(result).extracting(Feed::getId)
-                .doesNotContain(blockedOpen.getId())
-                .doesNotContain(open3.getId());
-        assertThat(result).allSatisfy(f -> {
-            assertThat(f.getId()).isLessThan(open3.getId());
-            assertThat(f.getFeedStatus()).isEqualTo(FeedStatus.OPEN);
-        });
-    }
-
     @Test
     @DisplayName("카테고리 필터 - 단일 카테고리만 반환")
     void findAllExceptDeletedWithCursor_filterByCategory() {
@@ -751,6 +739,75 @@ class FeedServiceTest {
                 .doesNotContain(bookFeed.getId());
     }
 
+    // ===== findPageRowsWithCursor (차단 필터 전략) =====
+
+    @Test
+    @DisplayName("read model 차단 필터 - 차단 수가 적으면 메모리 post-filter 로 커서를 이어가며 페이지를 채운다")
+    void findPageRowsWithCursor_fewBlocked_postFilters() {
+        // given
+        User viewer = createUser();
+        User author = createUser();
+        User blockedUser = createUser();
+        Feed older1 = createFeed(author);
+        Feed older2 = createFeed(author);
+        Feed older3 = createFeed(author);
+        for (int i = 0; i < 5; i++) {
+            createFeed(blockedUser);
+        }
+        BlockedUserIds blocked = block(viewer, List.of(blockedUser));
+
+        // when
+        List<FeedPageRow> result = feedService.findPageRowsWithCursor(viewer.getId(), blocked, null, 2, null, null);
+
+        // then
+        assertThat(result).extracting(FeedPageRow::feedId)
+                .containsExactly(older3.getId(), older2.getId(), older1.getId());
+    }
+
+    @Test
+    @DisplayName("read model 차단 필터 - 차단 수가 많으면 SQL anti-join 으로 제외한다")
+    void findPageRowsWithCursor_manyBlocked_antiJoin() {
+        // given
+        User viewer = createUser();
+        User author = createUser();
+        Feed visible = createFeed(author);
+        List<User> blockedUsers = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            User blockedUser = createUser();
+            createFeed(blockedUser);
+            blockedUsers.add(blockedUser);
+        }
+        BlockedUserIds blocked = block(viewer, blockedUsers);
+
+        // when
+        List<FeedPageRow> result = feedService.findPageRowsWithCursor(viewer.getId(), blocked, null, 10, null, null);
+
+        // then
+        assertThat(result).extracting(FeedPageRow::feedId).containsExactly(visible.getId());
+    }
+
+    @Test
+    @DisplayName("read model 차단 필터 - 차단 사용자 피드가 몰려 post-filter 로 못 채우면 anti-join 으로 나머지를 채운다")
+    void findPageRowsWithCursor_blockedFeedsClustered_fallsBackToAntiJoin() {
+        // given
+        User viewer = createUser();
+        User author = createUser();
+        User blockedUser = createUser();
+        Feed older1 = createFeed(author);
+        Feed older2 = createFeed(author);
+        for (int i = 0; i < 15; i++) {
+            createFeed(blockedUser);
+        }
+        BlockedUserIds blocked = block(viewer, List.of(blockedUser));
+
+        // when
+        List<FeedPageRow> result = feedService.findPageRowsWithCursor(viewer.getId(), blocked, null, 1, null, null);
+
+        // then
+        assertThat(result).extracting(FeedPageRow::feedId)
+                .containsExactly(older2.getId(), older1.getId());
+    }
+
     @Test
     @DisplayName("다중 이미지를 포함한 피드 생성 성공")
     void createFeed_with_multiple_images_success() {
@@ -789,6 +846,12 @@ class FeedServiceTest {
                 .isInstanceOf(GlobalException.class);
     }
 
+    private BlockedUserIds block(User viewer, List<User> blockedUsers) {
+        blockedUsers.forEach(blockedUser ->
+                userBlockRepository.save(UserBlock.builder().user(viewer).blockedUser(blockedUser).build()));
+        return BlockedUserIds.of(blockedUsers.stream().map(User::getId).toList());
+    }
+
     private Feed createFeed(User user) {
         // FeedService의 createFeed를 직접 호출하여 도메인 로직(검증 등)을 함께 테스트
         FeedCreateCommand command = new FeedCreateCommand(
@@ -0,0 +1,222 @@
+package com.nexters.sseotdabwa.domain.feeds.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedVoteCounterRepository;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
+
+import jakarta.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class FeedVoteCounterServiceTest {
+
+    @Autowired
+    private FeedVoteCounterService feedVoteCounterService;
+
+    @Autowired
+    private FeedVoteCounterRepository feedVoteCounterRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("피드 샤드 초기화 시 SHARD_COUNT 개의 row 가 생성된다")
+    void initialize_createsShards() {
+        // given
+        Feed feed = createFeed(createUser());
+
+        // when
+        feedVoteCounterService.initialize(feed);
+
+        // then
+        assertThat(feedVoteCounterService.hasShards(feed.getId())).isTrue();
+        assertThat(feedVoteCounterRepository.count()).isEqualTo(FeedVoteCounterService.SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("샤드 증가분은 Feed 카운트와 합산되어 조회된다")
+    void incrementIfOpen_aggregatedWithFeedCount() {
+        // given
+        Feed feed = createFeed(createUser());
+        feedVoteCounterService.initialize(feed);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.YES);
+        }
+        feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.NO);
+        flushAndClear();
+
+        // then
+        Feed reloaded = feedRepository.findById(feed.getId()).orElseThrow();
+        FeedVoteCount count = feedVoteCounterService.getCount(reloaded);
+        assertThat(reloaded.getYesCount()).isZero();
+        assertThat(count.yesCount()).isEqualTo(5L);
+        assertThat(count.noCount()).isEqualTo(1L);
+        assertThat(count.totalCount()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("샤드가 없는 피드는 증가되지 않고 false 반환")
+    void incrementIfOpen_noShards_returnsFalse() {
+        // given
+        Feed feed = createFeed(createUser());
+
+        // when
+        boolean result = feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.YES);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(feedVoteCounterService.hasShards(feed.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("마감된 피드의 샤드는 증가되지 않는다")
+    void incrementIfOpen_closedFeed_returnsFalse() {
+        // given
+        Feed feed = createFeed(createUser());
+        feedVoteCounterService.initialize(feed);
+        feed.closeVote();
+        flushAndClear();
+
+        // when
+        boolean result = feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.YES);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("48시간이 지난 피드의 샤드는 증가되지 않는다")
+    void incrementIfOpen_expiredFeed_returnsFalse() {
+        // given
+        Feed feed = createFeed(createUser());
+        feedVoteCounterService.initialize(feed);
+        setCreatedAt(feed.getId(), LocalDateTime.now().minusHours(49));
+
+        // when
+        boolean result = feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.NO);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("샤드가 없는 피드도 Feed 컬럼 값으로 집계된다")
+    void getCounts_withoutShards_usesFeedColumns() {
+        // given
+        Feed feed = createFeed(createUser());
+        feed.incrementYes();
+        feed.incrementNo();
+        feed.incrementNo();
+
+        // when
+        Map<Long, FeedVoteCount> counts = feedVoteCounterService.getCounts(List.of(feed));
+
+        // then
+        assertThat(counts.get(feed.getId()).yesCount()).isEqualTo(1L);
+        assertThat(counts.get(feed.getId()).noCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("compaction 시 샤드 합계가 Feed 로 옮겨지고 샤드는 0으로 초기화된다")
+    void compact_foldsShardsIntoFeed() {
+        // given
+        Feed feed = createFeed(createUser());
+        feedVoteCounterService.initialize(feed);
+        for (int i = 0; i < 3; i++) {
+            feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.YES);
+        }
+        feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.NO);
+        flushAndClear();
+
+        // when
+        feedVoteCounterService.compact(feed.getId());
+        flushAndClear();
+
+        // then
+        Feed reloaded = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(reloaded.getYesCount()).isEqualTo(3L);
+        assertThat(reloaded.getNoCount()).isEqualTo(1L);
+        assertThat(feedVoteCounterService.getCount(reloaded).totalCount()).isEqualTo(4L);
+        assertThat(feedVoteCounterService.findFeedIdsToCompact()).doesNotContain(feed.getId());
+    }
+
+    @Test
+    @DisplayName("마감된 피드는 compaction 후 샤드가 삭제된다")
+    void compact_closedFeed_deletesShards() {
+        // given
+        Feed feed = createFeed(createUser());
+        feedVoteCounterService.initialize(feed);
+        feedVoteCounterService.incrementIfOpen(feed.getId(), VoteChoice.YES);
+        feed.closeVote();
+        flushAndClear();
+
+        // when
+        assertThat(feedVoteCounterService.findFeedIdsToCompact()).contains(feed.getId());
+        feedVoteCounterService.compact(feed.getId());
+        flushAndClear();
+
+        // then
+        Feed reloaded = feedRepository.findById(feed.getId()).orElseThrow();
+        assertThat(reloaded.getYesCount()).isEqualTo(1L);
+        assertThat(feedVoteCounterService.hasShards(feed.getId())).isFalse();
+    }
+
+    // ===== Helper Methods =====
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void setCreatedAt(Long feedId, LocalDateTime createdAt) {
+        entityManager.createNativeQuery("UPDATE feeds SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, feedId)
+                .executeUpdate();
+        flushAndClear();
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("테스트_" + UUID.randomUUID().toString().substring(0, 8))
+                .socialAccount(SocialAccount.KAKAO)
+                .build());
+    }
+
+    private Feed createFeed(User user) {
+        return feedRepository.save(Feed.builder()
+                .user(user)
+                .content("테스트 피드")
+                .price(10000L)
+                .category(FeedCategory.FASHION)
+                .build());
+    }
+}
@@ -0,0 +1,335 @@
+package com.nexters.sseotdabwa.domain.feeds.timeline;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexters.sseotdabwa.common.config.PublicFeedTimelineProperties;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedStatus;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedImageService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedService;
+import com.nexters.sseotdabwa.domain.feeds.service.FeedVoteCounterService;
+import com.nexters.sseotdabwa.domain.feeds.service.command.FeedVoteCount;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PublicFeedTimelineTest {
+
+    private static final long SLICE_MAX_AGE_MILLIS = 10_000;
+    private static final long COUNT_TTL_MILLIS = 60_000;
+
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private FeedImageService feedImageService;
+
+    @Mock
+    private FeedVoteCounterService feedVoteCounterService;
+
+    @Mock
+    private TransactionTemplate requiresNewTransactionTemplate;
+
+    private final List<Feed> storedFeeds = new ArrayList<>();
+    private final User author = createUser(99L);
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        storedFeeds.clear();
+        clock = new MutableClock();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 DB 조회 없이 Optional.empty 를 반환한다")
+    void findPage_disabled_returnsEmpty() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(false, 5);
+
+        // when
+        Optional<List<PublicFeedSnapshot>> page = timeline.findPage(null, 10, FeedStatus.OPEN, List.of());
+
+        // then
+        assertThat(page).isEmpty();
+        verifyNoInteractions(feedService);
+    }
+
+    @Test
+    @DisplayName("첫 조회에서 슬라이스를 적재하고, 이후 조회는 DB 없이 메모리에서 id 역순으로 응답한다")
+    void findPage_loadsSliceOnceAndServesFromMemory() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(true, 5);
+        storeFeeds(FeedStatus.OPEN, FeedCategory.FASHION, 1L, 2L, 3L);
+
+        // when
+        Optional<List<PublicFeedSnapshot>> first = timeline.findPage(null, 2, FeedStatus.OPEN, List.of(FeedCategory.FASHION));
+        Optional<List<PublicFeedSnapshot>> second = timeline.findPage(3L, 2, FeedStatus.OPEN, List.of(FeedCategory.FASHION));
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get()).extracting(PublicFeedSnapshot::feedId).containsExactly(3L, 2L, 1L);
+        assertThat(second).isPresent();
+        assertThat(second.get()).extracting(PublicFeedSnapshot::feedId).containsExactly(2L, 1L);
+        verify(feedService, times(1)).findAllExceptDeletedWithCursor(any(), anyInt(), any(), anyList());
+        assertThat(timeline.sliceCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘린 슬라이스 범위를 벗어나는 페이지는 Optional.empty 로 DB 조회에 맡긴다")
+    void findPage_beyondTruncatedSlice_returnsEmpty() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(true, 2);
+        storeFeeds(FeedStatus.OPEN, FeedCategory.FASHION, 1L, 2L, 3L, 4L, 5L);
+
+        // when
+        Optional<List<PublicFeedSnapshot>> head = timeline.findPage(null, 1, FeedStatus.OPEN, List.of(FeedCategory.FASHION));
+        Optional<List<PublicFeedSnapshot>> beyond = timeline.findPage(4L, 1, FeedStatus.OPEN, List.of(FeedCategory.FASHION));
+
+        // then
+        assertThat(head).isPresent();
+        assertThat(head.get()).extracting(PublicFeedSnapshot::feedId).containsExactly(5L, 4L);
+        assertThat(beyond).isEmpty();
+    }
+
+    @Test
+    @DisplayName("피드 생성/삭제 이벤트가 적재된 슬라이스에 반영된다")
+    void onFeedCreatedAndRemoved_updatesSlice() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(true, 5);
+        storeFeeds(FeedStatus.OPEN, FeedCategory.FASHION, 1L, 2L);
+        timeline.findPage(null, 10, FeedStatus.OPEN, List.of(FeedCategory.FASHION));
+
+        // when
+        timeline.onFeedCreated(PublicFeedSnapshot.of(createFeed(10L, FeedStatus.OPEN, FeedCategory.FASHION), List.of()));
+        List<PublicFeedSnapshot> afterCreate = timeline.findPage(null, 10, FeedStatus.OPEN, List.of(FeedCategory.FASHION)).orElseThrow();
+        timeline.onFeedsRemoved(List.of(2L));
+        List<PublicFeedSnapshot> afterRemove = timeline.findPage(null, 10, FeedStatus.OPEN, List.of(FeedCategory.FASHION)).orElseThrow();
+
+        // then
+        assertThat(afterCreate).extracting(PublicFeedSnapshot::feedId).containsExactly(10L, 2L, 1L);
+        assertThat(afterRemove).extracting(PublicFeedSnapshot::feedId).containsExactly(10L, 1L);
+        verify(feedService, times(1)).findAllExceptDeletedWithCursor(any(), anyInt(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("마감 이벤트는 피드를 OPEN 슬라이스에서 CLOSED 슬라이스로 옮긴다")
+    void onFeedsClosed_movesSnapshotToClosedSlice() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(true, 5);
+        storeFeeds(FeedStatus.OPEN, FeedCategory.FASHION, 2L, 3L);
+        storeFeeds(FeedStatus.CLOSED, FeedCategory.FASHION, 1L);
+        timeline.findPage(null, 10, null, List.of(FeedCategory.FASHION));
+
+        // when
+        timeline.onFeedsClosed(List.of(2L));
+
+        // then
+        assertThat(timeline.findPage(null, 10, FeedStatus.OPEN, List.of(FeedCategory.FASHION)).orElseThrow())
+                .extracting(PublicFeedSnapshot::feedId).containsExactly(3L);
+        assertThat(timeline.findPage(null, 10, FeedStatus.CLOSED, List.of(FeedCategory.FASHION)).orElseThrow())
+                .extracting(PublicFeedSnapshot::feedId, PublicFeedSnapshot::feedStatus)
+                .containsExactly(tuple(2L, FeedStatus.CLOSED), tuple(1L, FeedStatus.CLOSED));
+    }
+
+    @Test
+    @DisplayName("슬라이스 유효 시간이 지나면 DB 에서 다시 적재해 다른 인스턴스의 생성/삭제를 반영한다")
+    void findPage_sliceOlderThanMaxAge_reloads() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(true, 5);
+        storeFeeds(FeedStatus.OPEN, FeedCategory.FASHION, 1L, 2L);
+        timeline.findPage(null, 10, FeedStatus.OPEN, List.of(FeedCategory.FASHION));
+
+        // 다른 인스턴스에서 피드 2 삭제, 피드 3 생성 (이 인스턴스에는 이벤트가 오지 않음)
+        storedFeeds.removeIf(feed -> feed.getId().equals(2L));
+        storeFeeds(FeedStatus.OPEN, FeedCategory.FASHION, 3L);
+
+        // when
+        clock.advance(Duration.ofMillis(SLICE_MAX_AGE_MILLIS - 1));
+        List<PublicFeedSnapshot> withinMaxAge = timeline.findPage(null, 10, FeedStatus.OPEN, List.of(FeedCategory.FASHION)).orElseThrow();
+        clock.advance(Duration.ofMillis(1));
+        List<PublicFeedSnapshot> afterMaxAge = timeline.findPage(null, 10, FeedStatus.OPEN, List.of(FeedCategory.FASHION)).orElseThrow();
+
+        // then
+        assertThat(withinMaxAge).extracting(PublicFeedSnapshot::feedId).containsExactly(2L, 1L);
+        assertThat(afterMaxAge).extracting(PublicFeedSnapshot::feedId).containsExactly(3L, 1L);
+        verify(feedService, times(2)).findAllExceptDeletedWithCursor(any(), anyInt(), any(), anyList());
+        assertThat(timeline.sliceCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("투표 수는 TTL 동안 카운트 뷰에서 응답하고, 적재되지 않은 피드만 DB 에서 조회한다")
+    void getVoteCounts_servesFromCountViewWithinTtl() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(true, 5);
+        when(feedVoteCounterService.getCountsByFeedIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> new FeedVoteCount(id, 0L)));
+        });
+
+        // when
+        timeline.getVoteCounts(List.of(1L, 2L));
+        Map<Long, FeedVoteCount> counts = timeline.getVoteCounts(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(counts).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(counts.get(3L).yesCount()).isEqualTo(3L);
+        verify(feedVoteCounterService).getCountsByFeedIds(List.of(1L, 2L));
+        verify(feedVoteCounterService).getCountsByFeedIds(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("투표 수 TTL 은 주입된 clock 기준으로 판단한다")
+    void getVoteCounts_expiresByInjectedClock() {
+        // given
+        PublicFeedTimeline timeline = createTimeline(true, 5);
+        stubVoteCounts();
+        timeline.getVoteCounts(List.of(1L));
+
+        // when
+        clock.advance(Duration.ofMillis(COUNT_TTL_MILLIS));
+        timeline.getVoteCounts(List.of(1L));
+        clock.advance(Duration.ofMillis(1));
+        timeline.getVoteCounts(List.of(1L));
+
+        // then
+        verify(feedVoteCounterService, times(2)).getCountsByFeedIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("카운트 뷰가 상한을 넘으면 전체를 비우지 않고 가장 오래 적재된 카운트만 제거한다")
+    void getVoteCounts_overCapacity_evictsOldestOnly() {
+        // given - sliceSize 1 → 상한 = 1 * 슬라이스 수 * 2
+        PublicFeedTimeline timeline = createTimeline(true, 1);
+        stubVoteCounts();
+        int maxEntries = FeedStatus.values().length * FeedCategory.values().length * 2;
+        List<Long> oldIds = LongStream.rangeClosed(1, maxEntries / 2).boxed().toList();
+        List<Long> recentIds = LongStream.rangeClosed(maxEntries / 2 + 1, maxEntries).boxed().toList();
+        timeline.getVoteCounts(oldIds);
+        clock.advance(Duration.ofMillis(1));
+        timeline.getVoteCounts(recentIds);
+        clock.advance(Duration.ofMillis(1));
+
+        // when
+        timeline.getVoteCounts(List.of((long) maxEntries + 1));
+        timeline.getVoteCounts(recentIds);
+
+        // then
+        verify(feedVoteCounterService, times(1)).getCountsByFeedIds(recentIds);
+        verify(feedVoteCounterService, times(3)).getCountsByFeedIds(anyList());
+    }
+
+    // ===== Helper Methods =====
+
+    private void stubVoteCounts() {
+        when(feedVoteCounterService.getCountsByFeedIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> new FeedVoteCount(id, 0L)));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private PublicFeedTimeline createTimeline(boolean enabled, int sliceSize) {
+        lenient().when(requiresNewTransactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(feedService.findAllExceptDeletedWithCursor(any(), anyInt(), any(), anyList()))
+                .thenAnswer(invocation -> {
+                    int size = invocation.getArgument(1);
+                    FeedStatus status = invocation.getArgument(2);
+                    List<FeedCategory> categories = invocation.getArgument(3);
+                    return storedFeeds.stream()
+                            .filter(feed -> feed.getFeedStatus() == status && categories.contains(feed.getCategory()))
+                            .sorted(Comparator.comparing(Feed::getId).reversed())
+                            .limit(size + 1)
+                            .toList();
+                });
+        lenient().when(feedImageService.findByFeedIds(anyList())).thenReturn(List.of());
+
+        return new PublicFeedTimeline(
+                new PublicFeedTimelineProperties(enabled, sliceSize, COUNT_TTL_MILLIS, SLICE_MAX_AGE_MILLIS),
+                feedService,
+                feedImageService,
+                feedVoteCounterService,
+                requiresNewTransactionTemplate,
+                clock
+        );
+    }
+
+    private void storeFeeds(FeedStatus status, FeedCategory category, Long... ids) {
+        for (Long id : ids) {
+            storedFeeds.add(createFeed(id, status, category));
+        }
+    }
+
+    private User createUser(Long id) {
+        User user = User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("테스트_" + UUID.randomUUID().toString().substring(0, 8))
+                .socialAccount(SocialAccount.KAKAO)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private Feed createFeed(Long id, FeedStatus status, FeedCategory category) {
+        Feed feed = Feed.builder()
+                .user(author)
+                .content("테스트 피드 " + id)
+                .price(10000L)
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(feed, "id", id);
+        ReflectionTestUtils.setField(feed, "feedStatus", status);
+        return feed;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
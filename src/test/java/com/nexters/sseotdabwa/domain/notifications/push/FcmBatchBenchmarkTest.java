@@ -0,0 +1,140 @@
+package com.nexters.sseotdabwa.domain.notifications.push;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 마감 푸시: 토큰별 send vs 배치 sendAll 벤치마크 (기본 test 태스크에서는 제외)
+ * - FCM 대신 요청마다 PROVIDER_LATENCY 만큼 지연 응답하는 로컬 stub 서버를 사용한다.
+ * - StubHttpFcmSender 는 send 를 요청 1회, sendAll 을 MAX_BATCH_SIZE 묶음당 요청 1회로 보낸다.
+ *
+ * 실행:
+ *   ./gradlew benchmarkTest --tests '*FcmBatchBenchmarkTest'
+ */
+@Slf4j
+@Tag("benchmark")
+class FcmBatchBenchmarkTest {
+
+    private static final int PROVIDER_LATENCY_MILLIS = 20;
+    private static final int RECIPIENTS = 5_000;
+
+    private final AtomicInteger httpCalls = new AtomicInteger();
+    private HttpServer server;
+    private StubHttpFcmSender fcmSender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/fcm/send", exchange -> {
+            httpCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(PROVIDER_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        fcmSender = new StubHttpFcmSender(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/fcm/send"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("참여자 5000명 피드 마감 푸시: 토큰별 send vs 배치 sendAll")
+    void compareSendPerTokenWithBatch() {
+        // given
+        List<PushMessage> messages = new ArrayList<>(RECIPIENTS);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            messages.add(new PushMessage((long) i, "token-" + i, "투표 종료!", "결과를 확인하세요.",
+                    Map.of("feedId", "1", "type", "PARTICIPATED_FEED_CLOSED")));
+        }
+
+        // when
+        long started = System.nanoTime();
+        for (PushMessage m : messages) {
+            fcmSender.send(m.fcmToken(), m.title(), m.body(), m.data());
+        }
+        long perTokenMillis = (System.nanoTime() - started) / 1_000_000;
+        int perTokenCalls = httpCalls.getAndSet(0);
+
+        started = System.nanoTime();
+        FcmBatchResult result = fcmSender.sendAll(messages);
+        long batchMillis = (System.nanoTime() - started) / 1_000_000;
+        int batchCalls = httpCalls.get();
+
+        // then
+        log.info("[send per token] {} ms, {} HTTP calls", perTokenMillis, perTokenCalls);
+        log.info("[sendAll batch]  {} ms, {} HTTP calls", batchMillis, batchCalls);
+        assertThat(result.successCount()).isEqualTo(RECIPIENTS);
+        assertThat(batchCalls).isEqualTo(RECIPIENTS / FirebaseAdminFcmSender.MAX_BATCH_SIZE);
+        assertThat(batchMillis).isLessThan(perTokenMillis);
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * 로컬 stub 서버로 보내는 FcmSender (요청 본문은 토큰 목록만 담는다)
+     */
+    private static class StubHttpFcmSender implements FcmSender {
+
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+        private final URI endpoint;
+
+        StubHttpFcmSender(URI endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void send(String fcmToken, String title, String body, Map<String, String> data) {
+            post(fcmToken);
+        }
+
+        @Override
+        public FcmBatchResult sendAll(List<PushMessage> messages) {
+            for (int from = 0; from < messages.size(); from += FirebaseAdminFcmSender.MAX_BATCH_SIZE) {
+                List<PushMessage> chunk = messages.subList(from,
+                        Math.min(from + FirebaseAdminFcmSender.MAX_BATCH_SIZE, messages.size()));
+                post(String.join(",", chunk.stream().map(PushMessage::fcmToken).toList()));
+            }
+            return FcmBatchResult.allSucceeded(messages.size());
+        }
+
+        private void post(String payload) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(endpoint)
+                        .POST(HttpRequest.BodyPublishers.ofString(payload))
+                        .build();
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
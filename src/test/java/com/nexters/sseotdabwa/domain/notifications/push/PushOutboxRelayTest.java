@@ -0,0 +1,220 @@
+package com.nexters.sseotdabwa.domain.notifications.push;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexters.sseotdabwa.common.config.PushOutboxProperties;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
+import com.nexters.sseotdabwa.domain.notifications.entity.PushOutbox;
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.notifications.enums.PushOutboxStatus;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.PushOutboxRepository;
+import com.nexters.sseotdabwa.domain.notifications.service.PushOutboxService;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Transactional
+class PushOutboxRelayTest {
+
+    @Autowired private PushOutboxRelay pushOutboxRelay;
+    @Autowired private PushOutboxService pushOutboxService;
+    @Autowired private PushOutboxRepository pushOutboxRepository;
+    @Autowired private PushOutboxProperties pushOutboxProperties;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private FeedRepository feedRepository;
+
+    @MockBean
+    private FcmSender fcmSender;
+
+    @Test
+    @DisplayName("발송에 성공하면 SENT 로 바뀌고 다시 발송하지 않는다")
+    void dispatchOnce_success_marksSent() {
+        // given
+        PushOutbox outbox = enqueue(createUser("fcm_token"));
+        given(fcmSender.sendAll(anyList())).willAnswer(invocation ->
+                FcmBatchResult.allSucceeded(invocation.<List<PushMessage>>getArgument(0).size()));
+
+        // when
+        int dispatched = pushOutboxRelay.dispatchOnce();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(pushOutboxRelay.dispatchOnce()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시적 실패는 백오프 후 재시도하도록 PENDING 으로 남긴다")
+    void dispatchOnce_retryableFailure_schedulesRetryWithBackoff() {
+        // given
+        PushOutbox outbox = enqueue(createUser("fcm_token"));
+        given(fcmSender.sendAll(anyList())).willAnswer(invocation ->
+                FcmBatchResult.allFailed(invocation.getArgument(0)));
+
+        // when
+        pushOutboxRelay.dispatchOnce();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getLastError()).isEqualTo("FCM_SEND_FAILED");
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        // 백오프 동안은 다시 가져가지 않는다
+        assertThat(pushOutboxRelay.dispatchOnce()).isZero();
+    }
+
+    @Test
+    @DisplayName("maxAttempts 번 실패하면 DEAD 로 바뀐다")
+    void dispatchOnce_exhaustsAttempts_marksDead() {
+        // given
+        PushOutbox outbox = enqueue(createUser("fcm_token"));
+        given(fcmSender.sendAll(anyList())).willThrow(new IllegalStateException("FCM down"));
+
+        // when
+        for (int i = 0; i < pushOutboxProperties.maxAttempts(); i++) {
+            makeDue(outbox);
+            pushOutboxRelay.dispatchOnce();
+        }
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.DEAD);
+        assertThat(outbox.getAttempts()).isEqualTo(pushOutboxProperties.maxAttempts());
+    }
+
+    @Test
+    @DisplayName("만료/해지 토큰은 재시도 없이 DEAD 로 바뀌고 사용자 토큰을 지운다")
+    void dispatchOnce_invalidToken_marksDeadAndClearsToken() {
+        // given
+        User user = createUser("expired_token");
+        PushOutbox outbox = enqueue(user);
+        given(fcmSender.sendAll(anyList())).willAnswer(invocation -> {
+            List<PushMessage> messages = invocation.getArgument(0);
+            return new FcmBatchResult(0, List.of(), messages, List.of());
+        });
+
+        // when
+        pushOutboxRelay.dispatchOnce();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.DEAD);
+        assertThat(outbox.getLastError()).isEqualTo("INVALID_TOKEN");
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getFcmToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("메시지 자체가 거절되면(페이로드 오류 등) 재시도 없이 DEAD 로 바뀌고 사용자 토큰은 유지한다")
+    void dispatchOnce_rejected_marksDeadAndKeepsToken() {
+        // given
+        User user = createUser("rejected_payload");
+        PushOutbox outbox = enqueue(user);
+        String fcmToken = user.getFcmToken();
+        given(fcmSender.sendAll(anyList())).willAnswer(invocation -> {
+            List<PushMessage> messages = invocation.getArgument(0);
+            return new FcmBatchResult(0, List.of(), List.of(), messages);
+        });
+
+        // when
+        pushOutboxRelay.dispatchOnce();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.DEAD);
+        assertThat(outbox.getLastError()).isEqualTo("REJECTED");
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getFcmToken()).isEqualTo(fcmToken);
+    }
+
+    @Test
+    @DisplayName("적재 이후 사용자가 푸시를 끄면 발송하지 않고 SKIPPED 로 바뀐다")
+    void dispatchOnce_pushDisabledAfterEnqueue_skips() throws Exception {
+        // given
+        User user = createUser("fcm_token");
+        PushOutbox outbox = enqueue(user);
+        setPushEnabled(user, false);
+
+        // when
+        int dispatched = pushOutboxRelay.dispatchOnce();
+
+        // then
+        assertThat(dispatched).isZero();
+        assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.SKIPPED);
+        verify(fcmSender, never()).sendAll(anyList());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도마다 2배로 늘고 최대값을 넘지 않는다")
+    void backoffMillis_growsExponentiallyWithCap() {
+        // when
+        long first = pushOutboxService.backoffMillis(1);
+        long third = pushOutboxService.backoffMillis(3);
+        long capped = pushOutboxService.backoffMillis(30);
+
+        // then (±20% jitter)
+        long initial = pushOutboxProperties.initialBackoffMillis();
+        assertThat(first).isBetween((long) (initial * 0.8), (long) (initial * 1.2));
+        assertThat(third).isBetween((long) (initial * 4 * 0.8), (long) (initial * 4 * 1.2));
+        assertThat(capped).isLessThanOrEqualTo((long) (pushOutboxProperties.maxBackoffMillis() * 1.2));
+    }
+
+    // ===== Helper Methods =====
+
+    private User createUser(String fcmToken) {
+        User user = User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("user_" + UUID.randomUUID().toString().substring(0, 6))
+                .socialAccount(SocialAccount.KAKAO)
+                .build();
+        user.updateFcmToken(fcmToken);
+        return userRepository.save(user);
+    }
+
+    private PushOutbox enqueue(User user) {
+        Feed feed = feedRepository.save(Feed.builder()
+                .user(user)
+                .content("테스트 피드")
+                .price(10000L)
+                .category(FeedCategory.FASHION)
+                .build());
+        Notification notification = notificationRepository.save(Notification.builder()
+                .user(user).feed(feed).type(NotificationType.MY_FEED_CLOSED)
+                .title("투표 종료!").body("결과를 확인하세요.").build());
+
+        pushOutboxService.enqueue(List.of(notification.getId()));
+        return pushOutboxRepository.findAll().stream()
+                .filter(o -> o.getNotificationId().equals(notification.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void makeDue(PushOutbox outbox) {
+        ReflectionTestUtils.setField(outbox, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+    }
+
+    private void setPushEnabled(User user, boolean value) throws Exception {
+        Field field = User.class.getDeclaredField("pushEnabled");
+        field.setAccessible(true);
+        field.set(user, value);
+    }
+}
@@ -1,5 +1,8 @@
 package com.nexters.sseotdabwa.domain.notifications.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import com.nexters.sseotdabwa.common.exception.GlobalException;
@@ -8,7 +11,10 @@ import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
 import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
 import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationKey;
 import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationCounterRepository;
+import com.nexters.sseotdabwa.domain.notifications.writer.NotificationBulkWriter;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
 import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
@@ -18,9 +24,13 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 @Transactional
@@ -38,6 +48,15 @@ class NotificationServiceTest {
     @Autowired
     private FeedRepository feedRepository;
 
+    @Autowired
+    private UnreadNotificationCounterRepository unreadNotificationCounterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private NotificationBulkWriter notificationBulkWriter;
+
     @Test
     @DisplayName("알림 읽음 처리 성공 - 본인 알림이면 isRead=true")
     void markAsRead_success() {
@@ -101,6 +120,103 @@ class NotificationServiceTest {
         assertThat(notificationRepository.count()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("일괄 생성 - 이미 있는 (user, type) 은 건너뛰고 새로 생성된 알림 id 만 반환")
+    void createAllIfAbsent_skipsExisting_returnsCreatedIds() {
+        // given
+        User author = createUser();
+        User participant = createUser();
+        Feed feed = createFeed(author);
+        Notification existing = notificationService.createIfAbsent(author, feed, NotificationType.MY_FEED_CLOSED, "t", "b");
+
+        NotificationKey authorKey = new NotificationKey(author.getId(), NotificationType.MY_FEED_CLOSED);
+        NotificationKey participantKey = new NotificationKey(participant.getId(), NotificationType.PARTICIPATED_FEED_CLOSED);
+
+        // when
+        Map<NotificationKey, Long> created = notificationService.createAllIfAbsent(
+                feed, List.of(authorKey, participantKey, participantKey), "t", "b");
+
+        // then
+        assertThat(created).containsOnlyKeys(participantKey);
+        assertThat(created.get(participantKey)).isNotEqualTo(existing.getId());
+        assertThat(notificationRepository.count()).isEqualTo(2);
+
+        Notification saved = notificationRepository.findById(created.get(participantKey)).orElseThrow();
+        assertThat(saved.getType()).isEqualTo(NotificationType.PARTICIPATED_FEED_CLOSED);
+        assertThat(saved.isRead()).isFalse();
+        assertThat(saved.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - 모두 이미 존재하면 아무것도 생성하지 않는다")
+    void createAllIfAbsent_allExisting_returnsEmpty() {
+        // given
+        User author = createUser();
+        Feed feed = createFeed(author);
+        NotificationKey authorKey = new NotificationKey(author.getId(), NotificationType.MY_FEED_CLOSED);
+        notificationService.createAllIfAbsent(feed, List.of(authorKey), "t", "b");
+
+        // when
+        Map<NotificationKey, Long> created = notificationService.createAllIfAbsent(feed, List.of(authorKey), "t", "b");
+
+        // then
+        assertThat(created).isEmpty();
+        assertThat(notificationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - 중복 확인 이후 다른 마감 처리가 먼저 만든 row 는 새 알림으로 보지 않고 카운터도 올리지 않는다")
+    void createAllIfAbsent_concurrentlyInserted_notReportedAsCreated() {
+        // given
+        User author = createUser();
+        User participant = createUser();
+        Feed feed = createFeed(author);
+        NotificationKey authorKey = new NotificationKey(author.getId(), NotificationType.MY_FEED_CLOSED);
+        NotificationKey participantKey = new NotificationKey(participant.getId(), NotificationType.PARTICIPATED_FEED_CLOSED);
+        doAnswer(invocation -> {
+            // 겹쳐 실행된 마감 처리가 같은 알림을 먼저 INSERT 한 상황
+            LocalDateTime earlier = LocalDateTime.now().minusSeconds(1);
+            jdbcTemplate.update("""
+                    INSERT INTO notifications (user_id, feed_id, type, title, body, is_read, created_at, updated_at)
+                    VALUES (?, ?, ?, 't', 'b', false, ?, ?)
+                    """, participant.getId(), feed.getId(), participantKey.type().name(), earlier, earlier);
+            return invocation.callRealMethod();
+        }).when(notificationBulkWriter).insertIgnoringDuplicates(eq(feed.getId()), anyList(), anyString(), anyString(), any());
+
+        // when
+        Map<NotificationKey, Long> created = notificationService.createAllIfAbsent(
+                feed, List.of(authorKey, participantKey), "t", "b");
+
+        // then
+        assertThat(created).containsOnlyKeys(authorKey);
+        assertThat(notificationRepository.count()).isEqualTo(2);
+        assertThat(unreadNotificationCounterRepository.findById(author.getId()).orElseThrow().getUnreadCount()).isEqualTo(1);
+        assertThat(unreadNotificationCounterRepository.findById(participant.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 카운터 - 생성 시 증가하고, 읽음 처리 시 한 번만 감소한다")
+    void countUnread_maintainedOnCreateAndRead() {
+        // given
+        User author = createUser();
+        User participant = createUser();
+        Feed feed = createFeed(author);
+        Notification authorNotification = notificationService.createIfAbsent(
+                author, feed, NotificationType.MY_FEED_CLOSED, "t", "b");
+        notificationService.createAllIfAbsent(feed, List.of(
+                new NotificationKey(participant.getId(), NotificationType.PARTICIPATED_FEED_CLOSED)), "t", "b");
+
+        // when
+        notificationService.markAsRead(author.getId(), authorNotification.getId());
+        notificationService.markAsRead(author.getId(), authorNotification.getId());
+
+        // then
+        assertThat(unreadNotificationCounterRepository.findById(author.getId()).orElseThrow().getUnreadCount()).isZero();
+        assertThat(unreadNotificationCounterRepository.findById(participant.getId()).orElseThrow().getUnreadCount()).isEqualTo(1);
+        assertThat(notificationService.countUnread(author.getId())).isZero();
+        assertThat(notificationService.countUnread(participant.getId())).isEqualTo(1);
+    }
+
     private User createUser() {
         return userRepository.save(User.builder()
                 .socialId(UUID.randomUUID().toString())
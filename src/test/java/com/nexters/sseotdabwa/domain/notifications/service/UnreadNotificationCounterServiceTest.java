@@ -0,0 +1,131 @@
+package com.nexters.sseotdabwa.domain.notifications.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
+import com.nexters.sseotdabwa.domain.notifications.entity.Notification;
+import com.nexters.sseotdabwa.domain.notifications.entity.UnreadNotificationBucket;
+import com.nexters.sseotdabwa.domain.notifications.entity.UnreadNotificationCounter;
+import com.nexters.sseotdabwa.domain.notifications.enums.NotificationType;
+import com.nexters.sseotdabwa.domain.notifications.repository.NotificationRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationBucketRepository;
+import com.nexters.sseotdabwa.domain.notifications.repository.UnreadNotificationCounterRepository;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class UnreadNotificationCounterServiceTest {
+
+    @Autowired
+    private UnreadNotificationCounterService unreadNotificationCounterService;
+
+    @Autowired
+    private UnreadNotificationCounterRepository counterRepository;
+
+    @Autowired
+    private UnreadNotificationBucketRepository bucketRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("보정 - 카운터가 없거나 어긋난 사용자는 notifications 기준으로 다시 계산한다")
+    void reconcile_rebuildsDriftedCounters() {
+        // given
+        User missing = createUser();
+        User drifted = createUser();
+        Feed feed = createFeed(missing);
+        saveNotification(missing, feed, NotificationType.MY_FEED_CLOSED);
+        saveNotification(drifted, feed, NotificationType.PARTICIPATED_FEED_CLOSED);
+        counterRepository.save(new UnreadNotificationCounter(drifted.getId(), 5));
+
+        // when
+        int corrected = unreadNotificationCounterService.reconcile(List.of(missing.getId(), drifted.getId()));
+
+        // then
+        assertThat(corrected).isEqualTo(2);
+        assertThat(unreadNotificationCounterService.findUnreadCount(missing.getId())).isEqualTo(1);
+        assertThat(unreadNotificationCounterService.findUnreadCount(drifted.getId())).isEqualTo(1);
+        assertThat(unreadNotificationCounterService.reconcile(List.of(missing.getId(), drifted.getId()))).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 정리 - 보관 기간이 지난 bucket 만큼 카운터에서 차감하고 bucket 을 삭제한다")
+    void expireBuckets_subtractsAgedBuckets() {
+        // given
+        User user = createUser();
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        UnreadNotificationBucket aged = bucketRepository.save(
+                new UnreadNotificationBucket(user.getId(), currentHour.minusDays(31), 2));
+        UnreadNotificationBucket live = bucketRepository.save(
+                new UnreadNotificationBucket(user.getId(), currentHour, 1));
+        counterRepository.save(new UnreadNotificationCounter(user.getId(), 3));
+        entityManager.flush();
+
+        // when
+        int expired = unreadNotificationCounterService.expireBuckets(100);
+        entityManager.clear();
+
+        // then
+        assertThat(expired).isGreaterThanOrEqualTo(1);
+        assertThat(bucketRepository.findById(aged.getId())).isEmpty();
+        assertThat(bucketRepository.findById(live.getId())).isPresent();
+        assertThat(unreadNotificationCounterService.findUnreadCount(user.getId())).isEqualTo(1);
+    }
+
+    // ===== Helper Methods =====
+
+    private void saveNotification(User user, Feed feed, NotificationType type) {
+        notificationRepository.save(Notification.builder()
+                .user(user)
+                .feed(feed)
+                .type(type)
+                .title("투표 종료!")
+                .body("test")
+                .build());
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("테스트_" + UUID.randomUUID().toString().substring(0, 8))
+                .socialAccount(SocialAccount.KAKAO)
+                .build());
+    }
+
+    private Feed createFeed(User user) {
+        return feedRepository.save(Feed.builder()
+                .user(user)
+                .content("테스트 피드")
+                .price(10000L)
+                .category(FeedCategory.FASHION)
+                .build());
+    }
+}
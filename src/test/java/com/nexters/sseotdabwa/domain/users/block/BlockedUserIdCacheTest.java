@@ -0,0 +1,177 @@
+package com.nexters.sseotdabwa.domain.users.block;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nexters.sseotdabwa.common.config.BlockedUserIdCacheProperties;
+import com.nexters.sseotdabwa.domain.users.repository.UserBlockRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlockedUserIdCacheTest {
+
+    @Mock
+    private UserBlockRepository userBlockRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlockedUserIdCache blockedUserIdCache;
+
+    @BeforeEach
+    void setUp() {
+        blockedUserIdCache = createCache(true, 10, 60_000);
+    }
+
+    @Test
+    @DisplayName("차단 id 집합은 정렬/중복 제거된 primitive 집합으로 포함 여부를 판단한다")
+    void blockedUserIds_containsAndSize() {
+        // when
+        BlockedUserIds ids = BlockedUserIds.of(List.of(30L, 10L, 20L, 10L));
+
+        // then
+        assertThat(ids.size()).isEqualTo(3);
+        assertThat(ids.contains(10L)).isTrue();
+        assertThat(ids.contains(30L)).isTrue();
+        assertThat(ids.contains(15L)).isFalse();
+        assertThat(BlockedUserIds.of(List.of())).isSameAs(BlockedUserIds.empty());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 차단 목록은 한 번만 DB 에서 조회한다")
+    void get_cachesPerUser() {
+        // given
+        when(userBlockRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of(2L, 3L));
+
+        // when
+        BlockedUserIds first = blockedUserIdCache.get(1L);
+        BlockedUserIds second = blockedUserIdCache.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.contains(2L)).isTrue();
+        verify(userBlockRepository, times(1)).findBlockedUserIdsByUserId(1L);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 전체를 비우지 않고 일부 사용자만 제거해 최대 개수를 유지한다")
+    void get_overCapacity_keepsMaxEntries() {
+        // given
+        BlockedUserIdCache cache = createCache(true, 2, 60_000);
+        when(userBlockRepository.findBlockedUserIdsByUserId(anyLong())).thenReturn(List.of());
+
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            cache.get(userId);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(evictions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 차단 목록은 다시 적재한다")
+    void get_expired_reloads() {
+        // given
+        BlockedUserIdCache cache = createCache(true, 10, 0);
+        when(userBlockRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of(2L));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+
+        // then
+        verify(userBlockRepository, times(2)).findBlockedUserIdsByUserId(1L);
+        assertThat(gets("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 매 요청 DB 에서 조회한다")
+    void get_disabled_alwaysLoads() {
+        // given
+        BlockedUserIdCache cache = createCache(false, 10, 60_000);
+        when(userBlockRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of(2L));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+
+        // then
+        verify(userBlockRepository, times(2)).findBlockedUserIdsByUserId(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("차단/차단 해제로 무효화되면 다음 조회에서 다시 적재한다")
+    void evict_reloadsOnNextGet() {
+        // given
+        when(userBlockRepository.findBlockedUserIdsByUserId(1L))
+                .thenReturn(List.of(2L))
+                .thenReturn(List.of(2L, 3L));
+        blockedUserIdCache.get(1L);
+
+        // when
+        blockedUserIdCache.evict(1L);
+        BlockedUserIds reloaded = blockedUserIdCache.get(1L);
+
+        // then
+        assertThat(reloaded.contains(3L)).isTrue();
+        verify(userBlockRepository, times(2)).findBlockedUserIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴 무효화는 본인 목록과 탈퇴자를 차단한 사용자들의 목록만 제거한다")
+    void evictAllInvolving_removesOwnerAndBlockers() {
+        // given
+        when(userBlockRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of(9L));
+        when(userBlockRepository.findBlockedUserIdsByUserId(2L)).thenReturn(List.of(3L));
+        when(userBlockRepository.findBlockedUserIdsByUserId(9L)).thenReturn(List.of());
+        blockedUserIdCache.get(1L);
+        blockedUserIdCache.get(2L);
+        blockedUserIdCache.get(9L);
+
+        // when
+        blockedUserIdCache.evictAllInvolving(9L);
+
+        // then
+        assertThat(blockedUserIdCache.size()).isEqualTo(1);
+        blockedUserIdCache.get(2L);
+        verify(userBlockRepository, times(1)).findBlockedUserIdsByUserId(2L);
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * 캐시마다 지표 레지스트리를 새로 만들어, 같은 캐시 이름의 지표가 마지막에 만든 캐시를 가리키게 한다.
+     */
+    private BlockedUserIdCache createCache(boolean enabled, int maxEntries, long ttlMillis) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new BlockedUserIdCache(userBlockRepository,
+                new BlockedUserIdCacheProperties(enabled, maxEntries, ttlMillis), meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", BlockedUserIdCache.CACHE_NAME, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("cache.evictions")
+                .tag("cache", BlockedUserIdCache.CACHE_NAME)
+                .functionCounter()
+                .count();
+    }
+}
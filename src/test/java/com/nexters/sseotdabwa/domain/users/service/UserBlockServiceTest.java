@@ -14,6 +14,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.nexters.sseotdabwa.api.users.exception.UserErrorCode;
 import com.nexters.sseotdabwa.common.exception.GlobalException;
+import com.nexters.sseotdabwa.common.security.UserPrincipalCache;
+import com.nexters.sseotdabwa.domain.users.block.BlockedUserIdCache;
 import com.nexters.sseotdabwa.domain.users.entity.User;
 import com.nexters.sseotdabwa.domain.users.entity.UserBlock;
 import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
@@ -32,6 +34,12 @@ class UserBlockServiceTest {
     @Mock
     private UserBlockRepository userBlockRepository;
 
+    @Mock
+    private BlockedUserIdCache blockedUserIdCache;
+
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @InjectMocks
     private UserBlockService userBlockService;
 
@@ -61,6 +69,9 @@ class UserBlockServiceTest {
         userBlockService.blockUser(user, target);
 
         verify(userBlockRepository).save(any(UserBlock.class));
+        verify(blockedUserIdCache).evict(1L);
+        verify(userPrincipalCache).evict(1L);
+        verify(userPrincipalCache).evict(2L);
     }
 
     @Test
@@ -97,6 +108,7 @@ class UserBlockServiceTest {
                         UserErrorCode.ALREADY_BLOCKED_USER);
 
         verify(userBlockRepository, never()).save(any());
+        verifyNoInteractions(blockedUserIdCache);
     }
 
     @Test
@@ -118,6 +130,7 @@ class UserBlockServiceTest {
         userBlockService.unblock(user, 2L);
 
         verify(userBlockRepository).delete(block);
+        verify(blockedUserIdCache).evict(1L);
     }
 
     @Test
@@ -154,4 +167,15 @@ class UserBlockServiceTest {
 
         verify(userBlockRepository, never()).delete(any());
     }
+
+    @Test
+    @DisplayName("탈퇴 시 차단 관계 삭제 후 해당 사용자가 포함된 캐시를 모두 무효화")
+    void deleteAllBlocksOfUser_evictsAllInvolving() {
+
+        userBlockService.deleteAllBlocksOfUser(1L);
+
+        verify(userBlockRepository).deleteAllByUserId(1L);
+        verify(userBlockRepository).deleteAllByBlockedUserId(1L);
+        verify(blockedUserIdCache).evictAllInvolving(1L);
+    }
 }
@@ -0,0 +1,137 @@
+package com.nexters.sseotdabwa.domain.votes.dedup;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nexters.sseotdabwa.common.config.GuestVoteDedupProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuestVoteDeduplicatorTest {
+
+    @Test
+    @DisplayName("같은 피드에 같은 fingerprint 로 다시 투표하면 false")
+    void tryAcquire_sameFingerprint_false() {
+        // given
+        GuestVoteDeduplicator deduplicator = new GuestVoteDeduplicator(properties(true, 32));
+
+        // when
+        boolean first = deduplicator.tryAcquire(1L, "device:a");
+        boolean second = deduplicator.tryAcquire(1L, "device:a");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("fingerprint 가 다르거나 피드가 다르면 true")
+    void tryAcquire_differentFingerprintOrFeed_true() {
+        // given
+        GuestVoteDeduplicator deduplicator = new GuestVoteDeduplicator(properties(true, 32));
+        deduplicator.tryAcquire(1L, "device:a");
+
+        // when & then
+        assertThat(deduplicator.tryAcquire(1L, "device:b")).isTrue();
+        assertThat(deduplicator.tryAcquire(2L, "device:a")).isTrue();
+    }
+
+    @Test
+    @DisplayName("비활성화되었거나 fingerprint 가 없으면 항상 true")
+    void tryAcquire_disabledOrBlank_true() {
+        // given
+        GuestVoteDeduplicator disabled = new GuestVoteDeduplicator(properties(false, 32));
+        GuestVoteDeduplicator enabled = new GuestVoteDeduplicator(properties(true, 32));
+
+        // when & then
+        assertThat(disabled.tryAcquire(1L, "device:a")).isTrue();
+        assertThat(disabled.tryAcquire(1L, "device:a")).isTrue();
+        assertThat(enabled.tryAcquire(1L, null)).isTrue();
+        assertThat(enabled.tryAcquire(1L, " ")).isTrue();
+        assertThat(enabled.filterCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지된다")
+    void tryAcquire_falsePositiveRate_withinBound() {
+        // given
+        GuestVoteDeduplicator deduplicator = new GuestVoteDeduplicator(properties(true, 32));
+        for (int i = 0; i < 10_000; i++) {
+            deduplicator.tryAcquire(1L, "device:" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (!deduplicator.tryAcquire(1L, "device:" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then (설정 1%, 이후 삽입으로 포화도가 올라가므로 여유를 둔다)
+        assertThat(falsePositives).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 오래된 필터부터 제거된다")
+    void tryAcquire_overMemoryCap_evicts() {
+        // given (피드당 약 12KB → 1MB 한도면 약 85개)
+        GuestVoteDeduplicator deduplicator = new GuestVoteDeduplicator(properties(true, 1));
+
+        // when
+        for (long feedId = 1; feedId <= 200; feedId++) {
+            deduplicator.tryAcquire(feedId, "device:a");
+        }
+
+        // then
+        long bytesPerFilter = GuestVoteBloomFilter.sizeInBytes(GuestVoteBloomFilter.optimalBitSize(10_000, 0.01));
+        assertThat((long) deduplicator.filterCount() * bytesPerFilter).isLessThanOrEqualTo(1024 * 1024);
+        assertThat(deduplicator.tryAcquire(200L, "device:a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("투표 트랜잭션이 롤백되면 fingerprint 를 기록하지 않고, 커밋 전까지 같은 fingerprint 는 거절한다")
+    void tryAcquire_recordsOnlyAfterCommit() {
+        // given
+        GuestVoteDeduplicator deduplicator = new GuestVoteDeduplicator(properties(true, 32));
+
+        // when
+        boolean rolledBackFirst = inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> deduplicator.tryAcquire(1L, "ip:203.0.113.7"),
+                () -> assertThat(deduplicator.tryAcquire(1L, "ip:203.0.113.7")).isFalse());
+        boolean committed = inTransaction(TransactionSynchronization.STATUS_COMMITTED,
+                () -> deduplicator.tryAcquire(1L, "ip:203.0.113.7"),
+                () -> {});
+
+        // then
+        assertThat(rolledBackFirst).isTrue();
+        assertThat(committed).isTrue();
+        assertThat(deduplicator.tryAcquire(1L, "ip:203.0.113.7")).isFalse();
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * 트랜잭션 동기화 안에서 action 을 실행한 뒤, 완료 전 검증(beforeCompletion)을 하고 status 로 완료 콜백을 호출한다.
+     */
+    private boolean inTransaction(int status, Supplier<Boolean> action, Runnable beforeCompletion) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            boolean result = action.get();
+            beforeCompletion.run();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+            return result;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private GuestVoteDedupProperties properties(boolean enabled, int maxMemoryMb) {
+        return new GuestVoteDedupProperties(enabled, 10_000, 0.01, maxMemoryMb);
+    }
+}
@@ -7,8 +7,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.nexters.sseotdabwa.common.exception.GlobalException;
 import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
 import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
 import com.nexters.sseotdabwa.domain.feeds.repository.FeedRepository;
@@ -18,10 +20,14 @@ import com.nexters.sseotdabwa.domain.users.repository.UserRepository;
 import com.nexters.sseotdabwa.domain.votes.entity.VoteLog;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
 import com.nexters.sseotdabwa.domain.votes.enums.VoteType;
+import com.nexters.sseotdabwa.domain.votes.exception.VoteErrorCode;
 import com.nexters.sseotdabwa.domain.votes.repository.VoteLogRepository;
 import com.nexters.sseotdabwa.domain.votes.service.command.VoteCreateCommand;
 
+import jakarta.persistence.EntityManager;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -39,6 +45,9 @@ class VoteLogServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("유저 ID로 투표 로그 삭제 성공")
     void deleteByUserId_success() {
@@ -121,37 +130,69 @@ class VoteLogServiceTest {
         assertThat(voteLog.getVoteType()).isEqualTo(VoteType.SYSTEM);
     }
 
-    // ===== existsByUserAndFeed =====
+    // ===== createUserVoteLog =====
 
     @Test
-    @DisplayName("유저가 해당 피드에 투표했으면 true 반환")
-    void existsByUserAndFeed_true() {
+    @DisplayName("회원 투표 로그 생성 성공 - insert-first")
+    void createUserVoteLog_success() {
         // given
         User feedOwner = createUser();
         User voter = createUser();
         Feed feed = createFeed(feedOwner);
-        voteLogRepository.save(VoteLog.builder().user(voter).feed(feed).choice(VoteChoice.YES).voteType(VoteType.USER).build());
+        VoteCreateCommand command = new VoteCreateCommand(voter, feed, VoteChoice.YES, VoteType.USER);
 
         // when
-        boolean result = voteLogService.existsByUserAndFeed(voter.getId(), feed.getId());
+        VoteLog voteLog = voteLogService.createUserVoteLog(command);
 
         // then
-        assertThat(result).isTrue();
+        assertThat(voteLog.getId()).isNotNull();
+        assertThat(voteLogRepository.existsByUserIdAndFeedId(voter.getId(), feed.getId())).isTrue();
     }
 
     @Test
-    @DisplayName("유저가 해당 피드에 투표하지 않았으면 false 반환")
-    void existsByUserAndFeed_false() {
+    @DisplayName("같은 회원이 같은 피드에 다시 투표하면 유니크 제약 위반을 VOTE_001 로 변환")
+    void createUserVoteLog_duplicate_throwsVote001() {
         // given
         User feedOwner = createUser();
         User voter = createUser();
         Feed feed = createFeed(feedOwner);
+        voteLogService.createUserVoteLog(new VoteCreateCommand(voter, feed, VoteChoice.YES, VoteType.USER));
+        VoteCreateCommand duplicate = new VoteCreateCommand(voter, feed, VoteChoice.NO, VoteType.USER);
+
+        // when & then
+        assertThatThrownBy(() -> voteLogService.createUserVoteLog(duplicate))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(VoteErrorCode.VOTE_ALREADY_VOTED);
+    }
+
+    @Test
+    @DisplayName("유니크 제약이 아닌 무결성 위반(존재하지 않는 피드 FK)은 VOTE_001 로 바꾸지 않고 그대로 전파")
+    void createUserVoteLog_otherIntegrityViolation_rethrown() {
+        // given
+        User voter = createUser();
+        Feed missingFeed = entityManager.getReference(Feed.class, Long.MAX_VALUE);
+        VoteCreateCommand command = new VoteCreateCommand(voter, missingFeed, VoteChoice.YES, VoteType.USER);
+
+        // when & then
+        assertThatThrownBy(() -> voteLogService.createUserVoteLog(command))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("게스트 투표 로그는 같은 피드에 여러 건 저장 가능 - user_id NULL 은 유니크 제약 대상 아님")
+    void createVoteLog_guest_multiple_allowed() {
+        // given
+        User feedOwner = createUser();
+        Feed feed = createFeed(feedOwner);
 
         // when
-        boolean result = voteLogService.existsByUserAndFeed(voter.getId(), feed.getId());
+        voteLogService.createVoteLog(new VoteCreateCommand(null, feed, VoteChoice.YES, VoteType.SYSTEM));
+        voteLogService.createVoteLog(new VoteCreateCommand(null, feed, VoteChoice.NO, VoteType.SYSTEM));
+        voteLogRepository.flush();
 
         // then
-        assertThat(result).isFalse();
+        assertThat(voteLogRepository.count()).isEqualTo(2);
     }
 
     // ===== findByUserIdAndFeedIds =====
@@ -0,0 +1,194 @@
+package com.nexters.sseotdabwa.domain.votes.writer;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexters.sseotdabwa.common.config.VoteLogWriteBehindProperties;
+import com.nexters.sseotdabwa.domain.feeds.entity.Feed;
+import com.nexters.sseotdabwa.domain.feeds.enums.FeedCategory;
+import com.nexters.sseotdabwa.domain.users.entity.User;
+import com.nexters.sseotdabwa.domain.users.enums.SocialAccount;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteChoice;
+import com.nexters.sseotdabwa.domain.votes.enums.VoteType;
+import com.nexters.sseotdabwa.domain.votes.service.command.VoteCreateCommand;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteLogWriteBehindQueueTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VoteLogWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // flush 스레드가 끼어들지 않도록 start() 하지 않는 상태를 기본으로 사용
+        queue = new VoteLogWriteBehindQueue(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                new VoteLogWriteBehindProperties(true, 100, 10, 20, 50),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("start 전에는 큐를 거치지 않고 호출 스레드에서 바로 INSERT 한다")
+    void enqueueAfterCommit_notRunning_writesSynchronously() {
+        // given
+        Feed feed = createFeed(10L);
+
+        // when
+        queue.enqueueAfterCommit(new VoteCreateCommand(null, feed, VoteChoice.YES, VoteType.SYSTEM));
+
+        // then
+        verify(jdbcTemplate).update(startsWith("INSERT INTO vote_logs"), any(Object[].class));
+        assertThat(queue.queueDepth()).isZero();
+        assertThat(meterRegistry.counter("vote_log.write_behind.overflow").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 row 는 flushAll 시 한 번의 multi-row INSERT 로 저장된다")
+    void flushAll_writesMultiRowInsert() {
+        // given
+        ReflectionTestUtils.setField(queue, "running", true);
+
+        Feed feed = createFeed(10L);
+        for (int i = 0; i < 3; i++) {
+            queue.enqueueAfterCommit(new VoteCreateCommand(null, feed, VoteChoice.NO, VoteType.SYSTEM));
+        }
+        assertThat(queue.queueDepth()).isEqualTo(3);
+
+        // when
+        queue.flushAll();
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), args.capture());
+        assertThat(sql.getValue()).contains("(?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?)");
+        assertThat(args.getValue()).hasSize(18);
+        assertThat(queue.queueDepth()).isZero();
+        assertThat(meterRegistry.counter("vote_log.write_behind.flushed").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 가 실패하면 row 단위로 재시도하고 실패한 row 만 버린다")
+    void flushAll_batchFails_fallsBackToSingleRows() {
+        // given
+        ReflectionTestUtils.setField(queue, "running", true);
+        Feed feed = createFeed(10L);
+        queue.enqueueAfterCommit(new VoteCreateCommand(null, feed, VoteChoice.YES, VoteType.SYSTEM));
+        queue.enqueueAfterCommit(new VoteCreateCommand(null, feed, VoteChoice.NO, VoteType.SYSTEM));
+
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("batch"))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("row"));
+
+        // when
+        queue.flushAll();
+
+        // then
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class));
+        assertThat(meterRegistry.counter("vote_log.write_behind.flushed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("vote_log.write_behind.failed").count()).isEqualTo(1);
+        assertThat(queue.queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀이 auto-commit=false 여도 flush 스레드/동기 INSERT 한 row 는 커밋되어 남는다")
+    void write_autoCommitDisabledPool_commitsRows() throws Exception {
+        // given
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:write_behind_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setAutoCommit(false);
+        config.setMaximumPoolSize(2);
+
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            JdbcTemplate realJdbcTemplate = new JdbcTemplate(dataSource);
+            TransactionTemplate requiresNew = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            requiresNew.executeWithoutResult(status -> realJdbcTemplate.execute("""
+                    CREATE TABLE vote_logs (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        user_id BIGINT,
+                        feed_id BIGINT NOT NULL,
+                        choice VARCHAR(10) NOT NULL,
+                        vote_type VARCHAR(10) NOT NULL,
+                        created_at TIMESTAMP NOT NULL,
+                        updated_at TIMESTAMP NOT NULL
+                    )
+                    """));
+
+            VoteLogWriteBehindQueue realQueue = new VoteLogWriteBehindQueue(
+                    realJdbcTemplate,
+                    requiresNew,
+                    new VoteLogWriteBehindProperties(true, 100, 10, 20, 50),
+                    meterRegistry
+            );
+            Feed feed = createFeed(10L);
+
+            // when
+            realQueue.enqueueAfterCommit(new VoteCreateCommand(null, feed, VoteChoice.YES, VoteType.SYSTEM));
+            realQueue.start();
+            realQueue.enqueueAfterCommit(new VoteCreateCommand(null, feed, VoteChoice.NO, VoteType.SYSTEM));
+            realQueue.enqueueAfterCommit(new VoteCreateCommand(null, feed, VoteChoice.NO, VoteType.SYSTEM));
+            realQueue.stop();
+
+            // then (커넥션 반납 시 롤백되었다면 새 커넥션에서는 보이지 않는다)
+            Long count = requiresNew.execute(status ->
+                    realJdbcTemplate.queryForObject("SELECT COUNT(*) FROM vote_logs", Long.class));
+            assertThat(count).isEqualTo(3);
+        }
+    }
+
+    // ===== Helper Methods =====
+
+    private User createUser(Long id) {
+        User user = User.builder()
+                .socialId(UUID.randomUUID().toString())
+                .nickname("테스트_" + UUID.randomUUID().toString().substring(0, 8))
+                .socialAccount(SocialAccount.KAKAO)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private Feed createFeed(Long id) {
+        Feed feed = Feed.builder()
+                .user(createUser(99L))
+                .content("테스트 피드")
+                .price(10000L)
+                .category(FeedCategory.FASHION)
+                .build();
+        ReflectionTestUtils.setField(feed, "id", id);
+        return feed;
+    }
+}